@@ -0,0 +1,120 @@
+/**
+ * k6 쓰기 fan-out 벤치마크 - jbnu-pms
+ *
+ * 담당자가 많은 태스크 생성(Task 1건 + TaskAssignee N건 + 알림 N건)과
+ * 일괄 생성(/tasks/bulk) 응답 시간을 측정한다.
+ * IDENTITY → 시퀀스 ID + JDBC batch 전환 전/후 커밋에서 같은 설정으로 각각 실행해 p50/p95 를 비교한다.
+ *
+ * 사전 준비:
+ *   1. 아래 CONFIG에 실제 값 입력 (테스트 계정, projectId, 프로젝트 멤버 userId 목록)
+ *   2. 실행: k6 run k6/write-fanout-test.js
+ *   3. 결과: k6/write-fanout-summary.json
+ *
+ * 같은 시나리오의 서비스 호출 벤치마크: src/test/java/jbnu/jbnupms/benchmark/WriteFanoutBenchmark.java
+ *   실행: gradle benchmark  (기본 H2 인메모리, -Dspring.datasource.* 로 PostgreSQL 지정 가능)
+ *   p50/p95 와 함께 호출당 prepared statement 수를 출력하므로 JDBC batch 적용 여부를 바로 확인할 수 있다.
+ *
+ * 참고 측정값 (위 벤치마크, H2 인메모리, 06abbd0^ → 06abbd0, 두 커밋 모두 배정 알림 리스너를 비활성화해 쓰기 경로만 비교):
+ *   - 단건 생성 (담당자 10명) : p50 43.7ms / p95 68.2ms, 46 statements  →  p50 20.4ms / p95 41.3ms, 8 statements
+ *   - 일괄 생성 (100건 × 3명) : p50 68.8ms / p95 101.0ms, 106 statements →  p50 96.1ms / p95 132.0ms, 16 statements
+ *   일괄 생성은 문장 수가 1/6 로 줄었지만 H2 인메모리에는 네트워크 왕복이 없어 지연이 줄지 않고,
+ *   담당자 300행을 JdbcTemplate 대신 엔티티로 저장하는 비용만큼 늘어난다. PostgreSQL 수치는 이 스크립트로 측정한다.
+ */
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+
+// ─────────────────────────────────────────────
+// 1. 설정: 실제 값으로 교체 필요
+// ─────────────────────────────────────────────
+const CONFIG = {
+  BASE_URL: 'http://your-server-ip:port',  // 실제 서버 주소로 교체
+  TEST_USER: {
+    email: 'your-email@example.com',       // 테스트 계정 이메일로 교체
+    password: 'your-password',             // 테스트 계정 비밀번호로 교체
+  },
+  PROJECT_ID: 1,
+  // 프로젝트 멤버 userId 목록 (fan-out 크기 = 목록 길이)
+  MEMBER_USER_IDS: [1, 2, 3, 4, 5, 6, 7, 8, 9, 10],
+  BULK_SIZE: 100,   // /tasks/bulk 한 번에 생성할 태스크 수
+};
+
+export const options = {
+  scenarios: {
+    fanout_write: {
+      executor: 'constant-vus',
+      vus: 5,
+      duration: '1m',
+      exec: 'fanoutScenario',
+    },
+  },
+};
+
+const singleCreateDuration = new Trend('single_create_fanout_duration', true);
+const bulkCreateDuration   = new Trend('bulk_create_duration', true);
+
+// setup 에서 한 번만 로그인
+export function setup() {
+  const res = http.post(
+    `${CONFIG.BASE_URL}/auth/login`,
+    JSON.stringify(CONFIG.TEST_USER),
+    { headers: { 'Content-Type': 'application/json' } }
+  );
+  check(res, { 'login: status 200': (r) => r.status === 200 });
+  return { token: JSON.parse(res.body).data.accessToken };
+}
+
+export function fanoutScenario(data) {
+  const opts = {
+    headers: {
+      'Content-Type': 'application/json',
+      'Authorization': `Bearer ${data.token}`,
+    },
+  };
+
+  // 단건 생성: 모든 멤버를 담당자로 지정
+  const singleRes = http.post(
+    `${CONFIG.BASE_URL}/tasks`,
+    JSON.stringify({
+      projectId: CONFIG.PROJECT_ID,
+      title: `fan-out 벤치마크 ${Date.now()}`,
+      assigneeIds: CONFIG.MEMBER_USER_IDS,
+    }),
+    opts
+  );
+  check(singleRes, { 'single create: 200': (r) => r.status === 200 });
+  singleCreateDuration.add(singleRes.timings.duration);
+
+  // 일괄 생성: BULK_SIZE 개 태스크, 각 태스크 담당자 = 모든 멤버
+  const tasks = [];
+  for (let i = 0; i < CONFIG.BULK_SIZE; i++) {
+    tasks.push({ title: `bulk 벤치마크 ${Date.now()}-${i}`, assigneeIds: CONFIG.MEMBER_USER_IDS });
+  }
+  const bulkRes = http.post(
+    `${CONFIG.BASE_URL}/tasks/bulk`,
+    JSON.stringify({ projectId: CONFIG.PROJECT_ID, tasks }),
+    opts
+  );
+  check(bulkRes, { 'bulk create: 200': (r) => r.status === 200 });
+  bulkCreateDuration.add(bulkRes.timings.duration);
+
+  sleep(1);
+}
+
+export function handleSummary(data) {
+  const m = data.metrics;
+  const fmt = (trend) => trend
+    ? `p50 ${trend.values['med'].toFixed(0)}ms / p95 ${trend.values['p(95)'].toFixed(0)}ms`
+    : '-';
+
+  console.log('\n===== 쓰기 fan-out 벤치마크 =====');
+  console.log(`담당자 수         : ${CONFIG.MEMBER_USER_IDS.length}`);
+  console.log(`단건 생성         : ${fmt(m.single_create_fanout_duration)}`);
+  console.log(`일괄 생성(${CONFIG.BULK_SIZE}건)  : ${fmt(m.bulk_create_duration)}`);
+  console.log('=================================\n');
+
+  return {
+    'k6/write-fanout-summary.json': JSON.stringify(data, null, 2),
+  };
+}
@@ -0,0 +1,193 @@
+package jbnu.jbnupms.common.access;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.dto.ProjectRoleView;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.entity.ProjectRole;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.space.dto.SpaceRoleView;
+import jbnu.jbnupms.domain.space.entity.SpaceRole;
+import jbnu.jbnupms.domain.space.repository.SpaceMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 프로젝트/스페이스 권한 판별 공통 컴포넌트
+ * - 유저의 프로젝트 역할 전체, 스페이스 역할 전체를 각각 쿼리 1회로 읽어 MembershipSnapshot 으로 만든다
+ *   (필요한 쪽만 지연 로딩하므로 프로젝트 멤버 확인만 하는 요청은 쿼리 1회)
+ * - 같은 HTTP 요청 안에서는 요청 속성에 보관한 스냅샷을 재사용하고,
+ *   요청 간에는 짧은 TTL(access.membership.cache.ttl-seconds, 0 이면 비활성)의 로컬 캐시를 쓴다
+ * - ProjectMember/SpaceMember 변경 시(MembershipEntityListener) 즉시 + 트랜잭션 종료 후 한 번 더 무효화한다.
+ *   다른 인스턴스의 캐시는 TTL 만큼 늦게 반영될 수 있다
+ * - 에러 코드/메시지는 도메인마다 다르므로 판별만 하고, 예외는 각 서비스가 던진다
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessResolver {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = AccessResolver.class.getName() + ".";
+    private static final String PROJECT_SCOPE = "project.";
+    private static final String SPACE_SCOPE = "space.";
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final SpaceMemberRepository spaceMemberRepository;
+    private final ProjectRepository projectRepository;
+
+    private final Map<Long, MembershipSnapshot<ProjectRole>> projectCache = new ConcurrentHashMap<>();
+    private final Map<Long, MembershipSnapshot<SpaceRole>> spaceCache = new ConcurrentHashMap<>();
+    // 무효화가 일어날 때마다 증가. 로딩 도중 무효화되면 로딩 결과를 캐시에 넣지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${access.membership.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${access.membership.cache.max-size:10000}")
+    private int maxSize;
+
+    public Optional<ProjectRole> getProjectRole(Long userId, Long projectId) {
+        return Optional.ofNullable(projectRoles(userId).get(projectId));
+    }
+
+    public boolean isProjectMember(Long userId, Long projectId) {
+        return projectRoles(userId).containsKey(projectId);
+    }
+
+    // 프로젝트 멤버 또는 (public 프로젝트 + 스페이스 멤버)
+    public boolean canReadProject(Long userId, Project project) {
+        if (isProjectMember(userId, project.getId())) {
+            return true;
+        }
+        return Boolean.TRUE.equals(project.getIsPublic()) && isSpaceMember(userId, project.getSpace().getId());
+    }
+
+    // 멤버가 아니면 public 여부 확인을 위해서만 프로젝트를 조회
+    public boolean canReadProject(Long userId, Long projectId) {
+        if (isProjectMember(userId, projectId)) {
+            return true;
+        }
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "프로젝트를 찾을 수 없습니다."));
+        return canReadProject(userId, project);
+    }
+
+    public Optional<SpaceRole> getSpaceRole(Long userId, Long spaceId) {
+        return Optional.ofNullable(spaceRoles(userId).get(spaceId));
+    }
+
+    public boolean isSpaceMember(Long userId, Long spaceId) {
+        return spaceRoles(userId).containsKey(spaceId);
+    }
+
+    public Set<Long> getProjectIds(Long userId) {
+        return projectRoles(userId).keySet();
+    }
+
+    public Set<Long> getSpaceIds(Long userId) {
+        return spaceRoles(userId).keySet();
+    }
+
+    public void evict(Long userId) {
+        generation.incrementAndGet();
+        projectCache.remove(userId);
+        spaceCache.remove(userId);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + PROJECT_SCOPE + userId, RequestAttributes.SCOPE_REQUEST);
+            attributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + SPACE_SCOPE + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    // 변경 직후 같은 트랜잭션/요청에서의 재확인을 위해 즉시 무효화
+    @EventListener
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    // 커밋 전 상태를 다른 요청이 읽어 캐시에 넣었을 수 있으므로 트랜잭션 종료(커밋/롤백) 후 한 번 더 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void afterMembershipChanged(MembershipChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    private Map<Long, ProjectRole> projectRoles(Long userId) {
+        return resolve(userId, PROJECT_SCOPE, projectCache, id -> {
+            Map<Long, ProjectRole> roles = new HashMap<>();
+            for (ProjectRoleView view : projectMemberRepository.findRolesByUserId(id)) {
+                roles.put(view.getProjectId(), view.getRole());
+            }
+            return roles;
+        });
+    }
+
+    private Map<Long, SpaceRole> spaceRoles(Long userId) {
+        return resolve(userId, SPACE_SCOPE, spaceCache, id -> {
+            Map<Long, SpaceRole> roles = new HashMap<>();
+            for (SpaceRoleView view : spaceMemberRepository.findRolesByUserId(id)) {
+                roles.put(view.getSpaceId(), view.getRole());
+            }
+            return roles;
+        });
+    }
+
+    // 요청 속성 → 로컬 캐시 → DB 순으로 조회
+    @SuppressWarnings("unchecked")
+    private <R> Map<Long, R> resolve(Long userId, String scope, Map<Long, MembershipSnapshot<R>> cache,
+                                     Function<Long, Map<Long, R>> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + scope + userId;
+        if (attributes != null) {
+            Object memo = attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (memo != null) {
+                return ((MembershipSnapshot<R>) memo).getRoles();
+            }
+        }
+
+        MembershipSnapshot<R> snapshot = cachedOrLoad(userId, cache, loader);
+        if (attributes != null) {
+            attributes.setAttribute(attributeName, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot.getRoles();
+    }
+
+    private <R> MembershipSnapshot<R> cachedOrLoad(Long userId, Map<Long, MembershipSnapshot<R>> cache,
+                                                   Function<Long, Map<Long, R>> loader) {
+        long now = System.nanoTime();
+        if (ttlSeconds > 0) {
+            MembershipSnapshot<R> cached = cache.get(userId);
+            if (cached != null && !cached.isExpired(now)) {
+                return cached;
+            }
+        }
+
+        long loadedGeneration = generation.get();
+        MembershipSnapshot<R> loaded = new MembershipSnapshot<>(loader.apply(userId),
+                now + Duration.ofSeconds(ttlSeconds).toNanos());
+        if (ttlSeconds > 0 && generation.get() == loadedGeneration) {
+            if (cache.size() >= maxSize) {
+                cache.values().removeIf(cachedSnapshot -> cachedSnapshot.isExpired(now));
+                if (cache.size() >= maxSize) {
+                    cache.clear();
+                }
+            }
+            cache.put(userId, loaded);
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,12 @@
+package jbnu.jbnupms.common.access;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 프로젝트/스페이스 멤버 추가·삭제·역할 변경 시 발행 → AccessResolver 캐시 무효화
+@Getter
+@RequiredArgsConstructor
+public class MembershipChangedEvent {
+
+    private final Long userId;
+}
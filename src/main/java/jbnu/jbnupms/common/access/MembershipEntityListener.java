@@ -0,0 +1,50 @@
+package jbnu.jbnupms.common.access;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jbnu.jbnupms.domain.project.entity.ProjectMember;
+import jbnu.jbnupms.domain.space.entity.SpaceMember;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * ProjectMember / SpaceMember 변경 감지 → MembershipChangedEvent 발행
+ * 서비스/Repository 어느 경로로 변경되든 AccessResolver 캐시가 무효화되도록 엔티티 단에서 처리한다.
+ * UPDATE 는 역할이 바뀐 경우만 발행 → 조회마다 일어나는 최근 접근일시 갱신이 캐시를 비우지 않도록 한다.
+ * (Hibernate 가 SpringBeanContainer 로 생성하므로 생성자 주입 가능)
+ */
+public class MembershipEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MembershipEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    public void onMembershipUpdated(Object entity) {
+        boolean roleChanged = false;
+        if (entity instanceof ProjectMember member) {
+            roleChanged = member.consumeRoleChanged();
+        } else if (entity instanceof SpaceMember member) {
+            roleChanged = member.consumeRoleChanged();
+        }
+        if (roleChanged) {
+            onMembershipChanged(entity);
+        }
+    }
+
+    @PostPersist
+    @PostRemove
+    public void onMembershipChanged(Object entity) {
+        Long userId = null;
+        if (entity instanceof ProjectMember member) {
+            userId = member.getUser().getId();
+        } else if (entity instanceof SpaceMember member) {
+            userId = member.getUser().getId();
+        }
+        if (userId != null) {
+            eventPublisher.publishEvent(new MembershipChangedEvent(userId));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package jbnu.jbnupms.common.access;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 한 유저의 멤버십 (대상 ID → 역할). 프로젝트 역할과 스페이스 역할을 각각 따로 보관한다.
+ * 불변 객체이며 만료 시각(expiresAt, System.nanoTime 기준)을 함께 들고 있다.
+ */
+@Getter
+public class MembershipSnapshot<R> {
+
+    private final Map<Long, R> roles;
+    private final long expiresAt;
+
+    public MembershipSnapshot(Map<Long, R> roles, long expiresAt) {
+        this.roles = Map.copyOf(roles);
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return now - expiresAt >= 0;
+    }
+}
@@ -0,0 +1,50 @@
+package jbnu.jbnupms.common.checkpoint;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 단위 스윕의 진행 위치
+ * - 청크를 처리한 트랜잭션 안에서 마지막 처리 ID 를 함께 커밋 → 중간에 죽어도 다음 실행이 그 다음 ID 부터 이어감
+ * - 분할 구간 상한을 고정하는 행은 lastId 에 상한 값을 담고 바로 완료 처리
+ */
+@Entity
+@Table(name = "sweep_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SweepCheckpoint {
+
+    @Id
+    @Column(length = 200)
+    private String name;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public SweepCheckpoint(String name, long lastId, boolean completed) {
+        this.name      = name;
+        this.lastId    = lastId;
+        this.completed = completed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(long lastId) {
+        this.lastId    = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
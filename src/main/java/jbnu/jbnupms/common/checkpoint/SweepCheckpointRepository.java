@@ -0,0 +1,18 @@
+package jbnu.jbnupms.common.checkpoint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SweepCheckpointRepository extends JpaRepository<SweepCheckpoint, String> {
+
+    // 이어서 실행할(시작했지만 끝나지 않은) 스윕이 있는지
+    boolean existsByNameStartingWithAndCompletedFalse(String prefix);
+
+    @Modifying
+    @Query("DELETE FROM SweepCheckpoint c WHERE c.updatedAt < :before")
+    int deleteByUpdatedAtBefore(@Param("before") LocalDateTime before);
+}
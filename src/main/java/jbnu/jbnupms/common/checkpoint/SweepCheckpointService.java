@@ -0,0 +1,91 @@
+package jbnu.jbnupms.common.checkpoint;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
+
+/**
+ * 재시작 가능한 청크 스윕용 체크포인트
+ * - begin   : 스윕 시작 시 진행 위치를 읽거나 0 부터 만든다 (끝난 스윕이면 completed)
+ * - advance : 청크 트랜잭션 안에서 호출 → 청크 결과와 진행 위치가 함께 커밋되거나 함께 롤백
+ * - complete: 마지막 청크까지 처리하면 완료 표시 → 같은 스윕을 다시 실행해도 바로 끝남
+ */
+@Slf4j
+@Service
+public class SweepCheckpointService {
+
+    private final SweepCheckpointRepository sweepCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.checkpoint.retention-days:7}")
+    private int retentionDays;
+
+    // transactionTemplate 빈은 REQUIRES_NEW → 상한 고정 행은 다른 Pod 와 경쟁해도 호출한 쪽 트랜잭션에 영향 없음
+    public SweepCheckpointService(SweepCheckpointRepository sweepCheckpointRepository,
+                                  TransactionTemplate transactionTemplate) {
+        this.sweepCheckpointRepository = sweepCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 한 실행(run)의 분할 상한을 처음 계산한 값으로 고정
+     * - 재시작 사이에 새 스페이스가 생겨도 구간 경계가 바뀌지 않아 이미 처리한 구간과 겹치거나 빠지지 않음
+     */
+    public long pinUpperBound(String runName, LongSupplier upperBound) {
+        String name = runName + ":upper-bound";
+        try {
+            Long pinned = transactionTemplate.execute(status -> sweepCheckpointRepository.findById(name)
+                    .orElseGet(() -> sweepCheckpointRepository.saveAndFlush(
+                            new SweepCheckpoint(name, upperBound.getAsLong(), true)))
+                    .getLastId());
+            return pinned != null ? pinned : upperBound.getAsLong();
+        } catch (DataAccessException e) {
+            // 다른 Pod 가 먼저 고정함
+            return transactionTemplate.execute(status -> sweepCheckpointRepository.findById(name)
+                    .map(SweepCheckpoint::getLastId)
+                    .orElseGet(upperBound::getAsLong));
+        }
+    }
+
+    // 같은 구간은 잠금을 잡은 Pod 하나만 실행하므로 생성 경쟁이 없다
+    @Transactional
+    public SweepCheckpoint begin(String name) {
+        return sweepCheckpointRepository.findById(name)
+                .orElseGet(() -> sweepCheckpointRepository.save(new SweepCheckpoint(name, 0L, false)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void advance(String name, long lastId) {
+        sweepCheckpointRepository.findById(name)
+                .orElseGet(() -> sweepCheckpointRepository.save(new SweepCheckpoint(name, 0L, false)))
+                .advance(lastId);
+    }
+
+    @Transactional
+    public void complete(String name) {
+        sweepCheckpointRepository.findById(name).ifPresent(SweepCheckpoint::complete);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasIncomplete(String runName) {
+        return sweepCheckpointRepository.existsByNameStartingWithAndCompletedFalse(runName + ":");
+    }
+
+    // 오래된 체크포인트 정리
+    @Scheduled(cron = "${scheduler.checkpoint.purge-cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = sweepCheckpointRepository.deleteByUpdatedAtBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("[Scheduler] 지난 스윕 체크포인트 {}건 삭제", deleted);
+        }
+    }
+}
@@ -1,9 +1,99 @@
 package jbnu.jbnupms.common.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * @Async 실행기 구성
+ * - 이벤트 분류별로 풀을 나눠 한쪽이 몰려도 다른 쪽 알림이 밀리지 않게 한다
+ *   notification : 아웃박스 릴레이 워커 (댓글/배정/초대/마감 알림)
+ *   default      : 이름을 지정하지 않은 @Async
+ * - 대기열은 유한하며, 가득 차면 제출한 스레드가 직접 실행해 발행 속도를 늦춘다 (작업은 버리지 않음)
+ * - async.virtual-threads=true 이고 JDK 21 이상이면 가상 스레드 + 동시 실행 상한(max-size)으로 실행
+ */
+@Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
-}
\ No newline at end of file
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+
+    private final AsyncExecutorProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(name = "taskExecutor")
+    public AsyncTaskExecutor taskExecutor() {
+        return createExecutor("default");
+    }
+
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public AsyncTaskExecutor notificationExecutor() {
+        return createExecutor("notification");
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("비동기 작업 실패. method={}", method.getName(), ex);
+    }
+
+    AsyncTaskExecutor createExecutor(String name) {
+        AsyncExecutorProperties.Pool pool = properties.getPool(name);
+        InstrumentedTaskDecorator decorator = new InstrumentedTaskDecorator(name, meterRegistry);
+
+        if (properties.isVirtualThreads()) {
+            if (Runtime.version().feature() >= 21) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-" + name + "-");
+                executor.setVirtualThreads(true);
+                // 동시 실행 상한에 걸리면 제출 스레드가 대기 → 스레드 풀의 유한 대기열과 같은 역할
+                executor.setConcurrencyLimit(pool.getMaxSize());
+                executor.setTaskDecorator(decorator);
+                executor.setTaskTerminationTimeout(properties.getShutdownAwaitSeconds() * 1000L);
+                return executor;
+            }
+            log.warn("가상 스레드는 JDK 21 이상에서만 사용 가능. {} 풀은 스레드 풀로 실행 (현재 JDK {})",
+                    name, Runtime.version().feature());
+        }
+
+        Counter rejectedCounter = Counter.builder("async.executor.rejected")
+                .tag("pool", name).register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-" + name + "-");
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds(pool.getKeepAliveSeconds());
+        executor.setTaskDecorator(decorator);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy() {
+            @Override
+            public void rejectedExecution(Runnable task, ThreadPoolExecutor pool) {
+                rejectedCounter.increment();
+                super.rejectedExecution(task, pool);
+            }
+        });
+        // 종료 시 대기열에 남은 알림 작업을 마저 처리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(properties.getShutdownAwaitSeconds());
+        return executor;
+    }
+}
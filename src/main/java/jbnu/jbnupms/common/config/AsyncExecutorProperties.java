@@ -0,0 +1,38 @@
+package jbnu.jbnupms.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @Async 실행기 설정 (async.*)
+ * - pools.<이름>.* 로 풀별 크기/대기열을 지정하고, 지정하지 않은 값은 Pool 기본값을 쓴다
+ * - virtual-threads=true 이면 JDK 21 이상에서 가상 스레드로 실행 (그 미만 JDK 에서는 무시하고 스레드 풀 사용)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "async")
+public class AsyncExecutorProperties {
+
+    private boolean virtualThreads = false;
+    private int shutdownAwaitSeconds = 30;
+    private Map<String, Pool> pools = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int coreSize = 2;
+        private int maxSize = 8;
+        private int queueCapacity = 500;   // 가득 차면 제출한 스레드가 직접 실행 (back-pressure)
+        private int keepAliveSeconds = 60;
+    }
+
+    public Pool getPool(String name) {
+        return pools.getOrDefault(name, new Pool());
+    }
+}
@@ -0,0 +1,92 @@
+package jbnu.jbnupms.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jbnu.jbnupms.domain.notification.entity.NotificationType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * @Enumerated(STRING) 컬럼의 CHECK 제약을 현재 enum 값으로 갱신 (PostgreSQL 전용, 기동 시 1회)
+ * - Hibernate 6 는 테이블 생성 시 check (type in (...)) 제약을 만들지만, ddl-auto=update 는 enum 값이 늘어도
+ *   기존 제약을 넓히지 않는다 → 새 값(예: DIGEST) INSERT 가 제약 위반으로 실패
+ * - 제약에 빠진 값이 있을 때만 삭제 후 다시 만든다 (이미 최신이면 아무 작업도 하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnumCheckConstraintMigrator implements InitializingBean {
+
+    // 대상 (테이블, 컬럼, enum)
+    private static final List<EnumColumn> ENUM_COLUMNS = List.of(
+            new EnumColumn("notifications",             "type", NotificationType.class),
+            new EnumColumn("notification_archive",      "type", NotificationType.class),
+            new EnumColumn("notification_digest_items", "type", NotificationType.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // ddl-auto 이후 실행되도록 의존
+
+    @Value("${jpa.enum-check.migrate-on-startup:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        ENUM_COLUMNS.forEach(this::migrate);
+    }
+
+    private void migrate(EnumColumn column) {
+        List<String> values = Arrays.stream(column.getEnumType().getEnumConstants())
+                .map(Enum::name)
+                .collect(Collectors.toList());
+
+        // 해당 컬럼을 검사하는 CHECK 제약 (Hibernate 가 만든 이름은 {테이블}_{컬럼}_check)
+        List<String[]> constraints = jdbcTemplate.query(
+                "SELECT c.conname, pg_get_constraintdef(c.oid) FROM pg_constraint c " +
+                "JOIN pg_class t ON t.oid = c.conrelid " +
+                "JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = ANY (c.conkey) " +
+                "WHERE c.contype = 'c' AND t.relname = ? AND a.attname = ?",
+                (rs, rowNum) -> new String[] { rs.getString(1), rs.getString(2) },
+                column.getTable(), column.getColumn());
+        if (constraints.isEmpty()) {
+            return;
+        }
+        boolean upToDate = constraints.stream()
+                .allMatch(constraint -> values.stream().allMatch(value -> constraint[1].contains("'" + value + "'")));
+        if (upToDate) {
+            return;
+        }
+
+        constraints.forEach(constraint -> jdbcTemplate.execute(
+                "ALTER TABLE " + column.getTable() + " DROP CONSTRAINT IF EXISTS \"" + constraint[0] + "\""));
+        String allowed = values.stream().map(value -> "'" + value + "'").collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE " + column.getTable() + " ADD CONSTRAINT " + column.getTable() + "_"
+                + column.getColumn() + "_check CHECK (" + column.getColumn() + " IN (" + allowed + "))");
+        log.info("[EnumCheck] {}.{} 제약 갱신 ({})", column.getTable(), column.getColumn(), allowed);
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class EnumColumn {
+        private final String table;
+        private final String column;
+        private final Class<? extends Enum<?>> enumType;
+    }
+}
@@ -0,0 +1,78 @@
+package jbnu.jbnupms.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY → 시퀀스 ID 전환용 마이그레이션 (PostgreSQL 전용, 기동 시 1회)
+ * - 기존 테이블은 IDENTITY 컬럼이고 시퀀스는 ddl-auto 로 1부터 새로 만들어지므로,
+ *   시퀀스가 기존 MAX(id) 보다 뒤처져 있으면 MAX(id) + allocationSize 로 올려 ID 충돌을 막는다.
+ * - 이후 모든 INSERT 가 시퀀스 ID 를 쓰므로 IDENTITY 속성은 제거한다.
+ * - 이미 전환된 DB 에서는 아무 작업도 하지 않으며, EntityManagerFactory(ddl-auto) 초기화 이후,
+ *   웹 요청을 받기 전에 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceMigrator implements InitializingBean {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    // 테이블 → 시퀀스 (엔티티의 @SequenceGenerator 와 일치해야 함)
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "tasks", "task_seq",
+            "task_assignees", "task_assignee_seq",
+            "notifications", "notification_seq",
+            "activity_logs", "activity_log_seq",
+            "comments", "comment_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // ddl-auto 이후 실행되도록 의존
+
+    @Value("${jpa.id-sequence.migrate-on-startup:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        SEQUENCES.forEach(this::migrate);
+    }
+
+    private void migrate(String table, String sequence) {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+        if (maxId != null && lastValue != null && lastValue < maxId) {
+            // pooled 옵티마이저는 nextval 값 기준 직전 allocationSize 구간을 쓰므로 한 구간만큼 여유를 둠
+            jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', ?)", Long.class, maxId + ALLOCATION_SIZE);
+            log.info("[IdSequence] {} 시퀀스를 {} 이후로 조정 (기존 MAX(id)={})", sequence, maxId + ALLOCATION_SIZE, maxId);
+        }
+
+        // 매 기동마다 테이블 락을 잡지 않도록 IDENTITY 가 남아 있을 때만 ALTER
+        Boolean identity = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) > 0 FROM information_schema.columns " +
+                        "WHERE table_name = ? AND column_name = 'id' AND is_identity = 'YES'",
+                Boolean.class, table);
+        if (Boolean.TRUE.equals(identity)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+            log.info("[IdSequence] {}.id IDENTITY 속성 제거", table);
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
@@ -0,0 +1,52 @@
+package jbnu.jbnupms.common.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 작업 계측용 TaskDecorator
+ * - decorate 는 제출 시점에 호출되므로 제출 ~ 실행 시작 사이를 대기 시간으로 잰다
+ * - 스레드 풀/가상 스레드 어느 쪽이든 같은 지표가 나오도록 실행기 내부 대신 작업 단위로 센다
+ *   async.executor.queued / active (gauge), async.executor.queue.wait / task.duration (timer)
+ */
+public class InstrumentedTaskDecorator implements TaskDecorator {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer queueWaitTimer;
+    private final Timer durationTimer;
+
+    public InstrumentedTaskDecorator(String pool, MeterRegistry meterRegistry) {
+        Gauge.builder("async.executor.queued", queued, AtomicInteger::get)
+                .tag("pool", pool).register(meterRegistry);
+        Gauge.builder("async.executor.active", active, AtomicInteger::get)
+                .tag("pool", pool).register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("async.executor.queue.wait")
+                .tag("pool", pool).register(meterRegistry);
+        this.durationTimer = Timer.builder("async.executor.task.duration")
+                .tag("pool", pool).register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long submittedAt = System.nanoTime();
+        queued.incrementAndGet();
+        return () -> {
+            long startedAt = System.nanoTime();
+            queued.decrementAndGet();
+            active.incrementAndGet();
+            queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                runnable.run();
+            } finally {
+                active.decrementAndGet();
+                durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package jbnu.jbnupms.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 엔티티에서 제거한 인덱스 삭제 (PostgreSQL 전용, 기동 시 1회)
+ * - ddl-auto=update 는 인덱스를 추가만 하고 지우지 않으므로, 다른 인덱스로 대체된 인덱스를 여기서 정리한다.
+ *   남겨 두면 쓰기마다 유지 비용만 든다.
+ * - 이미 없으면 아무 작업도 하지 않는다 (DROP INDEX IF EXISTS)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ObsoleteIndexMigrator implements InitializingBean {
+
+    // 삭제할 인덱스 (주석은 대신 쓰이는 인덱스)
+    private static final List<String> OBSOLETE_INDEXES = List.of(
+            "idx_task_assignee_user",       // → idx_task_assignee_user_task (user_id, task_id)
+            "idx_notification_created_at"); // → idx_notification_read_created (is_read, created_at, id)
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // ddl-auto 이후 실행되도록 의존
+
+    @Value("${jpa.obsolete-index.drop-on-startup:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        for (String index : OBSOLETE_INDEXES) {
+            Boolean exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) > 0 FROM pg_indexes WHERE indexname = ?", Boolean.class, index);
+            if (Boolean.TRUE.equals(exists)) {
+                jdbcTemplate.execute("DROP INDEX IF EXISTS " + index);
+                log.info("[ObsoleteIndex] {} 삭제", index);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
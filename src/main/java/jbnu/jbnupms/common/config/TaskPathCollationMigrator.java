@@ -0,0 +1,54 @@
+package jbnu.jbnupms.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * tasks.path 컬럼 collation 을 "C" 로 전환 (PostgreSQL 전용, 기동 시 1회)
+ * - 하위 트리 조회/이동/삭제는 ["/1/5/", "/1/50") 같은 경로 범위 조건으로 idx_task_path 를 탄다.
+ *   기본(en_US 등) collation 은 '/' 같은 구두점을 무시하고 비교하므로 범위가 접두사와 어긋나고,
+ *   C collation 이어야 바이트 순서로 비교되어 범위 = 접두사가 된다.
+ * - 컬럼 타입 변경 시 path 인덱스는 PostgreSQL 이 함께 재생성한다.
+ * - 이미 C collation 이면 아무 작업도 하지 않으며, ddl-auto 이후 웹 요청을 받기 전에 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPathCollationMigrator implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // ddl-auto 이후 실행되도록 의존
+
+    @Value("${jpa.task-path.migrate-on-startup:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        List<String> collations = jdbcTemplate.queryForList(
+                "SELECT COALESCE(collation_name, '') FROM information_schema.columns " +
+                        "WHERE table_name = 'tasks' AND column_name = 'path'",
+                String.class);
+        if (collations.isEmpty() || "C".equals(collations.get(0))) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN path TYPE varchar(1000) COLLATE \"C\"");
+        log.info("[TaskPath] tasks.path collation 을 C 로 전환 (기존={})", collations.get(0));
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
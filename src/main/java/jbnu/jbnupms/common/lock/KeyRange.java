@@ -0,0 +1,20 @@
+package jbnu.jbnupms.common.lock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 분할 실행 시 한 Pod 가 맡는 ID 구간 (fromExclusive, toInclusive]
+@Getter
+@RequiredArgsConstructor
+public class KeyRange {
+
+    public static final KeyRange ALL = new KeyRange(0L, Long.MAX_VALUE);
+
+    private final long fromExclusive;
+    private final long toInclusive;
+
+    @Override
+    public String toString() {
+        return "(" + fromExclusive + ", " + toInclusive + "]";
+    }
+}
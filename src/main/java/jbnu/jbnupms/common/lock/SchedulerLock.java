@@ -0,0 +1,39 @@
+package jbnu.jbnupms.common.lock;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 작업 잠금 (임대 방식)
+ * - lockedUntil 까지는 잡은 Pod 만 실행, 지나면 다른 Pod 가 가져갈 수 있다 → 잡은 Pod 가 죽어도 임대가 만료되면 풀림
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String lockedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    public SchedulerLock(String name, String lockedBy, LocalDateTime lockedAt, LocalDateTime lockedUntil) {
+        this.name        = name;
+        this.lockedBy    = lockedBy;
+        this.lockedAt    = lockedAt;
+        this.lockedUntil = lockedUntil;
+    }
+}
@@ -0,0 +1,27 @@
+package jbnu.jbnupms.common.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 임대가 끝난 잠금만 가져감 (조건부 UPDATE 한 번이라 두 Pod 가 동시에 성공할 수 없음)
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedBy = :owner, l.lockedAt = :now, l.lockedUntil = :until " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquireIfExpired(@Param("name") String name,
+                         @Param("owner") String owner,
+                         @Param("now") LocalDateTime now,
+                         @Param("until") LocalDateTime until);
+
+    // 작업이 끝나면 자신이 잡은 잠금의 임대 종료 시각을 앞당김
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,144 @@
+package jbnu.jbnupms.common.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 여러 Pod 에서 같은 cron 으로 뜨는 스케줄러 작업을 한 Pod 만 실행하게 하는 DB 임대 잠금
+ * - 잠금은 scheduler_locks 행의 조건부 UPDATE/INSERT 로 잡고, 잡은 쪽만 작업을 실행
+ * - lease-seconds : 잡은 Pod 가 죽어도 이 시간이 지나면 다른 Pod 가 가져감 (작업 최대 실행 시간보다 길게)
+ * - hold-seconds  : 작업이 일찍 끝나도 이 시간까지는 잠금을 유지 → Pod 간 시계 차이로 늦게 뜬 Pod 가 다시 실행하지 않음
+ * - 분할 모드(scheduler.partition.count > 1)면 ID 구간마다 잠금을 따로 잡아 여러 Pod 가 작업을 나눠 실행
+ * - 만료 판단은 각 Pod 의 시계를 쓰므로 Pod 간 시계는 동기화되어 있어야 한다 (NTP)
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    @Value("${scheduler.lock.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scheduler.lock.lease-seconds:1800}")
+    private long leaseSeconds;
+
+    @Value("${scheduler.lock.hold-seconds:300}")
+    private long holdSeconds;
+
+    @Value("${scheduler.partition.count:1}")
+    private int partitionCount;
+
+    // transactionTemplate 빈은 REQUIRES_NEW → 잠금 획득/해제는 호출한 쪽 트랜잭션과 무관하게 즉시 커밋
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository,
+                                TransactionTemplate transactionTemplate) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.transactionTemplate = transactionTemplate;
+        String host = System.getenv("HOSTNAME");
+        this.owner = (host != null ? host : "local") + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 잠금을 잡은 경우에만 작업 실행
+     * @return 실행 여부
+     */
+    public boolean runWithLock(String name, Runnable job) {
+        return runWithLock(name, holdSeconds, job);
+    }
+
+    /**
+     * 잠금 유지 시간을 지정해 실행 (수 분 간격으로 도는 작업은 0 으로 두어 다음 주기에 바로 다시 잡을 수 있게 함)
+     * @return 실행 여부
+     */
+    public boolean runWithLock(String name, long holdSeconds, Runnable job) {
+        if (!enabled) {
+            job.run();
+            return true;
+        }
+        if (!tryAcquire(name)) {
+            log.info("[Scheduler] 다른 Pod 가 실행 중이거나 이미 실행한 작업이라 건너뜀. lock={}", name);
+            return false;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            job.run();
+            return true;
+        } finally {
+            release(name, startedAt.plusSeconds(holdSeconds));
+        }
+    }
+
+    /**
+     * ID [1, maxKey] 를 partition.count 개 구간으로 나눠 구간별 잠금으로 실행 (마지막 구간은 이후 생긴 ID 까지 포함)
+     * - Pod 마다 시작 구간을 무작위로 골라 동시에 뜬 Pod 들이 서로 다른 구간부터 가져감
+     * - 한 구간이 실패해도 나머지 구간은 계속 실행
+     * - 분할 수는 모든 Pod 가 같아야 한다 (잠금 이름에 분할 수가 들어가므로 배포 중 섞이면 구간이 겹칠 수 있음)
+     * @return 이 Pod 가 실행한 구간 수
+     */
+    public int runPartitioned(String name, long maxKey, Consumer<KeyRange> job) {
+        if (partitionCount <= 1) {
+            return runWithLock(name, () -> job.accept(KeyRange.ALL)) ? 1 : 0;
+        }
+        long size = Math.max(1L, (maxKey + partitionCount - 1) / partitionCount);
+        int start = ThreadLocalRandom.current().nextInt(partitionCount);
+        int executed = 0;
+        for (int i = 0; i < partitionCount; i++) {
+            int partition = (start + i) % partitionCount;
+            KeyRange range = new KeyRange(partition * size,
+                    partition == partitionCount - 1 ? Long.MAX_VALUE : (partition + 1) * size);
+            try {
+                if (runWithLock(name + "#" + partition + "/" + partitionCount, () -> job.accept(range))) {
+                    executed++;
+                }
+            } catch (Exception e) {
+                log.error("[Scheduler] 분할 작업 실패. lock={}, range={}", name, range, e);
+            }
+        }
+        return executed;
+    }
+
+    private boolean tryAcquire(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusSeconds(leaseSeconds);
+        Boolean acquired = transactionTemplate.execute(status ->
+                schedulerLockRepository.acquireIfExpired(name, owner, now, until) == 1);
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+
+        // 처음 실행되는 작업이면 행을 만들며 잡음 (동시에 만들면 PK 충돌로 한쪽만 성공)
+        try {
+            Boolean created = transactionTemplate.execute(status -> {
+                if (schedulerLockRepository.existsById(name)) {
+                    return false;
+                }
+                schedulerLockRepository.saveAndFlush(new SchedulerLock(name, owner, now, until));
+                return true;
+            });
+            return Boolean.TRUE.equals(created);
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private void release(String name, LocalDateTime holdUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.release(name, owner, holdUntil.isAfter(now) ? holdUntil : now));
+        } catch (DataAccessException e) {
+            // 해제에 실패해도 임대가 만료되면 풀림
+            log.warn("[Scheduler] 잠금 해제 실패. lock={}", name, e);
+        }
+    }
+}
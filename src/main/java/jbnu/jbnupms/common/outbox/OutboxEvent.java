@@ -0,0 +1,67 @@
+package jbnu.jbnupms.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 행
+ * - 업무 변경과 같은 트랜잭션에서 저장되므로 커밋된 변경의 이벤트는 유실되지 않는다
+ * - 릴레이가 처리에 성공하면 삭제하고, 실패하면 재시도 시각을 뒤로 미룬다
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // 릴레이 조회용 (status, available_at) + id 순서
+        @Index(name = "idx_outbox_status_available", columnList = "status, available_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public OutboxEvent(String eventType, String payload) {
+        this.eventType   = eventType;
+        this.payload     = payload;
+        this.status      = OutboxStatus.PENDING;
+        this.attempts    = 0;
+        this.createdAt   = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.availableAt = retryAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package jbnu.jbnupms.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // FOR UPDATE SKIP LOCKED (lock.timeout = -2) : 다른 Pod 가 잡고 있는 행은 건너뛰고 다음 행을 가져감
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o " +
+            "WHERE o.status = jbnu.jbnupms.common.outbox.OutboxStatus.PENDING AND o.availableAt <= :now " +
+            "ORDER BY o.id")
+    List<OutboxEvent> findRelayBatch(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,143 @@
+package jbnu.jbnupms.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import jbnu.jbnupms.common.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스 릴레이
+ * - 배치 트랜잭션에서 PENDING 행을 FOR UPDATE SKIP LOCKED 로 잠그고, 이벤트마다 별도 트랜잭션(REQUIRES_NEW)으로 발행
+ *   → 여러 Pod/워커가 서로 다른 행을 나눠 처리하므로 처리량이 레플리카 수에 비례한다
+ * - 성공한 행은 배치 트랜잭션 커밋 시 한 번에 삭제, 실패한 행은 지수 백오프로 재시도 시각을 미룬다
+ * - 이벤트 처리 커밋 후 행 삭제 전에 Pod 가 죽으면 다시 발행될 수 있다 (at-least-once)
+ * - 워커는 notification 실행기에서 돌며 Pod 당 outbox.relay.workers 개까지 동시에 실행
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String EVENT_PACKAGE = "jbnu.jbnupms.";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate eventTransaction;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    @Value("${outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.relay.workers:2}")
+    private int workers;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectMapper objectMapper,
+                       @Qualifier(AsyncConfig.NOTIFICATION_EXECUTOR) AsyncTaskExecutor executor,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        // 이벤트는 final 필드 + 생성자 구조이므로 생성자 파라미터 이름으로 복원
+        this.objectMapper = objectMapper.copy().registerModule(new ParameterNamesModule());
+        this.executor = executor;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.eventTransaction = new TransactionTemplate(transactionManager);
+        this.eventTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void poll() {
+        if (!enabled) return;
+        while (activeWorkers.get() < workers) {
+            activeWorkers.incrementAndGet();
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                activeWorkers.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // 가져온 행이 배치 크기보다 적을 때까지 반복
+    private void drain() {
+        try {
+            int fetched;
+            do {
+                fetched = relayBatch();
+            } while (fetched >= batchSize);
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실패", e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 한 배치를 잠그고 발행한다
+     * @return 가져온 행 수
+     */
+    public int relayBatch() {
+        Integer fetched = batchTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> batch = outboxEventRepository.findRelayBatch(now, PageRequest.of(0, batchSize));
+            List<Long> publishedIds = new ArrayList<>();
+
+            for (OutboxEvent outboxEvent : batch) {
+                try {
+                    Object event = deserialize(outboxEvent);
+                    eventTransaction.executeWithoutResult(s -> eventPublisher.publishEvent(event));
+                    publishedIds.add(outboxEvent.getId());
+                } catch (Exception e) {
+                    LocalDateTime retryAt = now.plusSeconds(backoffSeconds(outboxEvent.getAttempts()));
+                    outboxEvent.markFailed(e.toString(), retryAt, maxAttempts);
+                    log.warn("아웃박스 이벤트 처리 실패. id={}, type={}, attempts={}",
+                            outboxEvent.getId(), outboxEvent.getEventType(), outboxEvent.getAttempts(), e);
+                }
+            }
+            if (!publishedIds.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(publishedIds);
+            }
+            return batch.size();
+        });
+        return fetched != null ? fetched : 0;
+    }
+
+    private Object deserialize(OutboxEvent outboxEvent) throws Exception {
+        // 저장된 타입 이름으로 임의 클래스를 만들지 않도록 애플리케이션 패키지로 제한
+        if (!outboxEvent.getEventType().startsWith(EVENT_PACKAGE)) {
+            throw new IllegalStateException("허용되지 않은 이벤트 타입: " + outboxEvent.getEventType());
+        }
+        return objectMapper.readValue(outboxEvent.getPayload(), Class.forName(outboxEvent.getEventType()));
+    }
+
+    // 1, 2, 4, ... 초, 최대 5분
+    private long backoffSeconds(int attempts) {
+        return Math.min(1L << Math.min(attempts, 9), 300L);
+    }
+}
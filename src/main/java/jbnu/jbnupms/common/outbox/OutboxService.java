@@ -0,0 +1,35 @@
+package jbnu.jbnupms.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 아웃박스에 기록
+ * - 반드시 업무 트랜잭션 안에서 호출 (MANDATORY) → 업무 변경과 이벤트가 함께 커밋/롤백된다
+ * - 실제 처리는 OutboxRelay 가 커밋 이후 같은 이벤트 객체로 복원해 발행한다
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getName(), e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(event.getClass().getName())
+                .payload(payload)
+                .build());
+    }
+}
@@ -0,0 +1,6 @@
+package jbnu.jbnupms.common.outbox;
+
+public enum OutboxStatus {
+    PENDING,    // 릴레이 대기 (재시도 포함)
+    FAILED      // 최대 재시도 초과, 수동 확인 필요
+}
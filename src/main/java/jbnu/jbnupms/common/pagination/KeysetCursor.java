@@ -0,0 +1,50 @@
+package jbnu.jbnupms.common.pagination;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이징용 커서.
+ * (정렬 기준 시각, ID) 쌍을 Base64 URL 문자열로 감싸 클라이언트에는 불투명한 값으로 노출한다.
+ * 정렬 기준 시각은 null 일 수 있다 (예: 마감일 없는 작업).
+ */
+@Getter
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime sortKey;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime sortKey, Long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = (sortKey != null ? sortKey.toString() : "") + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 값이면 첫 페이지 (null 반환)
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            String sortKey = raw.substring(0, idx);
+            return new KeysetCursor(
+                    sortKey.isEmpty() ? null : LocalDateTime.parse(sortKey),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package jbnu.jbnupms.common.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "커서(키셋) 페이징 응답 DTO")
+public class CursorPageResponse<T> {
+    @Schema(description = "조회된 항목 목록")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 조회용 불투명 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "전체 개수 (withTotal=true 로 요청한 경우에만 포함)", example = "132")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalCount;
+}
@@ -6,6 +6,7 @@ import jbnu.jbnupms.common.response.CommonResponse;
 import jbnu.jbnupms.domain.calendar.dto.CalendarItemDto;
 import jbnu.jbnupms.domain.calendar.service.CalendarService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Calendar", description = "캘린더 API")
@@ -35,4 +37,16 @@ public class CalendarController {
         List<CalendarItemDto> response = calendarService.getCalendarItems(userId, spaceId, year, month);
         return ResponseEntity.ok(CommonResponse.success(response));
     }
+
+    @Operation(summary = "기간 캘린더 조회", description = "from~to(양 끝 포함, 최대 92일) 사이의 프로젝트/태스크 마감일을 조회합니다. 주/월/분기 뷰에 사용합니다. spaceId를 지정하면 해당 스페이스만, 생략하면 내가 속한 전체 스페이스를 대상으로 합니다.")
+    @GetMapping("/range")
+    public ResponseEntity<CommonResponse<List<CalendarItemDto>>> getCalendarItemsInRange(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) Long spaceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        List<CalendarItemDto> response = calendarService.getCalendarItemsInRange(userId, spaceId, from, to);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
 }
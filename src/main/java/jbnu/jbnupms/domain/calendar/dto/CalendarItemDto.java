@@ -1,14 +1,17 @@
 package jbnu.jbnupms.domain.calendar.dto;
 
-import jbnu.jbnupms.domain.project.entity.Project;
-import jbnu.jbnupms.domain.task.entity.Task;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+// 캘린더 조회 쿼리가 전체 인자 생성자로 직접 만든다 (필드 순서 = 생성자 인자 순서)
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 public class CalendarItemDto {
 
     private CalendarItemType type;
@@ -18,31 +21,6 @@ public class CalendarItemDto {
     private String spaceName;
     private Long projectId;
     private String projectName; // TASK 타입일 때만 포함, PROJECT 타입은 null
+    private Long taskId;        // TASK 타입일 때만 포함, PROJECT 타입은 null
     private boolean assignedToMe;
-
-    public static CalendarItemDto fromProject(Project project, boolean assignedToMe) {
-        return CalendarItemDto.builder()
-                .type(CalendarItemType.PROJECT)
-                .title(project.getName())
-                .dueDate(project.getDueDate())
-                .spaceId(project.getSpace().getId())
-                .spaceName(project.getSpace().getName())
-                .projectId(project.getId())
-                .projectName(null)
-                .assignedToMe(assignedToMe)
-                .build();
-    }
-
-    public static CalendarItemDto fromTask(Task task, boolean assignedToMe) {
-        return CalendarItemDto.builder()
-                .type(CalendarItemType.TASK)
-                .title(task.getTitle())
-                .dueDate(task.getDueDate())
-                .spaceId(task.getProject().getSpace().getId())
-                .spaceName(task.getProject().getSpace().getName())
-                .projectId(task.getProject().getId())
-                .projectName(task.getProject().getName())
-                .assignedToMe(assignedToMe)
-                .build();
-    }
 }
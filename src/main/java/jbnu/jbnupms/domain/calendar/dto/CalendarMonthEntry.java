@@ -0,0 +1,22 @@
+package jbnu.jbnupms.domain.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (스페이스, 월) 단위 캘린더 캐시 값
+ * - 유저와 무관한 항목만 담고 assignedToMe 는 항상 false
+ * - 태스크별 담당자 ID 를 함께 담아 조회 시 유저별 "내 담당" 여부를 추가 쿼리 없이 덮어씀
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarMonthEntry {
+
+    private List<CalendarItemDto> items;
+    private Map<Long, List<Long>> assigneeIdsByTaskId;
+}
@@ -0,0 +1,40 @@
+package jbnu.jbnupms.domain.calendar.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 마감일/상태/담당자/이름이 바뀌어 스페이스의 월별 캘린더 캐시를 비워야 할 때 발행
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CalendarChangedEvent {
+    private final Long           spaceId;
+    private final Set<YearMonth> months;     // wholeSpace 이면 무시
+    private final boolean        wholeSpace;
+
+    // 바뀌기 전/후 마감일이 속한 달만 무효화 (마감일이 없으면 캘린더에 나오지 않으므로 제외)
+    public static CalendarChangedEvent ofDueDates(Long spaceId, LocalDateTime... dueDates) {
+        return ofDueDates(spaceId, Arrays.asList(dueDates));
+    }
+
+    public static CalendarChangedEvent ofDueDates(Long spaceId, Collection<LocalDateTime> dueDates) {
+        Set<YearMonth> months = dueDates.stream()
+                .filter(Objects::nonNull)
+                .map(YearMonth::from)
+                .collect(Collectors.toSet());
+        return new CalendarChangedEvent(spaceId, months, false);
+    }
+
+    // 하위 트리 삭제, 프로젝트/스페이스 이름 변경처럼 영향받는 달을 특정할 수 없을 때
+    public static CalendarChangedEvent ofSpace(Long spaceId) {
+        return new CalendarChangedEvent(spaceId, Set.of(), true);
+    }
+}
@@ -0,0 +1,140 @@
+package jbnu.jbnupms.domain.calendar.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jbnu.jbnupms.domain.calendar.dto.CalendarMonthEntry;
+import jbnu.jbnupms.domain.calendar.event.CalendarChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * (스페이스, 월)별 캘린더 항목 캐시 (Redis)
+ * - 스페이스마다 해시 1개, 필드는 "yyyy-MM" → 같은 스페이스 멤버 모두가 공유하고 "내 담당" 여부는 조회 시 덮어씀
+ * - 마감일/상태/담당자 변경 이벤트를 커밋 이후 받아 해당 달 필드만, 이름 변경/하위 트리 삭제는 스페이스 해시 전체를 삭제
+ * - 무효화마다 스페이스 세대를 올리고, DB 조회 전에 읽어 둔 세대가 저장 시점에도 같을 때만 저장
+ *   → 조회 도중 커밋된 변경의 무효화 뒤에 이전 달 데이터를 다시 써서 TTL 동안 남는 경우를 막는다 (MyTaskSummaryCache 와 같은 방식)
+ * - TTL 은 스페이스 해시 단위로 마지막 저장 시점부터 계산 (이벤트를 놓친 경우의 안전장치)
+ * - Redis 장애 시에는 캐시를 건너뛰고 DB 조회 결과를 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarMonthCache {
+
+    private static final String KEY_PREFIX = "calendar:";
+    private static final String GENERATION_PREFIX = "calendar-gen:";
+
+    // KEYS = [해시 키, 세대 키], ARGV = [월, 값, 읽어 둔 세대, TTL] : 세대가 그대로일 때만 저장
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[3] then return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1", Long.class);
+
+    // KEYS = [세대 키, 해시 키], ARGV = [세대 TTL, 월...] : 세대 증가 후 해당 월(없으면 해시 전체) 삭제
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "if #ARGV == 1 then return redis.call('DEL', KEYS[2]) end " +
+            "return redis.call('HDEL', KEYS[2], unpack(ARGV, 2))", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${calendar.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${calendar.cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    // 캐시에 있는 스페이스만 담아 반환 (없는 스페이스는 호출한 쪽에서 DB 로 채움)
+    public Map<Long, CalendarMonthEntry> get(List<Long> spaceIds, YearMonth month) {
+        Map<Long, CalendarMonthEntry> entries = new HashMap<>();
+        if (!enabled) {
+            return entries;
+        }
+        for (Long spaceId : spaceIds) {
+            try {
+                Object value = redisTemplate.opsForHash().get(key(spaceId), month.toString());
+                if (value != null) {
+                    entries.put(spaceId, objectMapper.readValue(value.toString(), CalendarMonthEntry.class));
+                }
+            } catch (Exception e) {
+                log.warn("캘린더 캐시 조회 실패. spaceId={}, month={}", spaceId, month);
+            }
+        }
+        return entries;
+    }
+
+    // DB 조회 전에 호출해 스페이스별 현재 세대를 읽어 둠 (비활성/장애 시 빈 맵 → 저장하지 않음)
+    public Map<Long, String> generations(List<Long> spaceIds) {
+        Map<Long, String> generations = new HashMap<>();
+        if (!enabled || spaceIds.isEmpty()) {
+            return generations;
+        }
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(
+                    spaceIds.stream().map(this::generationKey).collect(Collectors.toList()));
+            for (int i = 0; i < spaceIds.size(); i++) {
+                Object value = values != null ? values.get(i) : null;
+                generations.put(spaceIds.get(i), value == null ? "0" : value.toString());
+            }
+        } catch (Exception e) {
+            log.warn("캘린더 캐시 세대 조회 실패. spaceIds={}", spaceIds);
+            generations.clear();
+        }
+        return generations;
+    }
+
+    public void put(Long spaceId, YearMonth month, String generation, CalendarMonthEntry entry) {
+        if (!enabled || generation == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(key(spaceId), generationKey(spaceId)),
+                    month.toString(), objectMapper.writeValueAsString(entry), generation, String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("캘린더 캐시 저장 실패. spaceId={}, month={}", spaceId, month);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCalendarChanged(CalendarChangedEvent event) {
+        if (!enabled || (!event.isWholeSpace() && event.getMonths().isEmpty())) {
+            return;
+        }
+        // 세대 키는 진행 중인 조회보다 오래 남아야 하므로 해시 TTL 의 2배로 유지
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds * 2));
+        if (!event.isWholeSpace()) {
+            event.getMonths().stream().map(YearMonth::toString).forEach(args::add);
+        }
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(generationKey(event.getSpaceId()), key(event.getSpaceId())),
+                    args.toArray());
+        } catch (Exception e) {
+            log.warn("캘린더 캐시 무효화 실패. spaceId={}, months={}", event.getSpaceId(), event.getMonths());
+        }
+    }
+
+    private String key(Long spaceId) {
+        return KEY_PREFIX + spaceId;
+    }
+
+    private String generationKey(Long spaceId) {
+        return GENERATION_PREFIX + spaceId;
+    }
+}
@@ -1,13 +1,13 @@
 package jbnu.jbnupms.domain.calendar.service;
 
+import jbnu.jbnupms.common.access.AccessResolver;
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
 import jbnu.jbnupms.domain.calendar.dto.CalendarItemDto;
-import jbnu.jbnupms.domain.project.entity.Project;
-import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.calendar.dto.CalendarItemType;
+import jbnu.jbnupms.domain.calendar.dto.CalendarMonthEntry;
 import jbnu.jbnupms.domain.project.repository.ProjectRepository;
-import jbnu.jbnupms.domain.space.repository.SpaceMemberRepository;
-import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.dto.TaskAssigneeIdView;
 import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,11 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.temporal.TemporalAdjusters;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,38 +33,73 @@ public class CalendarService {
 
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
-    private final ProjectMemberRepository projectMemberRepository;
     private final TaskAssigneeRepository taskAssigneeRepository;
-    private final SpaceMemberRepository spaceMemberRepository;
+    private final AccessResolver accessResolver;
+    private final CalendarMonthCache calendarMonthCache;
+
+    // 분기(최대 92일)까지 한 번에 조회 가능
+    private static final int MAX_RANGE_DAYS = 92;
 
     /**
      * 캘린더 조회
      * - spaceId가 있으면 해당 스페이스만, 없으면 내가 속한 전체 스페이스 대상
      * - year/month 기준으로 마감일이 해당 월인 프로젝트 + 태스크 반환
+     * - (스페이스, 월) 단위 캐시를 먼저 보고, 없는 스페이스만 모아 DB 에서 채운 뒤 "내 담당" 여부를 덮어씀
      */
     public List<CalendarItemDto> getCalendarItems(Long userId, Long spaceId, int year, int month) {
         List<Long> spaceIds = resolveSpaceIds(userId, spaceId);
+        YearMonth yearMonth = YearMonth.of(year, month);
 
-        LocalDateTime startDate = LocalDate.of(year, month, 1).atStartOfDay();
-        LocalDateTime endDate = LocalDate.of(year, month, 1)
-                .with(TemporalAdjusters.lastDayOfMonth())
-                .atTime(LocalTime.MAX);
-
-        List<Project> projects = projectRepository.findProjectsDueInMonth(spaceIds, startDate, endDate);
-        List<Task> tasks = taskRepository.findTasksDueInMonth(spaceIds, startDate, endDate);
-
-        // 내 담당 여부를 배치로 판별 (N+1 방지)
-        Set<Long> myProjectIds = resolveMyProjectIds(userId, projects);
-        Set<Long> myTaskIds = resolveMyTaskIds(userId, tasks);
+        Map<Long, CalendarMonthEntry> entries = calendarMonthCache.get(spaceIds, yearMonth);
+        List<Long> missingSpaceIds = spaceIds.stream()
+                .filter(id -> !entries.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missingSpaceIds.isEmpty()) {
+            Map<Long, String> generations = calendarMonthCache.generations(missingSpaceIds);
+            Map<Long, CalendarMonthEntry> loaded = loadEntries(missingSpaceIds, yearMonth);
+            loaded.forEach((id, entry) -> calendarMonthCache.put(id, yearMonth, generations.get(id), entry));
+            entries.putAll(loaded);
+        }
 
         List<CalendarItemDto> items = new ArrayList<>();
+        Set<Long> myProjectIds = null;
+        for (CalendarMonthEntry entry : entries.values()) {
+            for (CalendarItemDto item : entry.getItems()) {
+                boolean mine;
+                if (item.getType() == CalendarItemType.PROJECT) {
+                    // 프로젝트 멤버 여부는 멤버십 스냅샷 기준 (추가 쿼리 없음)
+                    if (myProjectIds == null) myProjectIds = accessResolver.getProjectIds(userId);
+                    mine = myProjectIds.contains(item.getProjectId());
+                } else {
+                    mine = entry.getAssigneeIdsByTaskId().getOrDefault(item.getTaskId(), List.of()).contains(userId);
+                }
+                items.add(mine ? item.toBuilder().assignedToMe(true).build() : item);
+            }
+        }
+
+        items.sort(Comparator.comparing(CalendarItemDto::getDueDate));
+        return items;
+    }
 
-        for (Project project : projects) {
-            items.add(CalendarItemDto.fromProject(project, myProjectIds.contains(project.getId())));
+    /**
+     * 기간 캘린더 조회 (주/월/분기 등 from~to, 양 끝 날짜 포함)
+     * - 캐시 없이 필요한 컬럼만 DTO 로 조회하고, 내 담당 여부도 같은 쿼리에서 계산 → 프로젝트 1회 + 태스크 1회
+     */
+    public List<CalendarItemDto> getCalendarItemsInRange(Long userId, Long spaceId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "시작일이 종료일보다 늦습니다.");
         }
-        for (Task task : tasks) {
-            items.add(CalendarItemDto.fromTask(task, myTaskIds.contains(task.getId())));
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
         }
+        List<Long> spaceIds = resolveSpaceIds(userId, spaceId);
+        if (spaceIds.isEmpty()) return List.of();
+
+        LocalDateTime startDate = from.atStartOfDay();
+        LocalDateTime endDate = to.plusDays(1).atStartOfDay();
+        List<CalendarItemDto> items = new ArrayList<>(
+                projectRepository.findCalendarItems(spaceIds, startDate, endDate, userId));
+        items.addAll(taskRepository.findCalendarItems(spaceIds, startDate, endDate, userId));
 
         items.sort(Comparator.comparing(CalendarItemDto::getDueDate));
         return items;
@@ -71,38 +108,41 @@ public class CalendarService {
     // spaceId가 주어지면 멤버 검증 후 단일 스페이스, 없으면 내가 속한 전체 스페이스
     private List<Long> resolveSpaceIds(Long userId, Long spaceId) {
         if (spaceId != null) {
-            if (!spaceMemberRepository.existsBySpaceIdAndUserId(spaceId, userId)) {
+            if (!accessResolver.isSpaceMember(userId, spaceId)) {
                 throw new CustomException(ErrorCode.ACCESS_DENIED, "해당 스페이스의 멤버가 아닙니다.");
             }
             return List.of(spaceId);
         }
-        List<Long> spaceIds = spaceMemberRepository.findByUserIdWithSpace(userId)
-                .stream()
-                .map(sm -> sm.getSpace().getId())
-                .collect(Collectors.toList());
-        if (spaceIds.isEmpty()) {
-            return List.of();
-        }
-        return spaceIds;
+        return new ArrayList<>(accessResolver.getSpaceIds(userId));
     }
 
-    // 프로젝트 목록에서 내가 멤버인 프로젝트 ID 집합 (배치 조회)
-    private Set<Long> resolveMyProjectIds(Long userId, List<Project> projects) {
-        if (projects.isEmpty()) return Set.of();
-        List<Long> projectIds = projects.stream().map(Project::getId).collect(Collectors.toList());
-        return projectMemberRepository.findByProjectIdInAndUserId(projectIds, userId)
-                .stream()
-                .map(pm -> pm.getProject().getId())
-                .collect(Collectors.toSet());
-    }
+    // 캐시에 없는 스페이스들의 한 달치 항목을 유저와 무관하게 조회 (항목이 없는 스페이스도 빈 값으로 캐시)
+    private Map<Long, CalendarMonthEntry> loadEntries(List<Long> spaceIds, YearMonth yearMonth) {
+        LocalDateTime startDate = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime endDate = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+        // 공유 캐시에 담을 값이므로 유저 없이 조회 (내 담당 여부는 모두 false)
+        List<CalendarItemDto> projects = projectRepository.findCalendarItems(spaceIds, startDate, endDate, null);
+        List<CalendarItemDto> tasks = taskRepository.findCalendarItems(spaceIds, startDate, endDate, null);
+
+        // 태스크 담당자를 배치로 조회 (N+1 방지)
+        Map<Long, List<Long>> assigneeIdsByTaskId = tasks.isEmpty() ? Map.of()
+                : taskAssigneeRepository.findAssigneeIdsByTaskIdIn(
+                                tasks.stream().map(CalendarItemDto::getTaskId).collect(Collectors.toList()))
+                        .stream()
+                        .collect(Collectors.groupingBy(TaskAssigneeIdView::getTaskId,
+                                Collectors.mapping(TaskAssigneeIdView::getUserId, Collectors.toList())));
 
-    // 태스크 목록에서 내가 담당자인 태스크 ID 집합 (배치 조회)
-    private Set<Long> resolveMyTaskIds(Long userId, List<Task> tasks) {
-        if (tasks.isEmpty()) return Set.of();
-        List<Long> taskIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
-        return taskAssigneeRepository.findByTaskIdInAndUserId(taskIds, userId)
-                .stream()
-                .map(ta -> ta.getTask().getId())
-                .collect(Collectors.toSet());
+        Map<Long, CalendarMonthEntry> entries = new HashMap<>();
+        spaceIds.forEach(id -> entries.put(id, new CalendarMonthEntry(new ArrayList<>(), new HashMap<>())));
+        for (CalendarItemDto project : projects) {
+            entries.get(project.getSpaceId()).getItems().add(project);
+        }
+        for (CalendarItemDto task : tasks) {
+            CalendarMonthEntry entry = entries.get(task.getSpaceId());
+            entry.getItems().add(task);
+            entry.getAssigneeIdsByTaskId().put(task.getTaskId(), assigneeIdsByTaskId.getOrDefault(task.getTaskId(), List.of()));
+        }
+        return entries;
     }
 }
@@ -1,16 +1,16 @@
 package jbnu.jbnupms.domain.comment.service;
 
+import jbnu.jbnupms.common.access.AccessResolver;
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.common.outbox.OutboxService;
 import jbnu.jbnupms.domain.comment.dto.CommentCreateRequest;
 import jbnu.jbnupms.domain.comment.dto.CommentResponse;
 import jbnu.jbnupms.domain.comment.dto.CommentUpdateRequest;
 import jbnu.jbnupms.domain.comment.entity.Comment;
 import jbnu.jbnupms.domain.comment.repository.CommentRepository;
 import jbnu.jbnupms.domain.notification.event.CommentCreatedEvent;
-import jbnu.jbnupms.domain.project.entity.ProjectMember;
 import jbnu.jbnupms.domain.project.entity.ProjectRole;
-import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.task.entity.Task;
 import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
@@ -20,7 +20,6 @@ import jbnu.jbnupms.domain.space.entity.ActionType;
 import jbnu.jbnupms.domain.space.service.ActivityLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,10 +37,10 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
-    private final ProjectMemberRepository projectMemberRepository;
+    private final AccessResolver accessResolver;
     private final TaskAssigneeRepository taskAssigneeRepository;
     private final ActivityLogService activityLogService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
 
     /**
@@ -93,7 +92,7 @@ public class CommentService {
                 task.getProject().getName(), task.getId(), task.getTitle(), ActionType.COMMENT_ADDED, user,
                 "새 댓글이 추가되었습니다.");
 
-        // 알림 이벤트 publish
+        // 알림 이벤트 아웃박스 기록 (같은 트랜잭션)
         List<Long> receiverIds = taskAssigneeRepository.findByTaskId(task.getId())
                 .stream()
                 .map(ta -> ta.getUser().getId())
@@ -101,7 +100,7 @@ public class CommentService {
                 .collect(Collectors.toList());
 
         if (!receiverIds.isEmpty()) {
-            eventPublisher.publishEvent(new CommentCreatedEvent(
+            outboxService.append(new CommentCreatedEvent(
                     task.getId(), task.getTitle(),
                     userId, user.getName(),
                     request.getContent(), receiverIds));
@@ -200,9 +199,7 @@ public class CommentService {
      * 프로젝트 멤버인지만 확인 (담당자 여부와 무관하게 동일 권한)
      */
     private void validateTaskAccess(Task task, Long userId) {
-        boolean isProjectMember = projectMemberRepository.existsByProjectIdAndUserId(
-                task.getProject().getId(), userId);
-        if (!isProjectMember) {
+        if (!accessResolver.isProjectMember(userId, task.getProject().getId())) {
             throw new CustomException(ErrorCode.TASK_ACCESS_DENIED);
         }
     }
@@ -212,9 +209,9 @@ public class CommentService {
      * VIEWER는 읽기 전용이므로 쓰기 작업(댓글 생성) 불가
      */
     private void validateNotViewer(Long projectId, Long userId) {
-        ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
+        ProjectRole role = accessResolver.getProjectRole(userId, projectId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PROJECT_ACCESS_DENIED));
-        if (member.getRole() == ProjectRole.VIEWER) {
+        if (role == ProjectRole.VIEWER) {
             throw new CustomException(ErrorCode.VIEWER_WRITE_ACCESS_DENIED);
         }
     }
@@ -1,5 +1,6 @@
 package jbnu.jbnupms.domain.file.service;
 
+import jbnu.jbnupms.common.access.AccessResolver;
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
 import jbnu.jbnupms.domain.file.dto.FileResponse;
@@ -7,9 +8,7 @@ import jbnu.jbnupms.domain.file.entity.ProjectFile;
 import jbnu.jbnupms.domain.file.repository.ProjectFileRepository;
 import jbnu.jbnupms.domain.file.repository.TaskFileRepository;
 import jbnu.jbnupms.domain.project.entity.Project;
-import jbnu.jbnupms.domain.project.entity.ProjectMember;
 import jbnu.jbnupms.domain.project.entity.ProjectRole;
-import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.project.repository.ProjectRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
@@ -32,7 +31,7 @@ public class ProjectFileService {
     private final ProjectFileRepository projectFileRepository;
     private final TaskFileRepository taskFileRepository;
     private final ProjectRepository projectRepository;
-    private final ProjectMemberRepository projectMemberRepository;
+    private final AccessResolver accessResolver;
     private final UserRepository userRepository;
     private final S3FileService s3FileService;
 
@@ -50,9 +49,9 @@ public class ProjectFileService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 프로젝트 접근 권한 확인 + VIEWER는 업로드 불가
-        ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
+        ProjectRole role = accessResolver.getProjectRole(userId, projectId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PROJECT_ACCESS_DENIED));
-        if (member.getRole() == ProjectRole.VIEWER) {
+        if (role == ProjectRole.VIEWER) {
             throw new CustomException(ErrorCode.VIEWER_WRITE_ACCESS_DENIED);
         }
 
@@ -168,8 +167,7 @@ public class ProjectFileService {
      * 모든 멤버(ADMIN, MEMBER, VIEWER) 조회 가능
      */
     private void validateProjectAccess(Long projectId, Long userId) {
-        boolean isProjectMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, userId);
-        if (!isProjectMember) {
+        if (!accessResolver.isProjectMember(userId, projectId)) {
             throw new CustomException(ErrorCode.PROJECT_ACCESS_DENIED);
         }
     }
@@ -1,5 +1,6 @@
 package jbnu.jbnupms.domain.file.service;
 
+import jbnu.jbnupms.common.access.AccessResolver;
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
 import jbnu.jbnupms.domain.file.dto.FileResponse;
@@ -8,9 +9,7 @@ import jbnu.jbnupms.domain.file.entity.TaskFile;
 import jbnu.jbnupms.domain.file.repository.ProjectFileRepository;
 import jbnu.jbnupms.domain.file.repository.TaskFileRepository;
 import jbnu.jbnupms.domain.project.entity.Project;
-import jbnu.jbnupms.domain.project.entity.ProjectMember;
 import jbnu.jbnupms.domain.project.entity.ProjectRole;
-import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.task.entity.Task;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
 import jbnu.jbnupms.domain.user.entity.User;
@@ -34,7 +33,7 @@ public class TaskFileService {
         private final TaskFileRepository taskFileRepository;
         private final ProjectFileRepository projectFileRepository;
         private final TaskRepository taskRepository;
-        private final ProjectMemberRepository projectMemberRepository;
+        private final AccessResolver accessResolver;
         private final UserRepository userRepository;
         private final S3FileService s3FileService;
 
@@ -58,9 +57,9 @@ public class TaskFileService {
                 validateTaskAccess(task, userId);
 
                 // VIEWER는 파일 업로드 불가
-                ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(project.getId(), userId)
+                ProjectRole role = accessResolver.getProjectRole(userId, project.getId())
                                 .orElseThrow(() -> new CustomException(ErrorCode.PROJECT_ACCESS_DENIED));
-                if (member.getRole() == ProjectRole.VIEWER) {
+                if (role == ProjectRole.VIEWER) {
                         throw new CustomException(ErrorCode.VIEWER_WRITE_ACCESS_DENIED);
                 }
 
@@ -181,9 +180,7 @@ public class TaskFileService {
          * 프로젝트 멤버인지만 확인 (담당자 여부와 무관하게 동일 권한)
          */
         private void validateTaskAccess(Task task, Long userId) {
-                boolean isProjectMember = projectMemberRepository.existsByProjectIdAndUserId(
-                                task.getProject().getId(), userId);
-                if (!isProjectMember) {
+                if (!accessResolver.isProjectMember(userId, task.getProject().getId())) {
                         throw new CustomException(ErrorCode.TASK_ACCESS_DENIED);
                 }
         }
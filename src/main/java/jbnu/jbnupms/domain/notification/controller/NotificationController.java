@@ -3,6 +3,7 @@ package jbnu.jbnupms.domain.notification.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jbnu.jbnupms.common.response.CommonResponse;
+import jbnu.jbnupms.common.response.CursorPageResponse;
 import jbnu.jbnupms.domain.notification.dto.NotificationResponse;
 import jbnu.jbnupms.domain.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -27,12 +28,14 @@ public class NotificationController {
 
     @Operation(
             summary = "SSE 알림 구독",
-            description = "프론트엔드에서 앱 실행 시 한 번 호출하면 이후 알림을 실시간으로 수신합니다. 연결이 끊기면 재호출이 필요합니다."
+            description = "프론트엔드에서 앱 실행 시 한 번 호출하면 이후 알림을 실시간으로 수신합니다. 탭/기기별로 여러 연결을 유지할 수 있으며, " +
+                    "연결이 끊겨 재연결할 때 Last-Event-ID 헤더를 보내면 그 사이 놓친 알림을 재전송합니다. 주기적으로 heartbeat 주석 이벤트가 전송됩니다."
     )
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@AuthenticationPrincipal UserDetails userDetails) {
+    public SseEmitter subscribe(@AuthenticationPrincipal UserDetails userDetails,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Long userId = Long.parseLong(userDetails.getUsername());
-        return notificationService.subscribe(userId);
+        return notificationService.subscribe(userId, lastEventId);
     }
 
     @Operation(summary = "알림 목록 조회")
@@ -46,6 +49,19 @@ public class NotificationController {
                 notificationService.getNotifications(userId, pageable)));
     }
 
+    @Operation(summary = "알림 목록 커서 조회",
+            description = "최신순으로 커서(키셋) 페이징 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. withTotal=true 일 때만 전체 개수를 계산합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CommonResponse<CursorPageResponse<NotificationResponse>>> getNotificationsByCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(
+                notificationService.getNotificationsByCursor(userId, cursor, size, withTotal)));
+    }
+
     @Operation(summary = "읽지 않은 알림 개수")
     @GetMapping("/unread-count")
     public ResponseEntity<CommonResponse<Long>> getUnreadCount(
@@ -0,0 +1,10 @@
+package jbnu.jbnupms.domain.notification.dto;
+
+// 알림 합치기 대상 (인터페이스 기반 Projection) - 엔티티로 읽지 않으므로 UPDATE 후 영속성 컨텍스트에 오래된 값이 남지 않음
+public interface CoalesceTargetView {
+    Long getId();
+
+    Long getReceiverId();
+
+    int getGroupCount();
+}
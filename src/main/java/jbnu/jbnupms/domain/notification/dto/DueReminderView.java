@@ -0,0 +1,10 @@
+package jbnu.jbnupms.domain.notification.dto;
+
+// 마감 리마인더 대상 조회 결과 (대상 태스크/프로젝트 + 수신자, 인터페이스 기반 Projection)
+public interface DueReminderView {
+    Long getTargetId();
+
+    String getTitle();
+
+    Long getUserId();
+}
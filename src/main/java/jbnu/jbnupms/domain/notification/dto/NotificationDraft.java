@@ -0,0 +1,18 @@
+package jbnu.jbnupms.domain.notification.dto;
+
+import jbnu.jbnupms.domain.notification.entity.NotificationType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 일괄 발송용: 같은 내용을 받을 수신자 묶음 하나
+@Getter
+@RequiredArgsConstructor
+public class NotificationDraft {
+    private final List<Long>       receiverIds;
+    private final NotificationType type;
+    private final String           title;
+    private final String           content;
+    private final String           relatedUrl;
+}
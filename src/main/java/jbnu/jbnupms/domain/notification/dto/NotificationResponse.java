@@ -16,6 +16,7 @@ public class NotificationResponse {
     private String           content;
     private String           relatedUrl;
     private boolean          isRead;
+    private int              groupCount;
     private LocalDateTime    createdAt;
 
     public static NotificationResponse from(Notification n) {
@@ -26,6 +27,7 @@ public class NotificationResponse {
                 .content   (n.getContent())
                 .relatedUrl(n.getRelatedUrl())
                 .isRead    (n.isRead())
+                .groupCount(n.getGroupCount())
                 .createdAt (n.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,8 @@
+package jbnu.jbnupms.domain.notification.dto;
+
+// 수신자별 읽지 않은 알림 수 집계 결과 (인터페이스 기반 Projection)
+public interface UnreadCountView {
+    Long getReceiverId();
+
+    Long getUnreadCount();
+}
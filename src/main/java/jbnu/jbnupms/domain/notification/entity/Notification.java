@@ -3,20 +3,29 @@ package jbnu.jbnupms.domain.notification.entity;
 import jakarta.persistence.*;
 import jbnu.jbnupms.domain.user.entity.User;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "notifications", indexes = {
         @Index(name = "idx_notification_receiver_read", columnList = "receiver_id, is_read"),
-        @Index(name = "idx_notification_created_at",   columnList = "created_at")
+        // 보관 대상 조회용 (is_read = true 범위 안에서 created_at, id 순으로 바로 읽음)
+        @Index(name = "idx_notification_read_created",  columnList = "is_read, created_at, id"),
+        // 알림 키셋 페이징용 (receiver_id, created_at, id)
+        @Index(name = "idx_notification_receiver_created", columnList = "receiver_id, created_at, id")
 })
+// 읽음 처리 등 dirty checking UPDATE 는 바뀐 컬럼만 전송 (합치기 UPDATE 와 서로 덮어쓰지 않도록)
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -39,7 +48,13 @@ public class Notification {
     @Column(nullable = false)
     private boolean isRead = false;
 
-    @Column(nullable = false, updatable = false)
+    // 같은 대상에 대한 같은 유형의 알림이 합쳐진 개수 (1 = 합쳐지지 않음)
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private int groupCount = 1;
+
+    // 알림 합치기 시 갱신됨 (NotificationRepository.coalesce) → 목록 맨 위로 올라오고 재연결 재전송 대상이 됨
+    @Column(nullable = false)
     private LocalDateTime createdAt;
 
     @Builder
@@ -51,7 +66,14 @@ public class Notification {
         this.content    = content;
         this.relatedUrl = relatedUrl;
         this.isRead     = false;
-        this.createdAt  = LocalDateTime.now();
+        this.groupCount = 1;
+        // DB(마이크로초) 정밀도에 맞춰 저장 전후 값이 같도록 → SSE 이벤트 ID(커서) 비교가 어긋나지 않음
+        this.createdAt  = now();
+    }
+
+    // DB(마이크로초) 정밀도에 맞춘 현재 시각
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     public void markAsRead() {
@@ -0,0 +1,55 @@
+package jbnu.jbnupms.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 읽은 알림 (notifications 에서 옮겨 온 행)
+ * - notifications 에는 최근 알림과 읽지 않은 알림만 남아 목록/커서 조회가 작은 테이블만 읽는다
+ * - 행은 NotificationArchiveService 의 INSERT ... SELECT 로만 만들어지며 id 는 원래 알림 id 를 그대로 쓴다
+ * - 수신자 탈퇴와 무관하게 보관되도록 users FK 는 두지 않는다
+ */
+@Entity
+@Table(name = "notification_archive", indexes = {
+        @Index(name = "idx_notification_archive_receiver_created", columnList = "receiver_id, created_at, id"),
+        @Index(name = "idx_notification_archive_archived_at", columnList = "archived_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(length = 500)
+    private String relatedUrl;
+
+    @Column(nullable = false)
+    private boolean isRead;
+
+    @Column(nullable = false)
+    private int groupCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
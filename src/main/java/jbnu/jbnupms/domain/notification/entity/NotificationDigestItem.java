@@ -0,0 +1,47 @@
+package jbnu.jbnupms.domain.notification.entity;
+
+import jakarta.persistence.*;
+import jbnu.jbnupms.domain.user.entity.User;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일일 요약으로 모아 둘 마감 알림 한 건
+ * - 요약 모드에서는 마감 알림을 바로 만들지 않고 여기에 쌓았다가 NotificationDigestJob 이 수신자별 알림 1건으로 합친 뒤 삭제
+ */
+@Entity
+@Table(name = "notification_digest_items", indexes = {
+        @Index(name = "idx_digest_item_receiver", columnList = "receiver_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationDigestItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_digest_item_seq")
+    @SequenceGenerator(name = "notification_digest_item_seq", sequenceName = "notification_digest_item_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "receiver_id", nullable = false)
+    private User receiver;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 300)
+    private String summary;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public NotificationDigestItem(User receiver, NotificationType type, String summary) {
+        this.receiver  = receiver;
+        this.type      = type;
+        this.summary   = summary;
+        this.createdAt = LocalDateTime.now();
+    }
+}
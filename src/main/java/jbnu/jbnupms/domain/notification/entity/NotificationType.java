@@ -7,5 +7,6 @@ public enum NotificationType {
     TASK_DUE,
     TASK_OVERDUE,
     PROJECT_DUE,
-    PROJECT_OVERDUE
+    PROJECT_OVERDUE,
+    DIGEST              // 마감 알림 일일 요약
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package jbnu.jbnupms.domain.notification.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
 @Getter
-@RequiredArgsConstructor
+@RequiredArgsConstructor(onConstructor_ = @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)) // 아웃박스 JSON 복원용
 public class CommentCreatedEvent {
     private final Long       taskId;
     private final String     taskTitle;
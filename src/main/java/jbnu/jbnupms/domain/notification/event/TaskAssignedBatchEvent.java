@@ -0,0 +1,14 @@
+package jbnu.jbnupms.domain.notification.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 일괄 작업에서 발생한 배정 알림을 하나의 이벤트로 묶어 발행
+@Getter
+@RequiredArgsConstructor(onConstructor_ = @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)) // 아웃박스 JSON 복원용
+public class TaskAssignedBatchEvent {
+    private final List<TaskAssignedEvent> assignments;
+}
@@ -1,10 +1,11 @@
 package jbnu.jbnupms.domain.notification.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor
+@RequiredArgsConstructor(onConstructor_ = @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)) // 아웃박스 JSON 복원용
 public class TaskAssignedEvent {
     private final Long   taskId;
     private final String taskTitle;
@@ -0,0 +1,14 @@
+package jbnu.jbnupms.domain.notification.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 마감 스케줄러가 한 청크의 마감 알림을 하나의 이벤트로 묶어 발행
+@Getter
+@RequiredArgsConstructor(onConstructor_ = @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)) // 아웃박스 JSON 복원용
+public class TaskDueBatchEvent {
+    private final List<TaskDueEvent> tasks;
+}
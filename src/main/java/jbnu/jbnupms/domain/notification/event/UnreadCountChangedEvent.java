@@ -0,0 +1,28 @@
+package jbnu.jbnupms.domain.notification.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 읽지 않은 알림 수가 바뀌어 Redis 카운터를 커밋 이후 갱신해야 할 때 발행
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UnreadCountChangedEvent {
+    private final List<Long> userIds;
+    private final long       delta;
+    private final boolean    reset;   // true 면 delta 대신 0 으로 설정 (모두 읽음)
+
+    public static UnreadCountChangedEvent increment(List<Long> userIds) {
+        return new UnreadCountChangedEvent(userIds, 1, false);
+    }
+
+    public static UnreadCountChangedEvent decrement(Long userId) {
+        return new UnreadCountChangedEvent(List.of(userId), -1, false);
+    }
+
+    public static UnreadCountChangedEvent reset(Long userId) {
+        return new UnreadCountChangedEvent(List.of(userId), 0, true);
+    }
+}
@@ -1,14 +1,18 @@
 package jbnu.jbnupms.domain.notification.listener;
 
+import jbnu.jbnupms.domain.notification.dto.NotificationDraft;
 import jbnu.jbnupms.domain.notification.entity.NotificationType;
 import jbnu.jbnupms.domain.notification.event.*;
+import jbnu.jbnupms.domain.notification.service.NotificationDigestService;
 import jbnu.jbnupms.domain.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -16,27 +20,26 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class NotificationEventListener {
 
     private final NotificationService notificationService;
+    private final NotificationDigestService notificationDigestService;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 댓글/배정/초대/마감 이벤트는 업무(청크) 트랜잭션에서 아웃박스에 기록되고, OutboxRelay 가 커밋 이후
+    // 이벤트별 트랜잭션 안에서 다시 발행한다 → 여기서는 동기로 처리 (실패 시 예외가 릴레이로 전달되어 재시도)
+    @EventListener
     public void onCommentCreated(CommentCreatedEvent event) {
         String preview = event.getCommentContent().length() > 50
                 ? event.getCommentContent().substring(0, 50) + "..."
                 : event.getCommentContent();
 
-        event.getReceiverIds().forEach(receiverId ->
-                notificationService.send(
-                        receiverId,
-                        NotificationType.COMMENT,
-                        "[" + event.getTaskTitle() + "] 새 댓글",
-                        event.getCommentAuthorName() + ": " + preview,
-                        "/tasks/" + event.getTaskId()
-                )
+        notificationService.sendAll(
+                event.getReceiverIds(),
+                NotificationType.COMMENT,
+                "[" + event.getTaskTitle() + "] 새 댓글",
+                event.getCommentAuthorName() + ": " + preview,
+                "/tasks/" + event.getTaskId()
         );
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void onTaskAssigned(TaskAssignedEvent event) {
         notificationService.send(
                 event.getAssigneeId(),
@@ -47,8 +50,13 @@ public class NotificationEventListener {
         );
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 일괄 작업 배정 알림: 릴레이 작업 하나에서 순서대로 처리
+    @EventListener
+    public void onTaskAssignedBatch(TaskAssignedBatchEvent event) {
+        event.getAssignments().forEach(this::onTaskAssigned);
+    }
+
+    @EventListener
     public void onSpaceInvited(SpaceInvitedEvent event) {
         notificationService.send(
                 event.getInvitedUserId(),
@@ -59,34 +67,42 @@ public class NotificationEventListener {
         );
     }
 
-    // fallbackExecution = true : 스케줄러처럼 트랜잭션 없는 곳에서도 동작
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
-    public void onTaskDue(TaskDueEvent event) {
-        NotificationType type  = event.isOverdue() ? NotificationType.TASK_OVERDUE  : NotificationType.TASK_DUE;
-        String           title = event.isOverdue() ? "태스크 마감일이 초과되었습니다"  : "태스크 마감일이 도래했습니다";
+    // 마감 스케줄러가 청크 단위로 묶어 청크 트랜잭션의 아웃박스에 기록 → 릴레이 작업 하나에서 일괄 저장
+    @EventListener
+    public void onTaskDueBatch(TaskDueBatchEvent event) {
+        List<NotificationDraft> drafts = event.getTasks().stream().map(task -> new NotificationDraft(
+                task.getAssigneeIds(),
+                task.isOverdue() ? NotificationType.TASK_OVERDUE : NotificationType.TASK_DUE,
+                task.isOverdue() ? "태스크 마감일이 초과되었습니다" : "태스크 마감일이 도래했습니다",
+                "[" + task.getTaskTitle() + "]",
+                "/tasks/" + task.getTaskId()
+        )).collect(Collectors.toList());
 
-        event.getAssigneeIds().forEach(receiverId ->
-                notificationService.send(
-                        receiverId, type, title,
-                        "[" + event.getTaskTitle() + "]",
-                        "/tasks/" + event.getTaskId()
-                )
-        );
+        // 요약 모드면 바로 보내지 않고 일일 요약 항목으로 쌓음
+        Map<Boolean, List<NotificationDraft>> digested = drafts.stream()
+                .collect(Collectors.partitioningBy(draft -> notificationDigestService.isDigested(draft.getType())));
+        notificationDigestService.collectBatch(digested.get(true));
+        notificationService.sendBatch(digested.get(false));
+    }
+
+    @EventListener
+    public void onProjectDueBatch(ProjectDueBatchEvent event) {
+        event.getProjects().forEach(this::onProjectDue);
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @EventListener
     public void onProjectDue(ProjectDueEvent event) {
         NotificationType type  = event.isOverdue() ? NotificationType.PROJECT_OVERDUE  : NotificationType.PROJECT_DUE;
         String           title = event.isOverdue() ? "프로젝트 마감일이 초과되었습니다" : "프로젝트 마감일이 도래했습니다";
 
-        event.getMemberIds().forEach(receiverId ->
-                notificationService.send(
-                        receiverId, type, title,
-                        "[" + event.getProjectName() + "]",
-                        "/projects/" + event.getProjectId()
-                )
+        if (notificationDigestService.isDigested(type)) {
+            notificationDigestService.collect(event.getMemberIds(), type, "[" + event.getProjectName() + "]");
+            return;
+        }
+        notificationService.sendAll(
+                event.getMemberIds(), type, title,
+                "[" + event.getProjectName() + "]",
+                "/projects/" + event.getProjectId()
         );
     }
 }
\ No newline at end of file
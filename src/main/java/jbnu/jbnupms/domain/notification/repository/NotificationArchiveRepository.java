@@ -0,0 +1,31 @@
+package jbnu.jbnupms.domain.notification.repository;
+
+import jbnu.jbnupms.domain.notification.entity.NotificationArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    // notifications → notification_archive 복사 (한 배치를 INSERT ... SELECT 1회로)
+    @Modifying
+    @Query(value = "INSERT INTO notification_archive " +
+            "(id, receiver_id, type, title, content, related_url, is_read, group_count, created_at, archived_at) " +
+            "SELECT id, receiver_id, type, title, content, related_url, is_read, group_count, created_at, :archivedAt " +
+            "FROM notifications WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromNotifications(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // 보관 기간도 지난 행 (archived_at 순)
+    @Query("SELECT a.id FROM NotificationArchive a WHERE a.archivedAt < :before ORDER BY a.archivedAt, a.id")
+    List<Long> findPurgeableIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM NotificationArchive a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package jbnu.jbnupms.domain.notification.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import jbnu.jbnupms.domain.notification.entity.NotificationDigestItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface NotificationDigestItemRepository extends JpaRepository<NotificationDigestItem, Long> {
+
+    // 수신자 순으로 잠금 (SKIP LOCKED : 다른 Pod 가 처리 중인 항목은 건너뜀)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM NotificationDigestItem i ORDER BY i.receiver.id, i.id")
+    List<NotificationDigestItem> findBatchForUpdate(Pageable pageable);
+}
@@ -1,13 +1,24 @@
 package jbnu.jbnupms.domain.notification.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import jbnu.jbnupms.domain.notification.dto.CoalesceTargetView;
+import jbnu.jbnupms.domain.notification.dto.UnreadCountView;
 import jbnu.jbnupms.domain.notification.entity.Notification;
+import jbnu.jbnupms.domain.notification.entity.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     @Query("SELECT n FROM Notification n WHERE n.receiver.id = :receiverId " +
@@ -15,8 +26,75 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Page<Notification> findByReceiverIdOrderByIsReadAscCreatedAtDesc(
             @Param("receiverId") Long receiverId, Pageable pageable);
 
+    // 키셋 페이징: 첫 페이지 (createdAt DESC, id DESC)
+    @Query("SELECT n FROM Notification n WHERE n.receiver.id = :receiverId " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatestByReceiverId(
+            @Param("receiverId") Long receiverId, Pageable pageable);
+
+    // SSE 재연결 시 놓친 알림 재전송: 커서 (createdAt, id) 보다 새 알림을 오래된 순으로
+    @Query("SELECT n FROM Notification n WHERE n.receiver.id = :receiverId " +
+            "AND (n.createdAt > :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id > :cursorId)) " +
+            "ORDER BY n.createdAt ASC, n.id ASC")
+    List<Notification> findByReceiverIdAfterCursor(
+            @Param("receiverId") Long receiverId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 키셋 페이징: 커서 (createdAt, id) 이후 페이지
+    @Query("SELECT n FROM Notification n WHERE n.receiver.id = :receiverId " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByReceiverIdBeforeCursor(
+            @Param("receiverId") Long receiverId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 알림 합치기 대상: 수신자별로 같은 유형/대상(relatedUrl)의 아직 읽지 않은 최근 알림
+    @Query("SELECT n.id AS id, n.receiver.id AS receiverId, n.groupCount AS groupCount FROM Notification n " +
+            "WHERE n.receiver.id IN :receiverIds " +
+            "AND n.type = :type AND n.relatedUrl = :relatedUrl AND n.isRead = false AND n.createdAt >= :since " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<CoalesceTargetView> findCoalesceTargets(
+            @Param("receiverIds") Collection<Long> receiverIds,
+            @Param("type") NotificationType type,
+            @Param("relatedUrl") String relatedUrl,
+            @Param("since") LocalDateTime since);
+
+    // 알림 합치기: 합친 개수/내용/시각 컬럼만 갱신 (전체 행 UPDATE 가 동시에 들어온 읽음 처리를 덮어쓰지 않도록)
+    // - 조회 이후 읽혔거나(is_read) 다른 요청이 먼저 합쳤으면(group_count) 0 을 반환 → 호출 측에서 새 알림으로 저장
+    @Modifying
+    @Query("UPDATE Notification n SET n.groupCount = n.groupCount + 1, n.title = :title, " +
+            "n.content = :content, n.createdAt = :createdAt " +
+            "WHERE n.id = :id AND n.isRead = false AND n.groupCount = :groupCount")
+    int coalesce(@Param("id") Long id,
+                 @Param("groupCount") int groupCount,
+                 @Param("title") String title,
+                 @Param("content") String content,
+                 @Param("createdAt") LocalDateTime createdAt);
+
+    long countByReceiverId(Long receiverId);
+
     long countByReceiverIdAndIsReadFalse(Long receiverId);
 
+    // 읽지 않은 알림 수 카운터 재계산용: 여러 수신자를 한 번에 집계 (0건인 수신자는 결과에 없음)
+    @Query("SELECT n.receiver.id AS receiverId, COUNT(n) AS unreadCount FROM Notification n " +
+            "WHERE n.receiver.id IN :receiverIds AND n.isRead = false GROUP BY n.receiver.id")
+    List<UnreadCountView> countUnreadByReceiverIdIn(@Param("receiverIds") Collection<Long> receiverIds);
+
+    // 보관 대상: 기준 시각보다 오래된 읽은 알림 (SKIP LOCKED : 다른 Pod 가 옮기는 중인 행은 건너뜀)
+    // - idx_notification_read_created (is_read, created_at, id) 로 정렬 없이 앞에서부터 읽음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM Notification n WHERE n.isRead = true AND n.createdAt < :before ORDER BY n.createdAt, n.id")
+    List<Notification> findArchivableForUpdate(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true " +
             "WHERE n.receiver.id = :receiverId AND n.isRead = false")
@@ -0,0 +1,168 @@
+package jbnu.jbnupms.domain.notification.scheduler;
+
+import jbnu.jbnupms.common.checkpoint.SweepCheckpoint;
+import jbnu.jbnupms.common.checkpoint.SweepCheckpointService;
+import jbnu.jbnupms.common.lock.SchedulerLockService;
+import jbnu.jbnupms.domain.notification.dto.DueReminderView;
+import jbnu.jbnupms.domain.notification.dto.NotificationDraft;
+import jbnu.jbnupms.domain.notification.entity.NotificationType;
+import jbnu.jbnupms.domain.notification.service.NotificationService;
+import jbnu.jbnupms.domain.project.entity.ProjectStatus;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 마감 리마인더 (자정 일괄 발송 대신 1분 주기로 연속 발송)
+ * - 마감일(dueDate)은 수신자 시간대의 벽시계 시각으로 보고, 마감 offsets(기본 24시간, 1시간) 전 시각이
+ *   이번 주기 구간 (from, to] 에 든 태스크 담당자/프로젝트 멤버에게 알림
+ *   → 마감 시각과 시간대가 고르게 퍼져 있으므로 알림도 하루에 걸쳐 나뉘어 나간다
+ * - 구간 조회는 시간대 × offset 마다 마감일 범위 조건으로 due_date 인덱스를 탄다
+ * - 마지막으로 처리한 시각(워터마크)을 알림 저장과 같은 트랜잭션에 커밋 → 실패하면 다음 주기에 같은 구간을 다시 처리
+ * - 요약 모드(notification.digest.enabled)여도 바로 발송 → 하루 한 번 나가는 요약에 넣으면 "1시간 전" 알림이 마감 뒤에 도착할 수 있음
+ * - 잠금을 잡은 Pod 하나만 실행, 오래 멈췄다 재개하면 max-catch-up 만큼만 거슬러 올라가 처리
+ */
+@Slf4j
+@Component
+public class DeadlineReminderScheduler {
+
+    private static final String LOCK_NAME = "deadline-reminder";
+    private static final String WATERMARK = LOCK_NAME + ":watermark";
+
+    private final TaskAssigneeRepository taskAssigneeRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final SchedulerLockService schedulerLockService;
+    private final SweepCheckpointService sweepCheckpointService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.reminder.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.reminder.interval-ms:60000}")
+    private long intervalMs;
+
+    @Value("${notification.reminder.max-catch-up-minutes:60}")
+    private long maxCatchUpMinutes;
+
+    private final List<Duration> offsets;
+
+    public DeadlineReminderScheduler(TaskAssigneeRepository taskAssigneeRepository,
+                                     ProjectMemberRepository projectMemberRepository,
+                                     UserRepository userRepository,
+                                     NotificationService notificationService,
+                                     SchedulerLockService schedulerLockService,
+                                     SweepCheckpointService sweepCheckpointService,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${notification.reminder.offsets:24h,1h}") List<String> offsets) {
+        this.taskAssigneeRepository = taskAssigneeRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.schedulerLockService = schedulerLockService;
+        this.sweepCheckpointService = sweepCheckpointService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.offsets = offsets.stream().map(String::trim).map(DurationStyle::detectAndParse).collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.reminder.interval-ms:60000}")
+    public void tick() {
+        if (!enabled) return;
+        // 1분 주기 작업이므로 끝나면 바로 잠금을 놓음 (중복 처리는 워터마크로 막음)
+        schedulerLockService.runWithLock(LOCK_NAME, 0, () -> transactionTemplate.executeWithoutResult(status -> {
+            Instant to = Instant.now();
+            SweepCheckpoint watermark = sweepCheckpointService.begin(WATERMARK);
+            Instant earliest = to.minus(Duration.ofMinutes(maxCatchUpMinutes));
+            Instant from = watermark.getLastId() > 0 ? Instant.ofEpochSecond(watermark.getLastId()) : to.minusMillis(intervalMs);
+            if (from.isBefore(earliest)) {
+                log.warn("[Scheduler] 리마인더 구간이 너무 길어 최근 {}분만 처리. 건너뛴 구간 시작={}", maxCatchUpMinutes, from);
+                from = earliest;
+            }
+            remind(from, to);
+            sweepCheckpointService.advance(WATERMARK, to.getEpochSecond());
+        }));
+    }
+
+    /**
+     * 리마인더 시각이 (from, to] 에 드는 대상에게 알림 발송
+     * @return 발송 대상 (태스크/프로젝트 × offset) 수
+     */
+    public int remind(Instant from, Instant to) {
+        if (!from.isBefore(to)) return 0;
+
+        List<NotificationDraft> drafts = new ArrayList<>();
+        for (String timeZone : userRepository.findDistinctTimeZones()) {
+            ZoneId zone;
+            try {
+                zone = ZoneId.of(timeZone);
+            } catch (DateTimeException e) {
+                log.warn("[Scheduler] 알 수 없는 시간대라 리마인더 제외. timeZone={}", timeZone);
+                continue;
+            }
+            LocalDateTime localFrom = LocalDateTime.ofInstant(from, zone);
+            LocalDateTime localTo = LocalDateTime.ofInstant(to, zone);
+
+            // 리마인더 시각 = 마감 - offset ∈ (from, to]  ⇔  마감 ∈ (from + offset, to + offset]
+            for (Duration offset : offsets) {
+                String label = label(offset);
+                group(taskAssigneeRepository.findReminderTargets(
+                        localFrom.plus(offset), localTo.plus(offset), TaskStatus.DONE, timeZone))
+                        .forEach((target, receiverIds) -> drafts.add(new NotificationDraft(
+                                receiverIds, NotificationType.TASK_DUE,
+                                "태스크 마감 " + label + " 전입니다",
+                                "[" + target.getTitle() + "]",
+                                "/tasks/" + target.getTargetId())));
+                group(projectMemberRepository.findReminderTargets(
+                        localFrom.plus(offset), localTo.plus(offset), ProjectStatus.DONE, timeZone))
+                        .forEach((target, receiverIds) -> drafts.add(new NotificationDraft(
+                                receiverIds, NotificationType.PROJECT_DUE,
+                                "프로젝트 마감 " + label + " 전입니다",
+                                "[" + target.getTitle() + "]",
+                                "/projects/" + target.getTargetId())));
+            }
+        }
+        notificationService.sendBatch(drafts);
+        return drafts.size();
+    }
+
+    // 대상(태스크/프로젝트)별 수신자 묶음
+    private Map<DueReminderView, List<Long>> group(List<DueReminderView> rows) {
+        Map<Long, DueReminderView> targets = new LinkedHashMap<>();
+        Map<Long, List<Long>> receiverIds = new LinkedHashMap<>();
+        for (DueReminderView row : rows) {
+            targets.putIfAbsent(row.getTargetId(), row);
+            receiverIds.computeIfAbsent(row.getTargetId(), id -> new ArrayList<>()).add(row.getUserId());
+        }
+        Map<DueReminderView, List<Long>> grouped = new LinkedHashMap<>();
+        targets.forEach((id, target) -> grouped.put(target, receiverIds.get(id)));
+        return grouped;
+    }
+
+    // 24h → "24시간", 90m → "1시간 30분"
+    private String label(Duration offset) {
+        long hours = offset.toHours();
+        int minutes = offset.toMinutesPart();
+        if (hours == 0) return minutes + "분";
+        return minutes == 0 ? hours + "시간" : hours + "시간 " + minutes + "분";
+    }
+}
@@ -0,0 +1,74 @@
+package jbnu.jbnupms.domain.notification.scheduler;
+
+import jbnu.jbnupms.domain.notification.service.NotificationArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 알림 보관 작업 (기본 매일 03:30)
+ * - 읽은 지 오래된 알림(notification.archive.read-retention-days)을 notification_archive 로 이동
+ * - 보관 테이블에서도 기간(notification.archive.purge-after-days, 0 이면 삭제 안 함)이 지난 행은 삭제
+ * - 배치마다 트랜잭션을 나누고 배치 사이에 잠시 쉬어 운영 중 락/IO 부담을 제한한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationArchiveJob {
+
+    private final NotificationArchiveService notificationArchiveService;
+
+    @Value("${notification.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.archive.read-retention-days:30}")
+    private int readRetentionDays;
+
+    @Value("${notification.archive.purge-after-days:365}")
+    private int purgeAfterDays;
+
+    @Value("${notification.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${notification.archive.batch-pause-ms:100}")
+    private long batchPauseMillis;
+
+    @Scheduled(cron = "${notification.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int archived = runInBatches(() -> notificationArchiveService.archiveBatch(now.minusDays(readRetentionDays), batchSize));
+        int purged = purgeAfterDays > 0
+                ? runInBatches(() -> notificationArchiveService.purgeBatch(now.minusDays(purgeAfterDays), batchSize))
+                : 0;
+        log.info("[Scheduler] 알림 보관 완료. 이동 {}건, 삭제 {}건", archived, purged);
+    }
+
+    private int runInBatches(IntSupplier step) {
+        int total = 0;
+        int processed;
+        do {
+            processed = step.getAsInt();
+            total += processed;
+            if (processed >= batchSize && !pause()) break;
+        } while (processed >= batchSize);
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
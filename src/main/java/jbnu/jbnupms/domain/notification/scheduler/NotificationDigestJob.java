@@ -0,0 +1,33 @@
+package jbnu.jbnupms.domain.notification.scheduler;
+
+import jbnu.jbnupms.domain.notification.service.NotificationDigestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마감 알림 일일 요약 발송 (기본 매일 오전 9시)
+ * - 배치마다 항목을 SKIP LOCKED 로 잠그므로 여러 Pod 에서 동시에 돌아도 같은 항목을 두 번 보내지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDigestJob {
+
+    private final NotificationDigestService notificationDigestService;
+
+    @Scheduled(cron = "${notification.digest.cron:0 0 9 * * *}")
+    public void sendDailyDigest() {
+        if (!notificationDigestService.isEnabled()) {
+            return;
+        }
+        int total = 0;
+        int processed;
+        do {
+            processed = notificationDigestService.flushBatch();
+            total += processed;
+        } while (processed > 0);
+        log.info("[Scheduler] 마감 알림 요약 발송 완료. 항목 {}건", total);
+    }
+}
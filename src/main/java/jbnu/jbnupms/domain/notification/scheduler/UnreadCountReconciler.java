@@ -0,0 +1,61 @@
+package jbnu.jbnupms.domain.notification.scheduler;
+
+import jbnu.jbnupms.domain.notification.dto.UnreadCountView;
+import jbnu.jbnupms.domain.notification.repository.NotificationRepository;
+import jbnu.jbnupms.domain.notification.service.UnreadCountCache;
+import jbnu.jbnupms.domain.notification.sse.SseEmitterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽지 않은 알림 수 카운터 재계산
+ * - 이 Pod 에 SSE 로 연결된 유저(= 뱃지를 보고 있는 유저)만 DB 에서 다시 집계해 Redis 값을 덮어쓴다
+ * - 커밋 직후 증감과 동시에 읽은 값이 어긋나는 경우를 주기적으로 바로잡는 용도
+ * - 집계는 수신자 CHUNK_SIZE 명당 GROUP BY 쿼리 1회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountReconciler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final UnreadCountCache unreadCountCache;
+
+    @Value("${notification.unread.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(fixedDelayString = "${notification.unread.reconcile.interval-ms:300000}")
+    public void reconcileConnectedUsers() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>(sseEmitterRegistry.getConnectedUserIds());
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+            unreadCountCache.overwrite(countUnread(chunk));
+        }
+        if (!userIds.isEmpty()) {
+            log.debug("[Scheduler] 읽지 않은 알림 수 재계산 {}명", userIds.size());
+        }
+    }
+
+    private Map<Long, Long> countUnread(List<Long> userIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        userIds.forEach(userId -> counts.put(userId, 0L));
+        for (UnreadCountView view : notificationRepository.countUnreadByReceiverIdIn(userIds)) {
+            counts.put(view.getReceiverId(), view.getUnreadCount());
+        }
+        return counts;
+    }
+}
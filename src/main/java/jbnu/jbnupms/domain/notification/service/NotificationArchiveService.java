@@ -0,0 +1,53 @@
+package jbnu.jbnupms.domain.notification.service;
+
+import jbnu.jbnupms.domain.notification.entity.Notification;
+import jbnu.jbnupms.domain.notification.repository.NotificationArchiveRepository;
+import jbnu.jbnupms.domain.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 보관/삭제 (배치 단위 트랜잭션)
+ * - 오래된 읽은 알림을 notification_archive 로 옮겨 notifications 를 최근/읽지 않은 알림만 남은 작은 테이블로 유지
+ * - 읽지 않은 알림은 옮기지 않으므로 읽지 않은 수 카운터에는 영향이 없다
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationArchiveService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+
+    /**
+     * before 이전의 읽은 알림을 최대 batchSize 건 옮긴다
+     * @return 옮긴 건수
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime before, int batchSize) {
+        List<Long> ids = notificationRepository.findArchivableForUpdate(before, PageRequest.of(0, batchSize))
+                .stream()
+                .map(Notification::getId)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) return 0;
+
+        notificationArchiveRepository.copyFromNotifications(ids, LocalDateTime.now());
+        return notificationRepository.deleteByIdIn(ids);
+    }
+
+    /**
+     * 보관된 지 before 이전인 행을 최대 batchSize 건 삭제한다
+     * @return 삭제 건수
+     */
+    @Transactional
+    public int purgeBatch(LocalDateTime before, int batchSize) {
+        List<Long> ids = notificationArchiveRepository.findPurgeableIds(before, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) return 0;
+        return notificationArchiveRepository.deleteByIdIn(ids);
+    }
+}
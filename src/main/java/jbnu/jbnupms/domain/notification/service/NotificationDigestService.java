@@ -0,0 +1,143 @@
+package jbnu.jbnupms.domain.notification.service;
+
+import jbnu.jbnupms.domain.notification.dto.NotificationDraft;
+import jbnu.jbnupms.domain.notification.entity.Notification;
+import jbnu.jbnupms.domain.notification.entity.NotificationDigestItem;
+import jbnu.jbnupms.domain.notification.entity.NotificationType;
+import jbnu.jbnupms.domain.notification.repository.NotificationDigestItemRepository;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 마감 알림 일일 요약 (notification.digest.enabled=true 일 때)
+ * - TASK_DUE/TASK_OVERDUE/PROJECT_DUE/PROJECT_OVERDUE 알림을 바로 만들지 않고 항목으로 쌓아 둔다
+ * - NotificationDigestJob 이 하루 한 번 수신자별 DIGEST 알림 1건으로 합쳐 저장/전송하고 항목을 삭제한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDigestService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_LINES = 20;
+
+    // 요약 대상 유형 → 요약 한 줄 앞에 붙는 표시
+    private static final Map<NotificationType, String> LABELS = Map.of(
+            NotificationType.TASK_DUE,        "마감 도래",
+            NotificationType.TASK_OVERDUE,    "마감 초과",
+            NotificationType.PROJECT_DUE,     "프로젝트 마감 도래",
+            NotificationType.PROJECT_OVERDUE, "프로젝트 마감 초과");
+
+    private final NotificationDigestItemRepository notificationDigestItemRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+
+    @Value("${notification.digest.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isDigested(NotificationType type) {
+        return enabled && LABELS.containsKey(type);
+    }
+
+    @Transactional
+    public void collect(Collection<Long> receiverIds, NotificationType type, String summary) {
+        if (receiverIds == null || receiverIds.isEmpty()) return;
+
+        List<Long> activeIds = userRepository.findActiveIdsByIdIn(new LinkedHashSet<>(receiverIds));
+        notificationDigestItemRepository.saveAll(activeIds.stream()
+                .map(receiverId -> NotificationDigestItem.builder()
+                        .receiver(userRepository.getReferenceById(receiverId))
+                        .type    (type)
+                        .summary (summary)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    // 마감 알림 묶음을 요약 항목으로 일괄 적재 (수신자 확인 1회 + batch insert)
+    @Transactional
+    public void collectBatch(List<NotificationDraft> drafts) {
+        Set<Long> receiverIds = drafts.stream()
+                .flatMap(draft -> draft.getReceiverIds().stream())
+                .collect(Collectors.toSet());
+        if (receiverIds.isEmpty()) return;
+
+        Set<Long> activeIds = new HashSet<>(userRepository.findActiveIdsByIdIn(receiverIds));
+        List<NotificationDigestItem> items = new ArrayList<>();
+        for (NotificationDraft draft : drafts) {
+            new LinkedHashSet<>(draft.getReceiverIds()).stream()
+                    .filter(activeIds::contains)
+                    .map(receiverId -> NotificationDigestItem.builder()
+                            .receiver(userRepository.getReferenceById(receiverId))
+                            .type    (draft.getType())
+                            .summary (draft.getContent())
+                            .build())
+                    .forEach(items::add);
+        }
+        notificationDigestItemRepository.saveAll(items);
+    }
+
+    /**
+     * 쌓인 항목 한 배치를 수신자별 요약 알림으로 바꾼다
+     * @return 처리한 항목 수 (0 이면 더 없음)
+     */
+    @Transactional
+    public int flushBatch() {
+        List<NotificationDigestItem> items =
+                notificationDigestItemRepository.findBatchForUpdate(PageRequest.of(0, BATCH_SIZE));
+        if (items.isEmpty()) return 0;
+
+        Map<Long, List<NotificationDigestItem>> byReceiver = items.stream()
+                .collect(Collectors.groupingBy(item -> item.getReceiver().getId(),
+                        LinkedHashMap::new, Collectors.toList()));
+        // 배치가 가득 찼으면 마지막 수신자의 항목이 잘렸을 수 있으므로 다음 배치로 넘김 (수신자가 하나뿐이면 그대로 처리)
+        if (items.size() == BATCH_SIZE && byReceiver.size() > 1) {
+            Long lastReceiverId = items.get(items.size() - 1).getReceiver().getId();
+            byReceiver.remove(lastReceiverId);
+        }
+
+        List<NotificationDigestItem> processed = new ArrayList<>();
+        List<Notification> digests = new ArrayList<>();
+        byReceiver.values().forEach(receiverItems -> {
+            processed.addAll(receiverItems);
+            digests.add(toDigest(receiverItems));
+        });
+        notificationService.saveAndPush(digests);
+        notificationDigestItemRepository.deleteAllInBatch(processed);
+        return processed.size();
+    }
+
+    private Notification toDigest(List<NotificationDigestItem> items) {
+        String content = items.stream()
+                .limit(MAX_LINES)
+                .map(item -> LABELS.get(item.getType()) + " " + item.getSummary())
+                .collect(Collectors.joining("\n"));
+        if (items.size() > MAX_LINES) {
+            content += "\n외 " + (items.size() - MAX_LINES) + "건";
+        }
+        return Notification.builder()
+                .receiver(items.get(0).getReceiver())
+                .type    (NotificationType.DIGEST)
+                .title   ("오늘의 마감 알림 " + items.size() + "건")
+                .content (content)
+                .build();
+    }
+}
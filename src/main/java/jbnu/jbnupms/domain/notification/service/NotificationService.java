@@ -2,22 +2,40 @@ package jbnu.jbnupms.domain.notification.service;
 
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.common.pagination.KeysetCursor;
+import jbnu.jbnupms.common.response.CursorPageResponse;
+import jbnu.jbnupms.domain.notification.dto.CoalesceTargetView;
+import jbnu.jbnupms.domain.notification.dto.NotificationDraft;
 import jbnu.jbnupms.domain.notification.dto.NotificationResponse;
 import jbnu.jbnupms.domain.notification.entity.Notification;
 import jbnu.jbnupms.domain.notification.entity.NotificationType;
+import jbnu.jbnupms.domain.notification.event.UnreadCountChangedEvent;
 import jbnu.jbnupms.domain.notification.repository.NotificationRepository;
+import jbnu.jbnupms.domain.notification.sse.NotificationPushEvent;
+import jbnu.jbnupms.domain.notification.sse.SseConnection;
+import jbnu.jbnupms.domain.notification.sse.SseEmitterRegistry;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,31 +44,62 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository         userRepository;
+    private final SseEmitterRegistry     sseEmitterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnreadCountCache       unreadCountCache;
 
-    // 이 Pod에 SSE 연결된 유저 관리
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_REPLAY_SIZE = 100;
 
-    // SSE 구독
-    public SseEmitter subscribe(Long userId) {
-        SseEmitter emitter = new SseEmitter(30 * 60 * 1000L); // 30분
+    // 알림 합치기: 이 시간 안에 같은 유형/대상의 읽지 않은 알림이 있으면 새로 만들지 않고 합침
+    @Value("${notification.coalesce.window-seconds:600}")
+    private long coalesceWindowSeconds;
+
+    @Value("${notification.coalesce.types:COMMENT}")
+    private Set<NotificationType> coalesceTypes;
 
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout   (() -> emitters.remove(userId));
-        emitter.onError     (e  -> emitters.remove(userId));
+    // SSE 구독 (같은 유저의 여러 탭/기기 연결 허용)
+    // lastEventId : 재연결 시 브라우저가 보내는 Last-Event-ID. 그 이후 알림만 재전송
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(30 * 60 * 1000L); // 30분
 
-        emitters.put(userId, emitter);
+        // 재전송 조회 전에 먼저 등록 → 그 사이 생성된 알림은 중복될 수는 있어도 누락되지 않음 (클라이언트는 id 로 중복 제거)
+        SseConnection connection = sseEmitterRegistry.add(userId, emitter);
 
         // 연결 직후 읽지 않은 개수 전달 (프론트 뱃지 초기화용)
+        long unreadCount = getUnreadCount(userId);
+        sseEmitterRegistry.enqueue(connection, SseEmitter.event()
+                .name("connected")
+                .data(Map.of("unreadCount", unreadCount)));
+        replayMissedNotifications(userId, connection, lastEventId);
+
+        return emitter;
+    }
+
+    private void replayMissedNotifications(Long userId, SseConnection connection, String lastEventId) {
+        KeysetCursor cursor;
         try {
-            long unreadCount = notificationRepository.countByReceiverIdAndIsReadFalse(userId);
-            emitter.send(SseEmitter.event()
-                    .name("connected")
-                    .data(Map.of("unreadCount", unreadCount)));
-        } catch (Exception e) {
-            emitters.remove(userId);
+            cursor = KeysetCursor.decode(lastEventId);
+        } catch (CustomException e) {
+            log.warn("잘못된 Last-Event-ID, 재전송 생략. userId={}", userId);
+            return;
         }
+        if (cursor == null || cursor.getSortKey() == null) return;
 
-        return emitter;
+        List<Notification> missed = notificationRepository.findByReceiverIdAfterCursor(
+                userId, cursor.getSortKey(), cursor.getId(), PageRequest.of(0, MAX_REPLAY_SIZE));
+        for (Notification notification : missed) {
+            // 합쳐진 알림은 기존 알림 갱신으로 전달 (클라이언트가 id 기준으로 교체)
+            sseEmitterRegistry.enqueue(connection, SseEmitter.event()
+                    .id(eventIdOf(notification))
+                    .name(notification.getGroupCount() > 1 ? "notification-updated" : "notification")
+                    .data(NotificationResponse.from(notification)));
+        }
+    }
+
+    // SSE 이벤트 ID = (createdAt, id) 커서. 시퀀스 ID 는 Pod 마다 구간이 달라 시간순이 아니므로 id 만으로는 비교 불가
+    private String eventIdOf(Notification notification) {
+        return new KeysetCursor(notification.getCreatedAt(), notification.getId()).encode();
     }
 
     // 알림 저장 + SSE 전달
@@ -72,20 +121,135 @@ public class NotificationService {
                 .relatedUrl(relatedUrl)
                 .build();
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.increment(List.of(receiverId)));
 
-        // 2. 연결된 경우 SSE로 바로 전달
-        pushToEmitter(receiverId, NotificationResponse.from(notification));
+        // 2. 커밋 후 Redis 채널로 발행 → 수신자가 연결된 Pod 에서 SSE 전달
+        eventPublisher.publishEvent(new NotificationPushEvent(
+                receiverId, "notification", eventIdOf(notification), NotificationResponse.from(notification)));
     }
 
-    private void pushToEmitter(Long userId, Object data) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) return;
-        try {
-            emitter.send(SseEmitter.event().name("notification").data(data));
-        } catch (Exception e) {
-            emitters.remove(userId);
-            log.warn("SSE 전송 실패. userId={}", userId);
+    // 같은 내용의 알림을 여러 수신자에게 일괄 저장 + SSE 전달
+    // - 수신자 확인은 ID 조회 1회, 엔티티는 getReferenceById 로 참조만 사용
+    // - INSERT 는 시퀀스 ID + JDBC batch 로 묶여 전송 (hibernate.jdbc.batch_size)
+    // - 합치기 대상 유형이면 최근 읽지 않은 같은 대상 알림에 합치고 (UPDATE + 갱신 SSE) 나머지만 새로 저장
+    @Transactional
+    public void sendAll(Collection<Long> receiverIds, NotificationType type,
+                        String title, String content, String relatedUrl) {
+        if (receiverIds == null || receiverIds.isEmpty()) return;
+
+        Set<Long> distinctIds = new LinkedHashSet<>(receiverIds);
+        Set<Long> activeIds = new HashSet<>(userRepository.findActiveIdsByIdIn(distinctIds));
+        if (activeIds.size() < distinctIds.size()) {
+            log.warn("알림 수신자 없음. receiverIds={}", distinctIds.stream()
+                    .filter(id -> !activeIds.contains(id))
+                    .collect(Collectors.toList()));
         }
+
+        Set<Long> coalescedIds = coalesce(activeIds, type, title, content, relatedUrl);
+
+        List<Notification> notifications = distinctIds.stream()
+                .filter(activeIds::contains)
+                .filter(receiverId -> !coalescedIds.contains(receiverId))
+                .map(receiverId -> Notification.builder()
+                        .receiver  (userRepository.getReferenceById(receiverId))
+                        .type      (type)
+                        .title     (title)
+                        .content   (content)
+                        .relatedUrl(relatedUrl)
+                        .build())
+                .collect(Collectors.toList());
+        saveAndPush(notifications);
+    }
+
+    // 대상이 서로 다른 알림 묶음 일괄 저장 + SSE 전달 (마감 알림 등)
+    // - 전체 수신자 확인을 조회 1회로 처리하고 한 번에 batch insert, 합치기 대상 유형만 sendAll 로 개별 처리
+    @Transactional
+    public void sendBatch(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) return;
+
+        Set<Long> receiverIds = drafts.stream()
+                .filter(draft -> !coalesceTypes.contains(draft.getType()))
+                .flatMap(draft -> draft.getReceiverIds().stream())
+                .collect(Collectors.toSet());
+        Set<Long> activeIds = receiverIds.isEmpty()
+                ? Set.of() : new HashSet<>(userRepository.findActiveIdsByIdIn(receiverIds));
+
+        List<Notification> notifications = new ArrayList<>();
+        for (NotificationDraft draft : drafts) {
+            if (coalesceTypes.contains(draft.getType())) {
+                sendAll(draft.getReceiverIds(), draft.getType(), draft.getTitle(), draft.getContent(), draft.getRelatedUrl());
+                continue;
+            }
+            new LinkedHashSet<>(draft.getReceiverIds()).stream()
+                    .filter(activeIds::contains)
+                    .map(receiverId -> Notification.builder()
+                            .receiver  (userRepository.getReferenceById(receiverId))
+                            .type      (draft.getType())
+                            .title     (draft.getTitle())
+                            .content   (draft.getContent())
+                            .relatedUrl(draft.getRelatedUrl())
+                            .build())
+                    .forEach(notifications::add);
+        }
+        saveAndPush(notifications);
+    }
+
+    // 수신자별 내용이 다른 알림 일괄 저장 + 커밋 후 읽지 않은 수 증가/SSE 전달
+    @Transactional
+    public void saveAndPush(List<Notification> notifications) {
+        if (notifications.isEmpty()) return;
+
+        notificationRepository.saveAll(notifications);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.increment(notifications.stream()
+                .map(notification -> notification.getReceiver().getId())
+                .collect(Collectors.toList())));
+
+        for (Notification notification : notifications) {
+            eventPublisher.publishEvent(new NotificationPushEvent(notification.getReceiver().getId(),
+                    "notification", eventIdOf(notification), NotificationResponse.from(notification)));
+        }
+    }
+
+    /**
+     * 창(window) 안의 같은 유형/대상 읽지 않은 알림에 합침
+     * - 이미 읽지 않은 알림이 있으므로 읽지 않은 수는 그대로이고, 커밋 후 "notification-updated" SSE 로 갱신 내용을 보낸다
+     * - 합친 행은 생성 시각을 새로 찍어 목록 맨 위로 올리고, 재연결 시 Last-Event-ID 이후 재전송에도 포함되게 한다
+     * - 개수/내용/시각 컬럼만 조건부 UPDATE 하므로 그 사이 읽음 처리된 알림은 합치지 않고 새 알림으로 저장된다
+     * @return 합쳐진 수신자 ID
+     */
+    private Set<Long> coalesce(Set<Long> receiverIds, NotificationType type,
+                               String title, String content, String relatedUrl) {
+        if (!coalesceTypes.contains(type) || relatedUrl == null || receiverIds.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime now = Notification.now();
+        LocalDateTime since = now.minusSeconds(coalesceWindowSeconds);
+        Set<Long> targetedIds = new HashSet<>();
+        Set<Long> coalescedIds = new HashSet<>();
+        // 최신순이므로 수신자별 첫 행에만 합침
+        for (CoalesceTargetView target : notificationRepository.findCoalesceTargets(receiverIds, type, relatedUrl, since)) {
+            if (!targetedIds.add(target.getReceiverId())) {
+                continue;
+            }
+            String coalescedContent = content + " 외 " + target.getGroupCount() + "건";
+            if (notificationRepository.coalesce(target.getId(), target.getGroupCount(), title, coalescedContent, now) == 0) {
+                continue;
+            }
+            coalescedIds.add(target.getReceiverId());
+            eventPublisher.publishEvent(new NotificationPushEvent(target.getReceiverId(), "notification-updated",
+                    new KeysetCursor(now, target.getId()).encode(),
+                    NotificationResponse.builder()
+                            .id        (target.getId())
+                            .type      (type)
+                            .title     (title)
+                            .content   (coalescedContent)
+                            .relatedUrl(relatedUrl)
+                            .isRead    (false)
+                            .groupCount(target.getGroupCount() + 1)
+                            .createdAt (now)
+                            .build()));
+        }
+        return coalescedIds;
     }
 
     // 조회
@@ -96,9 +260,38 @@ public class NotificationService {
                 .map(NotificationResponse::from);
     }
 
+    // 키셋 페이징 조회 (최신순) - OFFSET 없이 (createdAt, id) 커서 이후만 조회
     @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationResponse> getNotificationsByCursor(Long userId, String cursor,
+                                                                            int size, boolean withTotal) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> rows = keysetCursor == null
+                ? notificationRepository.findLatestByReceiverId(userId, limit)
+                : notificationRepository.findByReceiverIdBeforeCursor(
+                        userId, keysetCursor.getSortKey(), keysetCursor.getId(), limit);
+        boolean hasNext = rows.size() > pageSize;
+        List<Notification> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Notification last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageResponse.<NotificationResponse>builder()
+                .content(page.stream().map(NotificationResponse::from).collect(Collectors.toList()))
+                .nextCursor(hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .totalCount(withTotal ? notificationRepository.countByReceiverId(userId) : null)
+                .build();
+    }
+
+    // 뱃지 조회: Redis 카운터 GET 1회, 없을 때만 DB COUNT 후 채움
+    // (트랜잭션을 열면 캐시 적중 시에도 커넥션을 잡으므로 @Transactional 을 붙이지 않음)
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByReceiverIdAndIsReadFalse(userId);
+        return unreadCountCache.get(userId).orElseGet(() -> {
+            long count = notificationRepository.countByReceiverIdAndIsReadFalse(userId);
+            unreadCountCache.initialize(userId, count);
+            return count;
+        });
     }
 
     // 읽음 처리
@@ -109,11 +302,15 @@ public class NotificationService {
         if (!notification.getReceiver().getId().equals(userId)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            eventPublisher.publishEvent(UnreadCountChangedEvent.decrement(userId));
+        }
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
         notificationRepository.markAllAsReadByReceiverId(userId);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.reset(userId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package jbnu.jbnupms.domain.notification.service;
+
+import jbnu.jbnupms.domain.notification.event.UnreadCountChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 읽지 않은 알림 수 카운터 (Redis)
+ * - 알림 생성/읽음/모두 읽음이 커밋된 뒤 원자적으로 증감 → 뱃지 조회는 DB 없이 GET 1회
+ * - 키가 없으면 증감하지 않는다. 다음 조회에서 DB 값으로 채우므로 없는 키에서 시작한 잘못된 값이 생기지 않음
+ * - TTL 과 UnreadCountReconciler 의 주기적 재계산으로 어긋난 값을 DB 기준으로 되돌린다
+ * - Redis 장애 시에는 카운터를 건너뛰고 DB COUNT 결과를 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountCache {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // 존재하는 키만 INCRBY, 음수가 되면 0 으로 보정
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "for _, key in ipairs(KEYS) do " +
+            "  if redis.call('EXISTS', key) == 1 and redis.call('INCRBY', key, ARGV[1]) < 0 then " +
+            "    redis.call('SET', key, 0, 'KEEPTTL') " +
+            "  end " +
+            "end " +
+            "return #KEYS", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${notification.unread.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.unread.cache.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    public Optional<Long> get(Long userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(key(userId));
+            return value == null ? Optional.empty() : Optional.of(Long.parseLong(value.toString()));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 캐시 조회 실패. userId={}", userId);
+            return Optional.empty();
+        }
+    }
+
+    // DB 에서 센 값으로 채움 (그 사이 다른 요청이 채웠으면 그 값을 유지)
+    public void initialize(Long userId, long count) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 캐시 저장 실패. userId={}", userId);
+        }
+    }
+
+    // DB 기준 값으로 덮어씀 (재계산)
+    public void overwrite(Map<Long, Long> counts) {
+        if (!enabled || counts.isEmpty()) {
+            return;
+        }
+        try {
+            Duration ttl = Duration.ofSeconds(ttlSeconds);
+            counts.forEach((userId, count) ->
+                    redisTemplate.opsForValue().set(key(userId), String.valueOf(count), ttl));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 캐시 재계산 반영 실패. userIds={}", counts.keySet());
+        }
+    }
+
+    // fallbackExecution = true : 트랜잭션 밖에서 호출되어도 즉시 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        if (!enabled || event.getUserIds().isEmpty()) {
+            return;
+        }
+        List<String> keys = event.getUserIds().stream().map(this::key).collect(Collectors.toList());
+        try {
+            if (event.isReset()) {
+                Duration ttl = Duration.ofSeconds(ttlSeconds);
+                keys.forEach(key -> redisTemplate.opsForValue().set(key, "0", ttl));
+            } else {
+                redisTemplate.execute(ADJUST_SCRIPT, keys, String.valueOf(event.getDelta()));
+            }
+        } catch (Exception e) {
+            // 갱신을 놓친 키는 지워서 다음 조회 때 DB 값으로 다시 채움
+            log.warn("읽지 않은 알림 수 캐시 갱신 실패. userIds={}", event.getUserIds());
+            evict(keys);
+        }
+    }
+
+    private void evict(List<String> keys) {
+        try {
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 캐시 삭제 실패. keys={}", keys.size());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,14 @@
+package jbnu.jbnupms.domain.notification.sse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 알림 저장 트랜잭션 커밋 이후 SSE 전파를 위한 내부 이벤트
+@Getter
+@RequiredArgsConstructor
+public class NotificationPushEvent {
+    private final Long   receiverId;
+    private final String eventName;
+    private final String eventId; // SSE id (재연결 시 Last-Event-ID 로 돌아옴)
+    private final Object payload;
+}
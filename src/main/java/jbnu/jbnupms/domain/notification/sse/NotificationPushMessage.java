@@ -0,0 +1,16 @@
+package jbnu.jbnupms.domain.notification.sse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Redis 채널로 Pod 간 전달되는 SSE 메시지 (data 는 클라이언트에 그대로 보낼 JSON 문자열)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPushMessage {
+    private Long   receiverId;
+    private String eventName;
+    private String eventId;
+    private String data;
+}
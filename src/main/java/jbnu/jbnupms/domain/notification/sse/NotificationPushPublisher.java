@@ -0,0 +1,58 @@
+package jbnu.jbnupms.domain.notification.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * SSE 전파 (알림 1건당 Redis PUBLISH 1회)
+ * - notification.push.mode=redis(기본) : 모든 Pod 가 구독 중인 채널로 발행 → 각 Pod 는 자기에게 연결된 유저에게만 전송
+ * - notification.push.mode=local       : 단일 인스턴스/테스트용. 이 Pod 의 연결에만 전송
+ * - Redis 발행이 실패하면 최소한 이 Pod 의 연결에는 전달되도록 로컬 전송으로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushPublisher {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.push.mode:redis}")
+    private String mode;
+
+    @Value("${notification.push.channel:notification:push}")
+    private String channel;
+
+    // 롤백된 알림이 전송되지 않도록 커밋 이후 발행 (트랜잭션 없이 호출되면 즉시)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPush(NotificationPushEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event.getPayload());
+        } catch (JsonProcessingException e) {
+            log.warn("SSE 메시지 직렬화 실패. receiverId={}", event.getReceiverId());
+            return;
+        }
+
+        if (!"redis".equals(mode)) {
+            sseEmitterRegistry.sendJson(event.getReceiverId(), event.getEventName(), event.getEventId(), data);
+            return;
+        }
+        try {
+            NotificationPushMessage message = new NotificationPushMessage(
+                    event.getReceiverId(), event.getEventName(), event.getEventId(), data);
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("SSE Redis 발행 실패, 로컬 연결로만 전송. receiverId={}", event.getReceiverId());
+            sseEmitterRegistry.sendJson(event.getReceiverId(), event.getEventName(), event.getEventId(), data);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package jbnu.jbnupms.domain.notification.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 알림 채널 구독 → 이 Pod 에 연결된 수신자에게만 SSE 전송
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.push.mode", havingValue = "redis", matchIfMissing = true)
+public class NotificationPushSubscriber implements MessageListener, InitializingBean {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.push.channel:notification:push}")
+    private String channel;
+
+    @Override
+    public void afterPropertiesSet() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationPushMessage push = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), NotificationPushMessage.class);
+            sseEmitterRegistry.sendJson(push.getReceiverId(), push.getEventName(), push.getEventId(), push.getData());
+        } catch (Exception e) {
+            log.warn("SSE Redis 메시지 처리 실패. channel={}", channel);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package jbnu.jbnupms.domain.notification.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 연결 1개 + 전송 대기열
+ * - 대기열은 SseDispatcher 가 연결당 한 스레드씩 순서대로 비운다 (draining 플래그)
+ * - 용량 초과 여부는 SseDispatcher 가 판단한다
+ */
+public class SseConnection {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Runnable onClose;
+
+    SseConnection(Long userId, SseEmitter emitter, Runnable onClose) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.onClose = onClose;
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder event, int capacity) {
+        if (queueSize.incrementAndGet() > capacity) {
+            queueSize.decrementAndGet();
+            return false;
+        }
+        queue.offer(event);
+        return true;
+    }
+
+    SseEmitter.SseEventBuilder poll() {
+        SseEmitter.SseEventBuilder event = queue.poll();
+        if (event != null) {
+            queueSize.decrementAndGet();
+        }
+        return event;
+    }
+
+    // 대기 중인 이벤트를 모두 버리고 버린 개수 반환
+    int clear() {
+        int dropped = 0;
+        while (poll() != null) {
+            dropped++;
+        }
+        return dropped;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    AtomicBoolean getDraining() {
+        return draining;
+    }
+
+    int getQueueDepth() {
+        return queueSize.get();
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    // 한 번만 닫힘: 레지스트리에서 제거 후 emitter 종료
+    void close(Throwable cause) {
+        if (!closed.compareAndSet(false, true)) return;
+        onClose.run();
+        try {
+            if (cause != null) {
+                emitter.completeWithError(cause);
+            } else {
+                emitter.complete();
+            }
+        } catch (Exception ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+}
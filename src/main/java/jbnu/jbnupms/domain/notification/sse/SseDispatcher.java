@@ -0,0 +1,112 @@
+package jbnu.jbnupms.domain.notification.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * SSE 전송 전용 단계
+ * - 호출 스레드(알림 저장 @Async 스레드, Redis 구독 스레드, 요청 스레드)는 연결별 대기열에 넣기만 하고 바로 반환
+ * - 실제 emitter.send 는 전용 스레드 풀에서 연결당 한 작업씩 순서대로 수행 → 느린 클라이언트가 DB 커넥션/비동기 스레드를 잡지 않음
+ * - 대기열이 가득 찬 느린 연결은 남은 이벤트를 버리고 연결을 끊는다.
+ *   클라이언트는 재연결 시 Last-Event-ID 로 놓친 알림을 재전송받으므로 유실되지 않는다
+ * - heartbeat 는 대기열이 비어 있을 때만 넣는다 (보낼 데이터가 있으면 그 자체가 heartbeat)
+ * - 이 풀은 빈으로 등록하지 않는다 (@Async 실행기와 분리해 이 컴포넌트가 수명주기를 관리)
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int queueCapacity;
+    private final Counter sentCounter;
+    private final Counter overflowDroppedCounter;
+    private final Counter rejectedDroppedCounter;
+    private final Counter failedCounter;
+
+    public SseDispatcher(MeterRegistry meterRegistry,
+                         @Value("${notification.sse.dispatch.pool-size:4}") int poolSize,
+                         @Value("${notification.sse.dispatch.task-queue-capacity:10000}") int taskQueueCapacity,
+                         @Value("${notification.sse.queue-capacity:256}") int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(taskQueueCapacity);
+        executor.setThreadNamePrefix("sse-dispatch-");
+        executor.initialize();
+
+        this.sentCounter = Counter.builder("notification.sse.events.sent").register(meterRegistry);
+        this.overflowDroppedCounter = Counter.builder("notification.sse.events.dropped")
+                .tag("reason", "queue_full").register(meterRegistry);
+        this.rejectedDroppedCounter = Counter.builder("notification.sse.events.dropped")
+                .tag("reason", "executor_rejected").register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.sse.send.failures").register(meterRegistry);
+    }
+
+    public void enqueue(SseConnection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.isClosed()) return;
+        if (!connection.offer(event, queueCapacity)) {
+            int dropped = connection.clear() + 1;
+            overflowDroppedCounter.increment(dropped);
+            log.warn("SSE 대기열 초과로 연결 종료. userId={}, dropped={}", connection.getUserId(), dropped);
+            connection.close(null);
+            return;
+        }
+        schedule(connection);
+    }
+
+    public void enqueueHeartbeat(SseConnection connection) {
+        if (connection.getQueueDepth() > 0) return;
+        enqueue(connection, SseEmitter.event().comment("heartbeat"));
+    }
+
+    private void schedule(SseConnection connection) {
+        if (!connection.getDraining().compareAndSet(false, true)) return;
+        try {
+            executor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.getDraining().set(false);
+            rejectedDroppedCounter.increment(connection.clear());
+            log.warn("SSE 전송 풀 포화로 연결 종료. userId={}", connection.getUserId());
+            connection.close(null);
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.isClosed() && (event = connection.poll()) != null) {
+                try {
+                    connection.getEmitter().send(event);
+                    sentCounter.increment();
+                } catch (Exception e) {
+                    failedCounter.increment();
+                    connection.clear();
+                    connection.close(e);
+                    log.warn("SSE 전송 실패. userId={}", connection.getUserId());
+                    return;
+                }
+            }
+        } finally {
+            connection.getDraining().set(false);
+        }
+        // poll 이 비었다고 본 직후 들어온 이벤트 처리
+        if (!connection.isClosed() && connection.getQueueDepth() > 0) {
+            schedule(connection);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
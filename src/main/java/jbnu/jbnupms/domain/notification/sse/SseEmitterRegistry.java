@@ -0,0 +1,110 @@
+package jbnu.jbnupms.domain.notification.sse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 이 Pod 에 SSE 연결된 유저 관리
+ * - 유저당 여러 연결(브라우저 탭/기기)을 허용하고, 상한을 넘으면 가장 오래된 연결을 닫는다
+ * - 프록시/LB 의 유휴 연결 종료를 막기 위해 주기적으로 heartbeat 주석 이벤트를 보낸다
+ * - 전송은 모두 SseDispatcher 대기열을 거친다 (호출 스레드에서 emitter.send 하지 않음)
+ * - 다른 Pod 에서 생성된 알림은 Redis pub/sub(NotificationPushSubscriber)을 거쳐 여기로 전달된다
+ */
+@Component
+public class SseEmitterRegistry {
+
+    private final Map<Long, Deque<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final SseDispatcher sseDispatcher;
+
+    @Value("${notification.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    public SseEmitterRegistry(SseDispatcher sseDispatcher, MeterRegistry meterRegistry) {
+        this.sseDispatcher = sseDispatcher;
+        Gauge.builder("notification.sse.connections", this, SseEmitterRegistry::getTotalConnectionCount)
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.queue.depth", this, SseEmitterRegistry::getTotalQueueDepth)
+                .register(meterRegistry);
+    }
+
+    public SseConnection add(Long userId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(userId, emitter, () -> detach(userId));
+        emitter.onCompletion(() -> connection.close(null));
+        emitter.onTimeout   (() -> connection.close(null));
+        emitter.onError     (connection::close);
+
+        Deque<SseConnection> userConnections = connections.compute(userId, (id, current) -> {
+            Deque<SseConnection> deque = current != null ? current : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            return deque;
+        });
+        while (userConnections.size() > maxConnectionsPerUser) {
+            SseConnection oldest = userConnections.pollFirst();
+            if (oldest == null) break;
+            oldest.close(null);
+        }
+        return connection;
+    }
+
+    public void enqueue(SseConnection connection, SseEmitter.SseEventBuilder event) {
+        sseDispatcher.enqueue(connection, event);
+    }
+
+    // 이미 JSON 으로 직렬화된 데이터를 유저의 모든 연결 대기열에 넣음 (연결되지 않은 유저면 무시)
+    public void sendJson(Long userId, String eventName, String eventId, String json) {
+        Deque<SseConnection> userConnections = connections.get(userId);
+        if (userConnections == null) return;
+        for (SseConnection connection : userConnections) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(eventName).data(json, MediaType.APPLICATION_JSON);
+            if (eventId != null) {
+                event.id(eventId);
+            }
+            sseDispatcher.enqueue(connection, event);
+        }
+    }
+
+    public int getConnectionCount(Long userId) {
+        Deque<SseConnection> userConnections = connections.get(userId);
+        return userConnections == null ? 0 : userConnections.size();
+    }
+
+    // 이 Pod 에 연결된 유저 ID 스냅샷
+    public Set<Long> getConnectedUserIds() {
+        return new HashSet<>(connections.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        connections.values().forEach(userConnections -> userConnections.forEach(sseDispatcher::enqueueHeartbeat));
+    }
+
+    private void detach(Long userId) {
+        connections.computeIfPresent(userId, (id, current) -> {
+            current.removeIf(SseConnection::isClosed);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    private double getTotalConnectionCount() {
+        return connections.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    private double getTotalQueueDepth() {
+        return connections.values().stream()
+                .flatMap(Deque::stream)
+                .mapToInt(SseConnection::getQueueDepth)
+                .sum();
+    }
+}
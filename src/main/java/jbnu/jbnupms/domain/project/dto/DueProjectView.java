@@ -0,0 +1,8 @@
+package jbnu.jbnupms.domain.project.dto;
+
+// 마감 스케줄러용 프로젝트 조회 결과 (인터페이스 기반 Projection)
+public interface DueProjectView {
+    Long getProjectId();
+
+    String getProjectName();
+}
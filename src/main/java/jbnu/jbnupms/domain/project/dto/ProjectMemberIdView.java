@@ -0,0 +1,8 @@
+package jbnu.jbnupms.domain.project.dto;
+
+// 여러 프로젝트의 멤버 ID 를 한 번에 조회할 때의 (프로젝트 ID, 유저 ID) 쌍
+public interface ProjectMemberIdView {
+    Long getProjectId();
+
+    Long getUserId();
+}
@@ -0,0 +1,10 @@
+package jbnu.jbnupms.domain.project.dto;
+
+import jbnu.jbnupms.domain.project.entity.ProjectRole;
+
+// 유저의 프로젝트별 역할 조회 결과 (인터페이스 기반 Projection)
+public interface ProjectRoleView {
+    Long getProjectId();
+
+    ProjectRole getRole();
+}
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "projects", indexes = {
-        @Index(name = "idx_project_space_id", columnList = "space_id")
+        @Index(name = "idx_project_space_id", columnList = "space_id"),
+        @Index(name = "idx_project_space_due_date", columnList = "space_id, due_date")
 })
 @SQLDelete(sql = "UPDATE projects SET deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
@@ -69,6 +70,11 @@ public class Project {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 진행률 롤업 결과 반영 (최상위 태스크 평균)
+    public void updateProgress(Double progress) {
+        this.progress = progress;
+    }
+
     public void update(String name, String description, LocalDateTime dueDate, Boolean isPublic, ProjectStatus status) {
         this.name = name;
         this.description = description;
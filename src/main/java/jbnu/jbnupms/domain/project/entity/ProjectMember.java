@@ -1,6 +1,7 @@
 package jbnu.jbnupms.domain.project.entity;
 
 import jakarta.persistence.*;
+import jbnu.jbnupms.common.access.MembershipEntityListener;
 import jbnu.jbnupms.domain.user.entity.User;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(MembershipEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "project_members", uniqueConstraints = {
@@ -38,6 +40,11 @@ public class ProjectMember {
     @Column(name = "last_accessed_at")
     private LocalDateTime lastAccessedAt;
 
+    // 역할이 실제로 바뀐 경우만 권한 캐시 무효화 (최근 접근일시 등 다른 컬럼 변경은 제외)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean roleChanged;
+
     @Builder
     public ProjectMember(Project project, User user, ProjectRole role) {
         this.project = project;
@@ -47,7 +54,17 @@ public class ProjectMember {
     }
 
     public void updateRole(ProjectRole role) {
-        this.role = role;
+        if (this.role != role) {
+            this.role = role;
+            this.roleChanged = true;
+        }
+    }
+
+    // MembershipEntityListener 가 UPDATE 직후 호출 (한 번 읽으면 초기화)
+    public boolean consumeRoleChanged() {
+        boolean changed = roleChanged;
+        roleChanged = false;
+        return changed;
     }
 
     public void updateLastAccessedAt() {
@@ -1,5 +1,8 @@
 package jbnu.jbnupms.domain.project.repository;
 
+import jbnu.jbnupms.domain.notification.dto.DueReminderView;
+import jbnu.jbnupms.domain.project.dto.ProjectMemberIdView;
+import jbnu.jbnupms.domain.project.dto.ProjectRoleView;
 import jbnu.jbnupms.domain.project.entity.Project;
 import jbnu.jbnupms.domain.project.entity.ProjectMember;
 import jbnu.jbnupms.domain.project.entity.ProjectStatus;
@@ -9,6 +12,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +31,16 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
 
         List<ProjectMember> findByProjectId(Long projectId);
 
+        // 권한 판별용: 유저가 속한 모든 프로젝트의 역할 (AccessResolver 에서 요청당 1회 조회)
+        @Query("SELECT pm.project.id AS projectId, pm.role AS role FROM ProjectMember pm WHERE pm.user.id = :userId")
+        List<ProjectRoleView> findRolesByUserId(@Param("userId") Long userId);
+
+        // 담당자 일괄 지정용: 주어진 유저 중 프로젝트 멤버인 유저 ID만 조회
+        @Query("SELECT pm.user.id FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.user.id IN :userIds")
+        List<Long> findUserIdsByProjectIdAndUserIdIn(
+                        @Param("projectId") Long projectId,
+                        @Param("userIds") Collection<Long> userIds);
+
         @Query("SELECT pm FROM ProjectMember pm " +
                         "JOIN FETCH pm.project p " +
                         "WHERE pm.user.id = :userId " +
@@ -36,9 +51,19 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
 
         List<ProjectMember> findByProjectIdIn(List<Long> projectIds);
 
-        // 캘린더용: 해당 유저가 멤버인 프로젝트 ID 목록에서 일괄 조회 (내 담당 여부 판별)
-        @Query("SELECT pm FROM ProjectMember pm WHERE pm.project.id IN :projectIds AND pm.user.id = :userId")
-        List<ProjectMember> findByProjectIdInAndUserId(
-                @Param("projectIds") List<Long> projectIds,
-                @Param("userId") Long userId);
+        // 마감 리마인더용: 해당 시간대 유저가 멤버인 미완료 프로젝트 중 마감일이 (from, to] 인 것
+        @Query("SELECT p.id AS targetId, p.name AS title, u.id AS userId " +
+                        "FROM ProjectMember pm JOIN pm.project p JOIN pm.user u " +
+                        "WHERE p.dueDate > :from AND p.dueDate <= :to AND p.status != :doneStatus " +
+                        "AND u.timeZone = :timeZone AND u.isDeleted = false")
+        List<DueReminderView> findReminderTargets(
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to,
+                        @Param("doneStatus") ProjectStatus doneStatus,
+                        @Param("timeZone") String timeZone);
+
+        // 마감 스케줄러용: 여러 프로젝트의 멤버 ID 를 한 번에 조회
+        @Query("SELECT pm.project.id AS projectId, pm.user.id AS userId FROM ProjectMember pm " +
+                        "WHERE pm.project.id IN :projectIds")
+        List<ProjectMemberIdView> findMemberIdsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
 }
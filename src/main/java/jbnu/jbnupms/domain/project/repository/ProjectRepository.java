@@ -1,6 +1,9 @@
 package jbnu.jbnupms.domain.project.repository;
 
+import jbnu.jbnupms.domain.calendar.dto.CalendarItemDto;
+import jbnu.jbnupms.domain.project.dto.DueProjectView;
 import jbnu.jbnupms.domain.project.entity.ProjectStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import jbnu.jbnupms.domain.project.entity.Project;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,26 +21,43 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
         @Query("SELECT p FROM Project p WHERE p.space.id = :spaceId")
         List<Project> findBySpaceId(Long spaceId);
 
+        // 진행률 일괄 재계산용: 전체 프로젝트 ID 목록
+        @Query("SELECT p.id FROM Project p")
+        List<Long> findAllIds();
+
         // 스페이스 내 public 프로젝트 목록 조회
         @Query("SELECT p FROM Project p WHERE p.space.id = :spaceId AND p.isPublic = true")
         List<Project> findPublicProjectsBySpaceId(@Param("spaceId") Long spaceId);
 
-        // 캘린더용: 여러 스페이스의 마감일 범위 내 프로젝트 조회 (N+1 방지: space fetch join)
-        @Query("SELECT p FROM Project p JOIN FETCH p.space s " +
-                "WHERE p.space.id IN :spaceIds " +
-                "AND p.dueDate >= :startDate AND p.dueDate <= :endDate")
-        List<Project> findProjectsDueInMonth(
-                @Param("spaceIds") List<Long> spaceIds,
+        // 캘린더용: 여러 스페이스의 마감일 구간 [startDate, endDate) 프로젝트를 필요한 컬럼만 DTO 로 조회
+        // - 내 프로젝트 여부는 EXISTS 로 같은 쿼리에서 계산 (userId 가 null 이면 모두 false)
+        @Query("SELECT new jbnu.jbnupms.domain.calendar.dto.CalendarItemDto(" +
+                "jbnu.jbnupms.domain.calendar.dto.CalendarItemType.PROJECT, p.name, p.dueDate, " +
+                "s.id, s.name, p.id, CAST(NULL AS String), CAST(NULL AS Long), " +
+                "CASE WHEN EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project = p AND pm.user.id = :userId) " +
+                "THEN true ELSE false END) " +
+                "FROM Project p JOIN p.space s " +
+                "WHERE s.id IN :spaceIds " +
+                "AND p.dueDate >= :startDate AND p.dueDate < :endDate")
+        List<CalendarItemDto> findCalendarItems(
+                @Param("spaceIds") Collection<Long> spaceIds,
                 @Param("startDate") LocalDateTime startDate,
-                @Param("endDate") LocalDateTime endDate);
+                @Param("endDate") LocalDateTime endDate,
+                @Param("userId") Long userId);
 
-        // 스케줄러용: 마감일 범위 내 완료되지 않은 프로젝트 조회
-        @Query("SELECT p FROM Project p " +
-                "JOIN FETCH p.space s " +
+        // 마감 스케줄러용: 스페이스 ID 구간 안에서 마감일 범위 내 완료되지 않은 프로젝트를 ID 순 청크로 조회
+        @Query("SELECT p.id AS projectId, p.name AS projectName FROM Project p " +
                 "WHERE p.dueDate >= :startDate AND p.dueDate <= :endDate " +
-                "AND p.status != :doneStatus")
-        List<Project> findProjectsDueInRange(
-                @Param("startDate")  LocalDateTime startDate,
-                @Param("endDate")    LocalDateTime endDate,
-                @Param("doneStatus") ProjectStatus doneStatus);
+                "AND p.status != :doneStatus " +
+                "AND p.space.id > :fromSpaceId AND p.space.id <= :toSpaceId " +
+                "AND p.id > :afterId " +
+                "ORDER BY p.id")
+        List<DueProjectView> findDueProjectChunk(
+                @Param("startDate")   LocalDateTime startDate,
+                @Param("endDate")     LocalDateTime endDate,
+                @Param("doneStatus")  ProjectStatus doneStatus,
+                @Param("fromSpaceId") long fromSpaceId,
+                @Param("toSpaceId")   long toSpaceId,
+                @Param("afterId")     long afterId,
+                Pageable pageable);
 }
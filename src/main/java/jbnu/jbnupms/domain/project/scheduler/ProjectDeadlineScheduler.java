@@ -1,73 +1,156 @@
 package jbnu.jbnupms.domain.project.scheduler;
 
+import jbnu.jbnupms.common.checkpoint.SweepCheckpoint;
+import jbnu.jbnupms.common.checkpoint.SweepCheckpointService;
+import jbnu.jbnupms.common.lock.KeyRange;
+import jbnu.jbnupms.common.lock.SchedulerLockService;
+import jbnu.jbnupms.common.outbox.OutboxService;
+import jbnu.jbnupms.domain.notification.event.ProjectDueBatchEvent;
 import jbnu.jbnupms.domain.notification.event.ProjectDueEvent;
-import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.dto.DueProjectView;
+import jbnu.jbnupms.domain.project.dto.ProjectMemberIdView;
 import jbnu.jbnupms.domain.project.entity.ProjectStatus;
 import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.project.repository.ProjectRepository;
-import lombok.RequiredArgsConstructor;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 프로젝트 마감 스케줄러
+ * - 프로젝트를 ID 순 청크로 읽고, 청크마다 멤버 조회 1회 후 알림 이벤트 1건을 같은 트랜잭션의 아웃박스에 기록
+ * - 프로젝트 마감은 중복 확인 기록이 없으므로 잠금을 잡은 Pod 한 곳에서만 실행 (분할 모드면 스페이스 ID 구간별로 나눠 실행)
+ * - 청크마다 진행 위치(체크포인트)를 같은 트랜잭션에 커밋 → 중간에 죽어도 이미 알린 프로젝트는 다시 알리지 않음
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProjectDeadlineScheduler {
 
+    private static final String LOCK_NAME = "project-deadline";
+
     private final ProjectRepository         projectRepository;
     private final ProjectMemberRepository   projectMemberRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService             outboxService;
+    private final SpaceRepository           spaceRepository;
+    private final SchedulerLockService      schedulerLockService;
+    private final SweepCheckpointService    sweepCheckpointService;
+    private final TransactionTemplate       transactionTemplate;
+
+    @Value("${project.deadline.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${notification.reminder.enabled:true}")
+    private boolean remindersEnabled;
+
+    public ProjectDeadlineScheduler(ProjectRepository projectRepository,
+                                    ProjectMemberRepository projectMemberRepository,
+                                    OutboxService outboxService,
+                                    SpaceRepository spaceRepository,
+                                    SchedulerLockService schedulerLockService,
+                                    SweepCheckpointService sweepCheckpointService,
+                                    PlatformTransactionManager transactionManager) {
+        this.projectRepository       = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.outboxService           = outboxService;
+        this.spaceRepository         = spaceRepository;
+        this.schedulerLockService    = schedulerLockService;
+        this.sweepCheckpointService  = sweepCheckpointService;
+        this.transactionTemplate     = new TransactionTemplate(transactionManager);
+    }
 
     @Scheduled(cron = "0 0 0 * * *")
     public void checkProjectDeadlines() {
-        LocalDate today     = LocalDate.now();
-        LocalDate yesterday = today.minusDays(1);
-        notifyDueReached(today);
-        notifyOverdue(yesterday);
+        run(LocalDate.now());
     }
 
-    private void notifyDueReached(LocalDate date) {
-        List<Project> projects = projectRepository.findProjectsDueInRange(
-                date.atStartOfDay(), date.atTime(LocalTime.MAX), ProjectStatus.DONE);
-
-        log.info("[Scheduler] 프로젝트 마감 도달 {}건 ({})", projects.size(), date);
+    // 오늘 실행이 중간에 끊겼으면 체크포인트부터 이어서 처리
+    @Scheduled(fixedDelayString = "${scheduler.checkpoint.resume-interval-ms:600000}",
+            initialDelayString = "${scheduler.checkpoint.resume-interval-ms:600000}")
+    public void resumeInterrupted() {
+        LocalDate today = LocalDate.now();
+        if (sweepCheckpointService.hasIncomplete(runName(today))) {
+            log.info("[Scheduler] 중단된 프로젝트 마감 처리 재개 ({})", today);
+            run(today);
+        }
+    }
 
-        for (Project project : projects) {
-            List<Long> memberIds = projectMemberRepository.findByProjectId(project.getId())
-                    .stream()
-                    .map(pm -> pm.getUser().getId())
-                    .collect(Collectors.toList());
+    private void run(LocalDate today) {
+        LocalDate yesterday = today.minusDays(1);
+        String    runName   = runName(today);
+        long maxSpaceId = sweepCheckpointService.pinUpperBound(runName, spaceRepository::findMaxId);
 
-            if (!memberIds.isEmpty()) {
-                eventPublisher.publishEvent(
-                        new ProjectDueEvent(project.getId(), project.getName(), memberIds, false));
+        schedulerLockService.runPartitioned(LOCK_NAME, maxSpaceId, range -> {
+            // 마감 임박 알림은 리마인더가 수신자 시간대 기준으로 보내므로, 리마인더를 쓰면 자정에는 지연 알림만 발행
+            if (!remindersEnabled) {
+                int dueCount = sweep(today, false, range, runName + ":due:" + range);
+                log.info("[Scheduler] 프로젝트 마감 도달 {}건 ({}, spaceId {})", dueCount, today, range);
             }
-        }
+            int overdueCount = sweep(yesterday, true, range, runName + ":overdue:" + range);
+            log.info("[Scheduler] 프로젝트 마감 초과 {}건 ({}, spaceId {})", overdueCount, yesterday, range);
+        });
     }
 
-    private void notifyOverdue(LocalDate date) {
-        List<Project> projects = projectRepository.findProjectsDueInRange(
-                date.atStartOfDay(), date.atTime(LocalTime.MAX), ProjectStatus.DONE);
-
-        log.info("[Scheduler] 프로젝트 마감 초과 {}건 ({})", projects.size(), date);
+    private String runName(LocalDate today) {
+        return LOCK_NAME + ":" + today;
+    }
 
-        for (Project project : projects) {
-            List<Long> memberIds = projectMemberRepository.findByProjectId(project.getId())
-                    .stream()
-                    .map(pm -> pm.getUser().getId())
-                    .collect(Collectors.toList());
+    /**
+     * 스페이스 ID 구간 안에서 해당 날짜가 마감인 미완료 프로젝트를 체크포인트 다음부터 청크 단위로 처리
+     * @return 처리한 프로젝트 수
+     */
+    public int sweep(LocalDate date, boolean overdue, KeyRange spaceRange, String checkpointName) {
+        SweepCheckpoint checkpoint = sweepCheckpointService.begin(checkpointName);
+        if (checkpoint.isCompleted()) return 0;
 
-            if (!memberIds.isEmpty()) {
-                eventPublisher.publishEvent(
-                        new ProjectDueEvent(project.getId(), project.getName(), memberIds, true));
+        long afterId = checkpoint.getLastId();
+        int  total   = 0;
+        while (true) {
+            List<DueProjectView> chunk = projectRepository.findDueProjectChunk(
+                    date.atStartOfDay(), date.atTime(LocalTime.MAX), ProjectStatus.DONE,
+                    spaceRange.getFromExclusive(), spaceRange.getToInclusive(),
+                    afterId, PageRequest.of(0, chunkSize));
+            if (!chunk.isEmpty()) {
+                long lastId = chunk.get(chunk.size() - 1).getProjectId();
+                transactionTemplate.executeWithoutResult(status -> {
+                    publishChunk(chunk, overdue);
+                    sweepCheckpointService.advance(checkpointName, lastId);
+                });
+                total  += chunk.size();
+                afterId = lastId;
+            }
+            if (chunk.size() < chunkSize) {
+                sweepCheckpointService.complete(checkpointName);
+                return total;
             }
         }
     }
-}
\ No newline at end of file
+
+    // 알림 이벤트는 체크포인트와 함께 커밋 → 커밋 직후 Pod 가 죽어도 OutboxRelay 가 이어서 처리
+    private void publishChunk(List<DueProjectView> chunk, boolean overdue) {
+        Map<Long, List<Long>> memberIdsByProjectId = projectMemberRepository.findMemberIdsByProjectIdIn(
+                        chunk.stream().map(DueProjectView::getProjectId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(ProjectMemberIdView::getProjectId,
+                        Collectors.mapping(ProjectMemberIdView::getUserId, Collectors.toList())));
+
+        List<ProjectDueEvent> events = chunk.stream()
+                .filter(project -> memberIdsByProjectId.containsKey(project.getProjectId()))
+                .map(project -> new ProjectDueEvent(project.getProjectId(), project.getProjectName(),
+                        memberIdsByProjectId.get(project.getProjectId()), overdue))
+                .collect(Collectors.toList());
+        if (!events.isEmpty()) {
+            outboxService.append(new ProjectDueBatchEvent(events));
+        }
+    }
+}
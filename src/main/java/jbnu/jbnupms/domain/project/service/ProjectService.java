@@ -1,7 +1,9 @@
 package jbnu.jbnupms.domain.project.service;
 
+import jbnu.jbnupms.common.access.AccessResolver;
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.calendar.event.CalendarChangedEvent;
 import jbnu.jbnupms.domain.project.dto.ProjectCreateRequest;
 import jbnu.jbnupms.domain.project.dto.ProjectInviteRequest;
 import jbnu.jbnupms.domain.project.dto.ProjectResponse;
@@ -15,19 +17,21 @@ import jbnu.jbnupms.domain.project.entity.ProjectStatus;
 import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.project.repository.ProjectRepository;
 import jbnu.jbnupms.domain.space.entity.Space;
-import jbnu.jbnupms.domain.space.repository.SpaceMemberRepository;
 import jbnu.jbnupms.domain.space.repository.SpaceRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -39,8 +43,9 @@ public class ProjectService {
         private final ProjectRepository projectRepository;
         private final ProjectMemberRepository projectMemberRepository;
         private final SpaceRepository spaceRepository;
-        private final SpaceMemberRepository spaceMemberRepository;
         private final UserRepository userRepository;
+        private final AccessResolver accessResolver;
+        private final ApplicationEventPublisher eventPublisher;
 
         // 프로젝트 생성
         @Transactional
@@ -54,7 +59,7 @@ public class ProjectService {
                                                 "스페이스를 찾을 수 없습니다."));
 
                 // Space 멤버인지 확인
-                if (!spaceMemberRepository.existsBySpaceAndUser(space, user)) {
+                if (!accessResolver.isSpaceMember(userId, space.getId())) {
                         throw new CustomException(ErrorCode.ACCESS_DENIED);
                 }
 
@@ -77,6 +82,7 @@ public class ProjectService {
                                 .build();
 
                 projectMemberRepository.save(member);
+                eventPublisher.publishEvent(CalendarChangedEvent.ofDueDates(space.getId(), project.getDueDate()));
 
                 return project.getId();
         }
@@ -127,15 +133,11 @@ public class ProjectService {
                 Project project = projectRepository.findById(projectId)
                                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
 
-                boolean isMember = projectMemberRepository.existsByProjectAndUser(project,
-                                userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND)));
-
-                if (!isMember) {
-                        // public 프로젝트이고 스페이스 멤버인 경우 읽기 허용
-                        if (!project.getIsPublic() || !spaceMemberRepository.existsBySpaceIdAndUserId(project.getSpace().getId(), userId)) {
-                                throw new CustomException(ErrorCode.ACCESS_DENIED);
-                        }
+                // 멤버가 아니어도 public 프로젝트이고 스페이스 멤버인 경우 읽기 허용
+                if (!accessResolver.canReadProject(userId, project)) {
+                        throw new CustomException(ErrorCode.ACCESS_DENIED);
                 }
+                boolean isMember = accessResolver.isProjectMember(userId, projectId);
 
                 List<ProjectMember> members = projectMemberRepository.findByProjectId(projectId);
 
@@ -168,8 +170,20 @@ public class ProjectService {
 
                 validateLeaderPermission(userId, projectId);
 
+                String oldName = project.getName();
+                LocalDateTime oldDueDate = project.getDueDate();
+                ProjectStatus oldStatus = project.getStatus();
+
                 project.update(request.getName(), request.getDescription(), request.getDueDate(),
                                 request.getIsPublic(), request.getStatus());
+
+                // 프로젝트 이름은 소속 태스크 항목에도 보이므로 스페이스 캘린더 캐시 전체를, 그 외에는 바뀌기 전/후 달만 비움
+                Long spaceId = project.getSpace().getId();
+                if (!Objects.equals(oldName, project.getName())) {
+                        eventPublisher.publishEvent(CalendarChangedEvent.ofSpace(spaceId));
+                } else if (oldStatus != project.getStatus() || !Objects.equals(oldDueDate, project.getDueDate())) {
+                        eventPublisher.publishEvent(CalendarChangedEvent.ofDueDates(spaceId, oldDueDate, project.getDueDate()));
+                }
         }
 
         // 프로젝트 삭제
@@ -181,6 +195,7 @@ public class ProjectService {
                 validateLeaderPermission(userId, projectId);
 
                 projectRepository.delete(project);
+                eventPublisher.publishEvent(CalendarChangedEvent.ofSpace(project.getSpace().getId()));
         }
 
         // 프로젝트 멤버 초대
@@ -216,14 +231,8 @@ public class ProjectService {
                 Project project = projectRepository.findById(projectId)
                                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
 
-                User user = userRepository.findById(userId)
-                                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-                boolean isMember = projectMemberRepository.existsByProjectAndUser(project, user);
-                if (!isMember) {
-                        if (!project.getIsPublic() || !spaceMemberRepository.existsBySpaceIdAndUserId(project.getSpace().getId(), userId)) {
-                                throw new CustomException(ErrorCode.ACCESS_DENIED);
-                        }
+                if (!accessResolver.canReadProject(userId, project)) {
+                        throw new CustomException(ErrorCode.ACCESS_DENIED);
                 }
 
                 List<ProjectMember> members = projectMemberRepository.findByProjectId(projectId);
@@ -277,10 +286,7 @@ public class ProjectService {
         }
 
         private void validateLeaderPermission(Long userId, Long projectId) {
-                ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
-                                .orElseThrow(() -> new CustomException(ErrorCode.ACCESS_DENIED));
-
-                if (member.getRole() != ProjectRole.ADMIN) {
+                if (accessResolver.getProjectRole(userId, projectId).orElse(null) != ProjectRole.ADMIN) {
                         throw new CustomException(ErrorCode.ACCESS_DENIED);
                 }
         }
@@ -3,6 +3,7 @@ package jbnu.jbnupms.domain.space.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jbnu.jbnupms.common.response.CommonResponse;
+import jbnu.jbnupms.common.response.CursorPageResponse;
 import jbnu.jbnupms.domain.space.dto.ActivitySummaryDto;
 import jbnu.jbnupms.domain.space.service.ActivityLogService;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -44,4 +45,19 @@ public class ActivityController {
         Page<ActivitySummaryDto> response = activityLogService.getActivities(spaceId, userId, pageable);
         return ResponseEntity.ok(CommonResponse.success(response));
     }
+
+    @Operation(summary = "전체 업데이트 커서 조회",
+            description = "활동 로그를 최신순으로 커서(키셋) 페이징 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. withTotal=true 일 때만 전체 개수를 계산합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CommonResponse<CursorPageResponse<ActivitySummaryDto>>> getActivitiesByCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam("spaceId") Long spaceId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        CursorPageResponse<ActivitySummaryDto> response =
+                activityLogService.getActivitiesByCursor(userId, spaceId, cursor, size, withTotal);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
 }
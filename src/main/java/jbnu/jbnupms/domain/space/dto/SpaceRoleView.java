@@ -0,0 +1,10 @@
+package jbnu.jbnupms.domain.space.dto;
+
+import jbnu.jbnupms.domain.space.entity.SpaceRole;
+
+// 유저의 스페이스별 역할 조회 결과 (인터페이스 기반 Projection)
+public interface SpaceRoleView {
+    Long getSpaceId();
+
+    SpaceRole getRole();
+}
@@ -12,11 +12,17 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "activity_logs")
+@Table(name = "activity_logs", indexes = {
+        // 활동 피드 키셋 페이징용 (space_id, created_at, id)
+        @Index(name = "idx_activity_space_created", columnList = "space_id, created_at, id"),
+        // 스케줄러 당일 중복 확인용 (task_id, action_type, created_at)
+        @Index(name = "idx_activity_task_action_created", columnList = "task_id, action_type, created_at")
+})
 public class ActivityLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_log_seq")
+    @SequenceGenerator(name = "activity_log_seq", sequenceName = "activity_log_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
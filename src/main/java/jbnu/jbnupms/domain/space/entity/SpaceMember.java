@@ -1,6 +1,7 @@
 package jbnu.jbnupms.domain.space.entity;
 
 import jakarta.persistence.*;
+import jbnu.jbnupms.common.access.MembershipEntityListener;
 import jbnu.jbnupms.domain.user.entity.User;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(MembershipEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "space_members", uniqueConstraints = {
@@ -36,6 +38,11 @@ public class SpaceMember {
     @Column(name = "joined_at")
     private LocalDateTime joinedAt;
 
+    // 역할이 실제로 바뀐 경우만 권한 캐시 무효화 (최근 접근일시 등 다른 컬럼 변경은 제외)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean roleChanged;
+
     @Builder
     public SpaceMember(Space space, User user, SpaceRole role) {
         this.space = space;
@@ -45,7 +52,17 @@ public class SpaceMember {
     }
 
     public void updateRole(SpaceRole role) {
-        this.role = role;
+        if (this.role != role) {
+            this.role = role;
+            this.roleChanged = true;
+        }
+    }
+
+    // MembershipEntityListener 가 UPDATE 직후 호출 (한 번 읽으면 초기화)
+    public boolean consumeRoleChanged() {
+        boolean changed = roleChanged;
+        roleChanged = false;
+        return changed;
     }
 
 }
\ No newline at end of file
@@ -5,14 +5,39 @@ import jbnu.jbnupms.domain.space.entity.ActivityLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
     Page<ActivityLog> findBySpaceIdOrderByCreatedAtDesc(Long spaceId, Pageable pageable);
 
-    // 특정 태스크에 대해 당일 이미 동일 이벤트가 기록됐는지 확인 (중복 방지용)
-    boolean existsByTaskIdAndActionTypeAndCreatedAtBetween(
-            Long taskId, ActionType actionType,
-            LocalDateTime startDate, LocalDateTime endDate);
+    // 키셋 페이징: 첫 페이지 (createdAt DESC, id DESC)
+    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.actor WHERE a.space.id = :spaceId " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityLog> findLatestBySpaceId(@Param("spaceId") Long spaceId, Pageable pageable);
+
+    // 키셋 페이징: 커서 (createdAt, id) 이후 페이지
+    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.actor WHERE a.space.id = :spaceId " +
+            "AND (a.createdAt < :cursorCreatedAt OR (a.createdAt = :cursorCreatedAt AND a.id < :cursorId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityLog> findBySpaceIdBeforeCursor(
+            @Param("spaceId") Long spaceId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    long countBySpaceId(Long spaceId);
+
+    // 스케줄러 중복 방지용: 주어진 태스크 중 기간 내 이미 동일 이벤트가 기록된 태스크 ID 를 한 번에 조회
+    @Query("SELECT DISTINCT a.taskId FROM ActivityLog a WHERE a.taskId IN :taskIds " +
+            "AND a.actionType = :actionType AND a.createdAt BETWEEN :startDate AND :endDate")
+    List<Long> findLoggedTaskIds(
+            @Param("taskIds") Collection<Long> taskIds,
+            @Param("actionType") ActionType actionType,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
 }
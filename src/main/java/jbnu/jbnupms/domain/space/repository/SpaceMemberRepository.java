@@ -1,5 +1,6 @@
 package jbnu.jbnupms.domain.space.repository;
 
+import jbnu.jbnupms.domain.space.dto.SpaceRoleView;
 import jbnu.jbnupms.domain.space.entity.Space;
 import jbnu.jbnupms.domain.space.entity.SpaceMember;
 import jbnu.jbnupms.domain.space.entity.SpaceRole;
@@ -16,9 +17,9 @@ public interface SpaceMemberRepository extends JpaRepository<SpaceMember, Long>
 
     List<SpaceMember> findByUserId(Long userId);
 
-    // 캘린더용: 내가 속한 스페이스 목록을 space 정보와 함께 조회 (N+1 방지)
-    @Query("SELECT sm FROM SpaceMember sm JOIN FETCH sm.space s WHERE sm.user.id = :userId")
-    List<SpaceMember> findByUserIdWithSpace(@Param("userId") Long userId);
+    // 권한 판별용: 유저가 속한 모든 스페이스의 역할 (AccessResolver 에서 요청당 1회 조회)
+    @Query("SELECT sm.space.id AS spaceId, sm.role AS role FROM SpaceMember sm WHERE sm.user.id = :userId")
+    List<SpaceRoleView> findRolesByUserId(@Param("userId") Long userId);
 
     boolean existsBySpaceAndUser(Space space, User user);
 
@@ -2,6 +2,11 @@ package jbnu.jbnupms.domain.space.repository;
 
 import jbnu.jbnupms.domain.space.entity.Space;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface SpaceRepository extends JpaRepository<Space, Long> {
-}
\ No newline at end of file
+
+    // 스케줄러 분할 실행용: 스페이스 ID 구간을 나눌 상한
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Space s")
+    long findMaxId();
+}
@@ -1,13 +1,15 @@
 package jbnu.jbnupms.domain.space.service;
 
+import jbnu.jbnupms.common.access.AccessResolver;
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.common.pagination.KeysetCursor;
+import jbnu.jbnupms.common.response.CursorPageResponse;
 import jbnu.jbnupms.domain.space.dto.ActivitySummaryDto;
 import jbnu.jbnupms.domain.space.entity.ActionType;
 import jbnu.jbnupms.domain.space.entity.ActivityLog;
 import jbnu.jbnupms.domain.space.entity.Space;
 import jbnu.jbnupms.domain.space.repository.ActivityLogRepository;
-import jbnu.jbnupms.domain.space.repository.SpaceMemberRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,7 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,7 +31,9 @@ import java.util.stream.Collectors;
 public class ActivityLogService {
 
     private final ActivityLogRepository activityLogRepository;
-    private final SpaceMemberRepository spaceMemberRepository;
+    private final AccessResolver accessResolver;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     @Transactional
     public void logActivity(Space space, Long projectId, String projectTitle, Long taskId, String taskTitle,
@@ -45,29 +51,32 @@ public class ActivityLogService {
         activityLogRepository.save(log);
     }
 
-    // 스케줄러용: actor 없이 시스템 이벤트 기록 (당일 중복 방지)
+    // 일괄 작업용: 여러 활동 로그를 한 번에 저장 (JDBC batch insert)
+    @Transactional
+    public void logActivities(List<ActivityLog> logs) {
+        activityLogRepository.saveAll(logs);
+    }
+
+    /**
+     * 스케줄러용: actor 없는 시스템 이벤트 일괄 기록 (당일 중복 방지)
+     * - 당일 이미 같은 이벤트가 기록된 태스크는 조회 1회로 걸러내고 나머지만 batch insert
+     * @return 새로 기록된 로그
+     */
     @Transactional
-    public void logSystemActivity(Space space, Long projectId, String projectTitle, Long taskId, String taskTitle,
-            ActionType actionType, String summary) {
+    public List<ActivityLog> logSystemActivities(ActionType actionType, List<ActivityLog> logs) {
+        if (logs.isEmpty()) return logs;
+
         LocalDateTime startOfToday = LocalDateTime.now().toLocalDate().atStartOfDay();
         LocalDateTime endOfToday = LocalDateTime.now().with(LocalTime.MAX);
+        Set<Long> loggedTaskIds = new HashSet<>(activityLogRepository.findLoggedTaskIds(
+                logs.stream().map(ActivityLog::getTaskId).collect(Collectors.toList()),
+                actionType, startOfToday, endOfToday));
 
-        if (activityLogRepository.existsByTaskIdAndActionTypeAndCreatedAtBetween(
-                taskId, actionType, startOfToday, endOfToday)) {
-            return;
-        }
-
-        ActivityLog log = ActivityLog.builder()
-                .space(space)
-                .projectId(projectId)
-                .projectTitle(projectTitle)
-                .taskId(taskId)
-                .taskTitle(taskTitle)
-                .actionType(actionType)
-                .actor(null)
-                .summary(summary)
-                .build();
-        activityLogRepository.save(log);
+        List<ActivityLog> newLogs = logs.stream()
+                .filter(log -> !loggedTaskIds.contains(log.getTaskId()))
+                .collect(Collectors.toList());
+        activityLogRepository.saveAll(newLogs);
+        return newLogs;
     }
 
     public List<ActivitySummaryDto> getRecentActivities(Long userId, Long spaceId) {
@@ -85,8 +94,32 @@ public class ActivityLogService {
         return activityLogRepository.findBySpaceIdOrderByCreatedAtDesc(spaceId, pageable).map(ActivitySummaryDto::from);
     }
 
+    // 키셋 페이징 조회 (최신순) - OFFSET 없이 (createdAt, id) 커서 이후만 조회
+    public CursorPageResponse<ActivitySummaryDto> getActivitiesByCursor(Long userId, Long spaceId, String cursor,
+                                                                       int size, boolean withTotal) {
+        validateSpaceMember(userId, spaceId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ActivityLog> rows = keysetCursor == null
+                ? activityLogRepository.findLatestBySpaceId(spaceId, limit)
+                : activityLogRepository.findBySpaceIdBeforeCursor(
+                        spaceId, keysetCursor.getSortKey(), keysetCursor.getId(), limit);
+        boolean hasNext = rows.size() > pageSize;
+        List<ActivityLog> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        ActivityLog last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageResponse.<ActivitySummaryDto>builder()
+                .content(page.stream().map(ActivitySummaryDto::from).collect(Collectors.toList()))
+                .nextCursor(hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .totalCount(withTotal ? activityLogRepository.countBySpaceId(spaceId) : null)
+                .build();
+    }
+
     private void validateSpaceMember(Long userId, Long spaceId) {
-        if (!spaceMemberRepository.existsBySpaceIdAndUserId(spaceId, userId)) {
+        if (!accessResolver.isSpaceMember(userId, spaceId)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED, "해당 스페이스의 멤버가 아닙니다.");
         }
     }
@@ -1,7 +1,10 @@
 package jbnu.jbnupms.domain.space.service;
 
+import jbnu.jbnupms.common.access.AccessResolver;
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.common.outbox.OutboxService;
+import jbnu.jbnupms.domain.calendar.event.CalendarChangedEvent;
 import jbnu.jbnupms.domain.notification.event.SpaceInvitedEvent;
 import jbnu.jbnupms.domain.space.dto.SpaceCreateRequest;
 import jbnu.jbnupms.domain.space.dto.SpaceDetailResponse;
@@ -32,6 +35,8 @@ public class SpaceService {
         private final SpaceRepository spaceRepository;
         private final SpaceMemberRepository spaceMemberRepository;
         private final UserRepository userRepository;
+        private final OutboxService outboxService;
+        private final AccessResolver accessResolver;
         private final ApplicationEventPublisher eventPublisher;
 
         // 스페이스 생성
@@ -74,11 +79,8 @@ public class SpaceService {
                 Space space = spaceRepository.findById(spaceId)
                         .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
 
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
                 // 멤버인지 확인
-                if (!spaceMemberRepository.existsBySpaceAndUser(space, user)) {
+                if (!accessResolver.isSpaceMember(userId, space.getId())) {
                         throw new CustomException(ErrorCode.ACCESS_DENIED);
                 }
 
@@ -96,6 +98,8 @@ public class SpaceService {
                 validateAdminPermission(userId, spaceId);
 
                 space.update(request.getName(), request.getDescription());
+                // 스페이스 이름이 캘린더 항목마다 들어 있으므로 스페이스 캘린더 캐시 전체를 비움
+                eventPublisher.publishEvent(CalendarChangedEvent.ofSpace(spaceId));
         }
 
         // 스페이스 삭제
@@ -132,8 +136,8 @@ public class SpaceService {
                         .role(request.getRole() != null ? request.getRole() : SpaceRole.MEMBER)
                         .build());
 
-                // 알림 이벤트 publish
-                eventPublisher.publishEvent(
+                // 알림 이벤트 아웃박스 기록 (같은 트랜잭션)
+                outboxService.append(
                         new SpaceInvitedEvent(space.getId(), space.getName(), targetUser.getId()));
         }
 
@@ -141,9 +145,7 @@ public class SpaceService {
         public List<SpaceDetailResponse.MemberDto> getSpaceMembers(Long userId, Long spaceId) {
                 Space space = spaceRepository.findById(spaceId)
                         .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-                if (!spaceMemberRepository.existsBySpaceAndUser(space, user)) {
+                if (!accessResolver.isSpaceMember(userId, space.getId())) {
                         throw new CustomException(ErrorCode.ACCESS_DENIED);
                 }
                 return spaceMemberRepository.findBySpaceId(spaceId).stream()
@@ -209,10 +211,7 @@ public class SpaceService {
 
         private void validateAdminPermission(Long userId, Long spaceId) {
 
-                SpaceMember member = spaceMemberRepository.findByUserIdAndSpaceId(userId, spaceId)
-                        .orElseThrow(() -> new CustomException(ErrorCode.ACCESS_DENIED));
-
-                if (member.getRole() != SpaceRole.ADMIN) {
+                if (accessResolver.getSpaceRole(userId, spaceId).orElse(null) != SpaceRole.ADMIN) {
                         throw new CustomException(ErrorCode.ACCESS_DENIED);
                 }
         }
@@ -0,0 +1,65 @@
+package jbnu.jbnupms.domain.task.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jbnu.jbnupms.common.response.CommonResponse;
+import jbnu.jbnupms.domain.task.dto.TaskBulkCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkDeleteRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkMoveRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkResponse;
+import jbnu.jbnupms.domain.task.dto.TaskBulkUpdateRequest;
+import jbnu.jbnupms.domain.task.service.TaskBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Task Bulk", description = "태스크 일괄 작업 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/tasks/bulk")
+public class TaskBulkController {
+
+    private final TaskBulkService taskBulkService;
+
+    @Operation(summary = "태스크 일괄 생성",
+            description = "한 프로젝트에 최대 500개의 태스크를 한 트랜잭션으로 생성합니다. 실패한 항목은 results 에 사유와 함께 반환되고 나머지 항목은 생성됩니다.")
+    @PostMapping
+    public ResponseEntity<CommonResponse<TaskBulkResponse>> createTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody TaskBulkCreateRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskBulkService.createTasks(userId, request)));
+    }
+
+    @Operation(summary = "태스크 일괄 수정",
+            description = "한 프로젝트의 태스크를 최대 500개까지 한 트랜잭션으로 수정합니다. 값이 없는 필드는 기존 값을 유지합니다.")
+    @PatchMapping
+    public ResponseEntity<CommonResponse<TaskBulkResponse>> updateTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody TaskBulkUpdateRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskBulkService.updateTasks(userId, request)));
+    }
+
+    @Operation(summary = "태스크 일괄 이동",
+            description = "요청 순서대로 상위 태스크를 변경합니다. parentId를 생략하면 최상위 태스크로 이동하며 하위 태스크도 함께 이동합니다.")
+    @PatchMapping("/parent")
+    public ResponseEntity<CommonResponse<TaskBulkResponse>> moveTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody TaskBulkMoveRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskBulkService.moveTasks(userId, request)));
+    }
+
+    @Operation(summary = "태스크 일괄 삭제", description = "하위 태스크를 포함해 여러 태스크를 한 트랜잭션으로 삭제합니다.")
+    @PostMapping("/delete")
+    public ResponseEntity<CommonResponse<TaskBulkResponse>> deleteTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody TaskBulkDeleteRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskBulkService.deleteTasks(userId, request)));
+    }
+}
@@ -4,9 +4,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jbnu.jbnupms.common.response.CommonResponse;
+import jbnu.jbnupms.common.response.CursorPageResponse;
 import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskMoveRequest;
 import jbnu.jbnupms.domain.task.dto.TaskResponse;
 import jbnu.jbnupms.domain.task.dto.TaskSummaryDto;
+import jbnu.jbnupms.domain.task.dto.TaskTreePageResponse;
 import jbnu.jbnupms.domain.task.dto.TaskUpdateRequest;
 import jbnu.jbnupms.domain.task.entity.TaskAssigneeRole;
 import jbnu.jbnupms.domain.task.service.TaskService;
@@ -19,6 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import jbnu.jbnupms.domain.task.dto.MyTaskSummaryDto;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
 import jbnu.jbnupms.domain.task.entity.TaskStatus;
 
 import java.util.List;
@@ -50,6 +54,30 @@ public class TaskController {
         return ResponseEntity.ok(CommonResponse.success(taskService.getTasks(userId, projectId)));
     }
 
+    @Operation(summary = "프로젝트별 태스크 트리 페이징 조회",
+            description = "최상위 태스크를 커서(cursor) 기반으로 페이징하고, depth 단계 아래의 하위 태스크는 children 대신 childCount만 반환합니다. (size 최대 100, depth 최대 10)")
+    @GetMapping("/tree")
+    public ResponseEntity<CommonResponse<TaskTreePageResponse>> getTaskTree(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam Long projectId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false, defaultValue = "1") int depth) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(
+                taskService.getTaskTree(userId, projectId, cursor, size, depth)));
+    }
+
+    @Operation(summary = "하위 트리 펼치기", description = "트리 조회에서 childCount만 내려온 태스크의 하위 트리를 depth 단계까지 조회합니다.")
+    @GetMapping("/{taskId}/subtree")
+    public ResponseEntity<CommonResponse<TaskResponse>> getSubtree(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam(required = false, defaultValue = "1") int depth) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskService.getSubtree(userId, taskId, depth)));
+    }
+
     @Operation(summary = "태스크 단건 조회")
     @GetMapping("/{taskId}")
     public ResponseEntity<CommonResponse<TaskResponse>> getTask(
@@ -70,6 +98,17 @@ public class TaskController {
         return ResponseEntity.ok(CommonResponse.success(null));
     }
 
+    @Operation(summary = "태스크 이동", description = "상위 태스크를 변경합니다. parentId를 생략하면 최상위 태스크로 이동합니다. 하위 태스크도 함께 이동합니다.")
+    @PatchMapping("/{taskId}/parent")
+    public ResponseEntity<CommonResponse<Void>> moveTask(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestBody TaskMoveRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskService.moveTask(userId, taskId, request.getParentId());
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
     @Operation(summary = "태스크 삭제")
     @DeleteMapping("/{taskId}")
     public ResponseEntity<CommonResponse<Void>> deleteTask(
@@ -113,16 +152,38 @@ public class TaskController {
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
-    @Operation(summary = "내 작업 목록 조회", description = "스페이스 기준 담당자가 나인 작업을 범위별(TODAY, WEEK, ALL) 및 상태별로 조회합니다.")
+    @Operation(summary = "내 작업 목록 조회", description = "스페이스 기준 담당자가 나인 작업을 범위별(TODAY, WEEK, ALL), 상태별, 우선순위별, 프로젝트별로 조회합니다.")
     @GetMapping("/my")
     public ResponseEntity<CommonResponse<Page<TaskSummaryDto>>> getMyTasks(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam Long spaceId,
+            @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
             @RequestParam(required = false, defaultValue = "ALL") String range,
             @PageableDefault(size = 20) Pageable pageable) {
         Long userId = Long.parseLong(userDetails.getUsername());
-        Page<TaskSummaryDto> response = taskService.getMyTasks(userId, spaceId, status, range, pageable);
+        Page<TaskSummaryDto> response = taskService.getMyTasks(userId, spaceId, projectId, status, priority, range, pageable);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "내 작업 목록 커서 조회",
+            description = "내 작업을 마감일 오름차순(마감일 없는 작업은 마지막)으로 커서(키셋) 페이징 조회합니다. withTotal=true 일 때만 전체 개수를 계산합니다.")
+    @GetMapping("/my/cursor")
+    public ResponseEntity<CommonResponse<CursorPageResponse<TaskSummaryDto>>> getMyTasksByCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam Long spaceId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false, defaultValue = "ALL") String range,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        CursorPageResponse<TaskSummaryDto> response =
+                taskService.getMyTasksByCursor(userId, spaceId, projectId, status, priority, range,
+                        cursor, size, withTotal);
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
@@ -0,0 +1,14 @@
+package jbnu.jbnupms.domain.task.dto;
+
+// 마감 스케줄러용 태스크 조회 결과 (엔티티 대신 필요한 컬럼만 인터페이스 기반 Projection 으로 조회)
+public interface DueTaskView {
+    Long getTaskId();
+
+    String getTaskTitle();
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    Long getSpaceId();
+}
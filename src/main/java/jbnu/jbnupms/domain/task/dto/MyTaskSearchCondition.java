@@ -0,0 +1,21 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내 작업 조회 필터 (null 인 항목은 조건에서 제외)
+@Getter
+@Builder
+public class MyTaskSearchCondition {
+    private Long userId;
+    private Long spaceId;
+    private Long projectId;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+}
@@ -0,0 +1,12 @@
+package jbnu.jbnupms.domain.task.dto;
+
+// 내 작업 요약 집계 쿼리 결과 (인터페이스 기반 Projection)
+public interface MyTaskSummaryCount {
+    Long getTotalCount();
+
+    Long getInProgressCount();
+
+    Long getDoneCount();
+
+    Long getDelayedCount();
+}
@@ -0,0 +1,8 @@
+package jbnu.jbnupms.domain.task.dto;
+
+// 여러 태스크의 담당자 ID 를 한 번에 조회할 때의 (태스크 ID, 유저 ID) 쌍
+public interface TaskAssigneeIdView {
+    Long getTaskId();
+
+    Long getUserId();
+}
@@ -0,0 +1,50 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBulkCreateRequest {
+
+    @NotNull(message = "프로젝트 ID는 필수입니다.")
+    private Long projectId;
+
+    @Valid
+    @NotEmpty(message = "생성할 태스크는 최소 1개 이상이어야 합니다.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 생성할 수 있습니다.")
+    private List<Item> tasks;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Item {
+
+        private Long parentId;
+
+        @NotBlank(message = "제목은 필수입니다.")
+        private String title;
+
+        private String description;
+
+        private TaskPriority priority;
+
+        private LocalDateTime dueDate;
+
+        @NotEmpty(message = "담당자는 최소 1명 이상 지정해야 합니다.")
+        private List<Long> assigneeIds;
+
+        private List<Long> managerIds;
+    }
+}
@@ -0,0 +1,23 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBulkDeleteRequest {
+
+    @NotNull(message = "프로젝트 ID는 필수입니다.")
+    private Long projectId;
+
+    @NotEmpty(message = "삭제할 태스크는 최소 1개 이상이어야 합니다.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 삭제할 수 있습니다.")
+    private List<@NotNull(message = "태스크 ID는 null 일 수 없습니다.") Long> taskIds;
+}
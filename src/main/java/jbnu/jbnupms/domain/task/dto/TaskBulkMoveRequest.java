@@ -0,0 +1,38 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBulkMoveRequest {
+
+    @NotNull(message = "프로젝트 ID는 필수입니다.")
+    private Long projectId;
+
+    // 요청 순서대로 이동 (앞 항목의 이동 결과가 뒤 항목에 반영됨)
+    @Valid
+    @NotEmpty(message = "이동할 태스크는 최소 1개 이상이어야 합니다.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 이동할 수 있습니다.")
+    private List<Item> tasks;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "태스크 ID는 필수입니다.")
+        private Long taskId;
+
+        // null이면 최상위 태스크로 이동
+        private Long parentId;
+    }
+}
@@ -0,0 +1,54 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "태스크 일괄 작업 결과 DTO")
+public class TaskBulkResponse {
+    @Schema(description = "성공 건수", example = "98")
+    private int successCount;
+
+    @Schema(description = "실패 건수", example = "2")
+    private int failureCount;
+
+    @Schema(description = "요청 항목별 처리 결과 (요청 순서)")
+    private List<ItemResult> results;
+
+    public static TaskBulkResponse of(List<ItemResult> results) {
+        int successCount = (int) results.stream().filter(ItemResult::isSuccess).count();
+        return TaskBulkResponse.builder()
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class ItemResult {
+        @Schema(description = "요청 목록 내 순번 (0부터)", example = "0")
+        private int index;
+
+        @Schema(description = "태스크 ID (생성 실패 시 null)", example = "120")
+        private Long taskId;
+
+        @Schema(description = "성공 여부", example = "true")
+        private boolean success;
+
+        @Schema(description = "실패 사유 (성공 시 null)", example = "상위 태스크를 찾을 수 없습니다.")
+        private String message;
+
+        public static ItemResult success(int index, Long taskId) {
+            return ItemResult.builder().index(index).taskId(taskId).success(true).build();
+        }
+
+        public static ItemResult failure(int index, Long taskId, String message) {
+            return ItemResult.builder().index(index).taskId(taskId).success(false).message(message).build();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBulkUpdateRequest {
+
+    @NotNull(message = "프로젝트 ID는 필수입니다.")
+    private Long projectId;
+
+    @Valid
+    @NotEmpty(message = "수정할 태스크는 최소 1개 이상이어야 합니다.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 수정할 수 있습니다.")
+    private List<Item> tasks;
+
+    // null 인 항목은 기존 값 유지
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "태스크 ID는 필수입니다.")
+        private Long taskId;
+
+        private String title;
+
+        private String description;
+
+        private TaskStatus status;
+
+        private TaskPriority priority;
+
+        private LocalDateTime dueDate;
+
+        private Double progress;
+    }
+}
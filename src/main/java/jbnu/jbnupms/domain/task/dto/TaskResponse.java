@@ -33,6 +33,7 @@ public class TaskResponse {
     private List<UserResponse> assignees;
     private List<UserResponse> managers;
     private List<TaskResponse> children;
+    private Long childCount; // 깊이 제한 조회 시에만 포함, 펼쳐지지 않은 노드는 children 대신 개수만 반환
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -102,4 +103,77 @@ public class TaskResponse {
                 .updatedAt(task.getUpdatedAt())
                 .build();
     }
+
+    // 자식 목록을 Task.children 지연 로딩 대신 parentId 기준으로 미리 그룹화한 Map에서 가져와 계층 구성
+    public static TaskResponse from(Task task, Map<Long, List<TaskAssignee>> assigneeMap,
+                                    Map<Long, List<Task>> childrenMap) {
+        List<TaskAssignee> taskAssignees = assigneeMap.getOrDefault(task.getId(), Collections.emptyList());
+
+        return TaskResponse.builder()
+                .id(task.getId())
+                .projectId(task.getProject().getId())
+                .parentId(task.getParent() != null ? task.getParent().getId() : null)
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .progress(task.getProgress())
+                .dueDate(task.getDueDate())
+                .creator(UserResponse.from(task.getCreator()))
+                .assignees(taskAssignees.stream()
+                        .filter(ta -> ta.getRole() == TaskAssigneeRole.ASSIGNEE)
+                        .map(ta -> UserResponse.from(ta.getUser()))
+                        .collect(Collectors.toList()))
+                .managers(taskAssignees.stream()
+                        .filter(ta -> ta.getRole() == TaskAssigneeRole.MANAGER)
+                        .map(ta -> UserResponse.from(ta.getUser()))
+                        .collect(Collectors.toList()))
+                .children(childrenMap.getOrDefault(task.getId(), Collections.emptyList()).stream()
+                        .map(child -> TaskResponse.from(child, assigneeMap, childrenMap))
+                        .collect(Collectors.toList()))
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    // 깊이 제한 조회용: childrenMap에 없는(펼치지 않은) 노드는 children을 null로 두고 childCount만 채움
+    public static TaskResponse from(Task task, Map<Long, List<TaskAssignee>> assigneeMap,
+                                    Map<Long, List<Task>> childrenMap, Map<Long, Long> childCountMap) {
+        List<TaskAssignee> taskAssignees = assigneeMap.getOrDefault(task.getId(), Collections.emptyList());
+        long childCount = childCountMap.getOrDefault(task.getId(), 0L);
+
+        List<TaskResponse> children = null;
+        if (childrenMap.containsKey(task.getId())) {
+            children = childrenMap.get(task.getId()).stream()
+                    .map(child -> TaskResponse.from(child, assigneeMap, childrenMap, childCountMap))
+                    .collect(Collectors.toList());
+        } else if (childCount == 0) {
+            children = Collections.emptyList();
+        }
+
+        return TaskResponse.builder()
+                .id(task.getId())
+                .projectId(task.getProject().getId())
+                .parentId(task.getParent() != null ? task.getParent().getId() : null)
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .progress(task.getProgress())
+                .dueDate(task.getDueDate())
+                .creator(UserResponse.from(task.getCreator()))
+                .assignees(taskAssignees.stream()
+                        .filter(ta -> ta.getRole() == TaskAssigneeRole.ASSIGNEE)
+                        .map(ta -> UserResponse.from(ta.getUser()))
+                        .collect(Collectors.toList()))
+                .managers(taskAssignees.stream()
+                        .filter(ta -> ta.getRole() == TaskAssigneeRole.MANAGER)
+                        .map(ta -> UserResponse.from(ta.getUser()))
+                        .collect(Collectors.toList()))
+                .children(children)
+                .childCount(childCount)
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,21 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "태스크 트리 커서 페이징 응답 DTO")
+public class TaskTreePageResponse {
+    @Schema(description = "최상위 태스크 목록 (depth 단계까지 하위 태스크 포함)")
+    private List<TaskResponse> tasks;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 최상위 태스크 ID)", example = "120")
+    private Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
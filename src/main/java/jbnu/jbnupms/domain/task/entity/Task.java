@@ -18,14 +18,21 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "tasks", indexes = {
-        @Index(name = "idx_task_project_status", columnList = "project_id, status")
+        @Index(name = "idx_task_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_task_path", columnList = "path"),
+        @Index(name = "idx_task_due_date", columnList = "due_date"),
+        @Index(name = "idx_task_project_due_date", columnList = "project_id, due_date")
 })
 @SQLDelete(sql = "UPDATE tasks SET deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
 public class Task {
 
+    public static final String PATH_SEPARATOR = "/";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스(pooled, 50개 단위 선할당) 기반 ID - IDENTITY 와 달리 INSERT JDBC batch 가 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,6 +50,10 @@ public class Task {
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> children = new ArrayList<>();
 
+    // 조상 ID 경로 (Materialized Path, 예: "/1/5/12/") - 하위 트리 조회/이동/삭제를 경로 범위 조건 단일 쿼리로 처리
+    @Column(length = 1000)
+    private String path;
+
     private Double progress;
 
     @Column(nullable = false, length = 200)
@@ -96,4 +107,40 @@ public class Task {
     public void addChild(Task child) {
         this.children.add(child);
     }
+
+    // 부모 경로 + 자신의 ID로 경로 갱신 (ID 발급 이후 호출, 부모 경로가 없으면 재색인 대상으로 남김)
+    public void refreshPath() {
+        String parentPath = this.parent != null ? this.parent.getPath() : PATH_SEPARATOR;
+        this.path = parentPath != null ? parentPath + this.id + PATH_SEPARATOR : null;
+    }
+
+    // 자기 자신이거나 ancestor 의 하위 태스크인지 (경로가 없으면 부모 체인으로 판별)
+    public boolean isSelfOrDescendantOf(Task ancestor) {
+        return this.id.equals(ancestor.getId()) || this.getAncestorIds().contains(ancestor.getId());
+    }
+
+    // 가까운 조상부터 최상위까지의 ID 목록 (경로가 없으면 부모 체인을 따라 계산)
+    public List<Long> getAncestorIds() {
+        List<Long> ancestorIds = new ArrayList<>();
+        if (this.path != null) {
+            String[] ids = this.path.split(PATH_SEPARATOR); // "/1/5/12/" -> ["", "1", "5", "12"]
+            for (int i = ids.length - 2; i >= 1; i--) {
+                ancestorIds.add(Long.parseLong(ids[i]));
+            }
+        } else {
+            for (Task ancestor = this.parent; ancestor != null; ancestor = ancestor.getParent()) {
+                ancestorIds.add(ancestor.getId());
+            }
+        }
+        return ancestorIds;
+    }
+
+    public void updateProgress(Double progress) {
+        this.progress = progress;
+    }
+
+    public void changeParent(Task parent) {
+        this.parent = parent;
+        this.updatedAt = LocalDateTime.now();
+    }
 }
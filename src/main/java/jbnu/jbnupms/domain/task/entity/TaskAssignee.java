@@ -14,12 +14,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "task_assignees", indexes = {
         @Index(name = "idx_task_assignee_task_user", columnList = "task_id, user_id", unique = true),
-        @Index(name = "idx_task_assignee_user", columnList = "user_id")
+        // 내 작업 조회 시 user_id 로 찾은 뒤 task 조인을 인덱스만으로 처리 (user_id 단일 조회도 이 인덱스로 처리)
+        @Index(name = "idx_task_assignee_user_task", columnList = "user_id, task_id")
 })
 public class TaskAssignee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_assignee_seq")
+    @SequenceGenerator(name = "task_assignee_seq", sequenceName = "task_assignee_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,14 @@
+package jbnu.jbnupms.domain.task.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 담당 작업의 상태/마감일/담당자가 바뀌어 내 작업 요약 캐시를 비워야 할 때 발행
+@Getter
+@RequiredArgsConstructor
+public class MyTaskSummaryChangedEvent {
+    private final Long       spaceId;
+    private final List<Long> userIds;
+}
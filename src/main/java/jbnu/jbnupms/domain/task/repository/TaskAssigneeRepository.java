@@ -1,25 +1,51 @@
 package jbnu.jbnupms.domain.task.repository;
 
+import jbnu.jbnupms.domain.notification.dto.DueReminderView;
+import jbnu.jbnupms.domain.task.dto.MyTaskSummaryCount;
+import jbnu.jbnupms.domain.task.dto.TaskAssigneeIdView;
 import jbnu.jbnupms.domain.task.entity.Task;
 import jbnu.jbnupms.domain.task.entity.TaskAssignee;
 import jbnu.jbnupms.domain.task.entity.TaskStatus;
 import jbnu.jbnupms.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, Long> {
+public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, Long>, TaskAssigneeRepositoryCustom {
 
     List<TaskAssignee> findByTaskId(Long taskId);
 
     List<TaskAssignee> findAllByTask_ProjectId(Long projectId);
 
+    // 계층형 조회용: 프로젝트 내 모든 담당자를 유저 정보와 함께 한 번에 조회 (N+1 방지)
+    @Query("SELECT ta FROM TaskAssignee ta JOIN FETCH ta.user WHERE ta.task.project.id = :projectId")
+    List<TaskAssignee> findAllWithUserByProjectId(@Param("projectId") Long projectId);
+
+    // 트리 페이징용: 조회된 태스크들의 담당자를 유저 정보와 함께 일괄 조회
+    @Query("SELECT ta FROM TaskAssignee ta JOIN FETCH ta.user WHERE ta.task.id IN :taskIds")
+    List<TaskAssignee> findAllWithUserByTaskIdIn(@Param("taskIds") List<Long> taskIds);
+
+    // 마감 스케줄러/캘린더용: 여러 태스크의 담당자 ID 를 한 번에 조회
+    @Query("SELECT ta.task.id AS taskId, ta.user.id AS userId FROM TaskAssignee ta WHERE ta.task.id IN :taskIds")
+    List<TaskAssigneeIdView> findAssigneeIdsByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // 마감 리마인더용: 해당 시간대 유저가 담당인 미완료 태스크 중 마감일이 (from, to] 인 것 (idx_task_due_date 범위 조회)
+    @Query("SELECT t.id AS targetId, t.title AS title, u.id AS userId " +
+            "FROM TaskAssignee ta JOIN ta.task t JOIN ta.user u " +
+            "WHERE t.dueDate > :from AND t.dueDate <= :to AND t.status != :doneStatus " +
+            "AND u.timeZone = :timeZone AND u.isDeleted = false")
+    List<DueReminderView> findReminderTargets(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("doneStatus") TaskStatus doneStatus,
+            @Param("timeZone") String timeZone);
+
     Optional<TaskAssignee> findByTaskAndUser(Task task, User user);
 
     boolean existsByTaskAndUser(Task task, User user);
@@ -56,67 +82,25 @@ public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, Long
             @Param("inProgressStatus") TaskStatus inProgressStatus,
             Pageable pageable);
 
-    // 조건별 내 작업 개수 카운트
-    @Query("SELECT COUNT(ta) FROM TaskAssignee ta " +
+    // 내 작업 요약: 전체/진행중/완료/지연 개수를 조건부 집계로 한 번에 조회
+    @Query("SELECT COUNT(ta) AS totalCount, " +
+            "COALESCE(SUM(CASE WHEN t.status = :inProgressStatus THEN 1 ELSE 0 END), 0) AS inProgressCount, " +
+            "COALESCE(SUM(CASE WHEN t.status = :doneStatus THEN 1 ELSE 0 END), 0) AS doneCount, " +
+            "COALESCE(SUM(CASE WHEN t.status <> :doneStatus AND t.dueDate < :startOfToday THEN 1 ELSE 0 END), 0) AS delayedCount " +
+            "FROM TaskAssignee ta " +
             "JOIN ta.task t " +
             "JOIN t.project p " +
             "WHERE ta.user.id = :userId " +
             "AND p.space.id = :spaceId")
-    long countByUserIdAndSpaceId(
-            @Param("userId") Long userId,
-            @Param("spaceId") Long spaceId);
-
-    @Query("SELECT COUNT(ta) FROM TaskAssignee ta " +
-            "JOIN ta.task t " +
-            "JOIN t.project p " +
-            "WHERE ta.user.id = :userId " +
-            "AND p.space.id = :spaceId " +
-            "AND t.status = :status")
-    long countByUserIdAndSpaceIdAndStatus(
-            @Param("userId") Long userId,
-            @Param("spaceId") Long spaceId,
-            @Param("status") TaskStatus status);
-
-    @Query("SELECT COUNT(ta) FROM TaskAssignee ta " +
-            "JOIN ta.task t " +
-            "JOIN t.project p " +
-            "WHERE ta.user.id = :userId " +
-            "AND p.space.id = :spaceId " +
-            "AND t.status != :doneStatus " +
-            "AND t.dueDate < :startOfToday")
-    long countDelayedTasks(
+    MyTaskSummaryCount summarizeByUserIdAndSpaceId(
             @Param("userId") Long userId,
             @Param("spaceId") Long spaceId,
+            @Param("inProgressStatus") TaskStatus inProgressStatus,
             @Param("doneStatus") TaskStatus doneStatus,
             @Param("startOfToday") LocalDateTime startOfToday);
 
-    // 캘린더용: 해당 유저가 담당인 태스크 ID 목록에서 일괄 조회 (내 담당 여부 판별)
-    @Query("SELECT ta FROM TaskAssignee ta WHERE ta.task.id IN :taskIds AND ta.user.id = :userId")
-    List<TaskAssignee> findByTaskIdInAndUserId(
-            @Param("taskIds") List<Long> taskIds,
-            @Param("userId") Long userId);
-
-    // 내 작업 페이징 조회
-    @Query(value = "SELECT ta FROM TaskAssignee ta " +
-            "JOIN FETCH ta.task t " +
-            "JOIN FETCH t.project p " +
-            "WHERE ta.user.id = :userId " +
-            "AND p.space.id = :spaceId " +
-            "AND (:status IS NULL OR t.status = :status) " +
-            "AND (:startDate IS NULL OR t.dueDate >= :startDate) " +
-            "AND (:endDate IS NULL OR t.dueDate <= :endDate)", countQuery = "SELECT COUNT(ta) FROM TaskAssignee ta " +
-                    "JOIN ta.task t " +
-                    "JOIN t.project p " +
-                    "WHERE ta.user.id = :userId " +
-                    "AND p.space.id = :spaceId " +
-                    "AND (:status IS NULL OR t.status = :status) " +
-                    "AND (:startDate IS NULL OR t.dueDate >= :startDate) " +
-                    "AND (:endDate IS NULL OR t.dueDate <= :endDate)")
-    Page<TaskAssignee> findMyTasksByUserIdAndSpaceId(
-            @Param("userId") Long userId,
-            @Param("spaceId") Long spaceId,
-            @Param("status") TaskStatus status,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
+    // 요약 캐시 무효화용: 하위 트리(자신 포함) 담당자 ID 목록
+    @Query("SELECT DISTINCT ta.user.id FROM TaskAssignee ta " +
+            "WHERE ta.task.path >= :path AND ta.task.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0')")
+    List<Long> findUserIdsByTaskPath(@Param("path") String path);
 }
@@ -0,0 +1,22 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jbnu.jbnupms.common.pagination.KeysetCursor;
+import jbnu.jbnupms.domain.task.dto.MyTaskSearchCondition;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface TaskAssigneeRepositoryCustom {
+
+    // 내 작업 페이징 조회: 지정된 필터만 WHERE 절에 포함
+    Page<TaskAssignee> searchMyTasks(MyTaskSearchCondition condition, Pageable pageable);
+
+    // 내 작업 키셋 페이징: (마감일 ASC NULLS LAST, 담당 ID ASC) 순으로 cursor 이후 limit 건 조회
+    // - 마감일은 tasks 컬럼이라 이 순서를 그대로 주는 인덱스는 없다. OFFSET 없이 cursor 이후만 읽어 깊은 페이지 비용은 없애지만,
+    //   페이지마다 내 담당 작업(필터 적용 후)을 모두 읽어 정렬하므로 비용은 페이지 크기가 아니라 담당 작업 수에 비례한다
+    List<TaskAssignee> findMyTasksAfterCursor(MyTaskSearchCondition condition, KeysetCursor cursor, int limit);
+
+    long countMyTasks(MyTaskSearchCondition condition);
+}
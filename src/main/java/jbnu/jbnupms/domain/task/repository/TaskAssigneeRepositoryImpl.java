@@ -0,0 +1,137 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jbnu.jbnupms.common.pagination.KeysetCursor;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.MyTaskSearchCondition;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import org.hibernate.Session;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 내 작업 조회용 동적 쿼리.
+ * "(:param IS NULL OR ...)" 형태의 catch-all 조건은 PostgreSQL 이 필터 조합마다 다른 계획을 세우지 못하므로,
+ * 값이 있는 필터만 WHERE 절에 넣어 조합별로 인덱스를 탈 수 있는 SQL 을 만든다.
+ */
+public class TaskAssigneeRepositoryImpl implements TaskAssigneeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<TaskAssignee> searchMyTasks(MyTaskSearchCondition condition, Pageable pageable) {
+        HibernateCriteriaBuilder cb = em.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<TaskAssignee> query = cb.createQuery(TaskAssignee.class);
+        Root<TaskAssignee> ta = query.from(TaskAssignee.class);
+        // fetch 를 조건에도 쓰기 위해 Join 으로 캐스팅
+        Join<TaskAssignee, Task> t = (Join<TaskAssignee, Task>) ta.<TaskAssignee, Task>fetch("task");
+        Join<Task, Project> p = (Join<Task, Project>) t.<Task, Project>fetch("project");
+        ta.fetch("user");
+
+        query.select(ta)
+                .where(filterPredicates(cb, ta, t, p, condition).toArray(new Predicate[0]))
+                .orderBy(pageable.getSort().isSorted()
+                        ? QueryUtils.toOrders(pageable.getSort(), ta, cb)
+                        : List.of(cb.asc(ta.get("id"))));
+
+        List<TaskAssignee> content = em.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 마지막 페이지처럼 개수를 알 수 있는 경우 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> countMyTasks(condition));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskAssignee> findMyTasksAfterCursor(MyTaskSearchCondition condition, KeysetCursor cursor, int limit) {
+        HibernateCriteriaBuilder cb = em.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<TaskAssignee> query = cb.createQuery(TaskAssignee.class);
+        Root<TaskAssignee> ta = query.from(TaskAssignee.class);
+        Join<TaskAssignee, Task> t = (Join<TaskAssignee, Task>) ta.<TaskAssignee, Task>fetch("task");
+        Join<Task, Project> p = (Join<Task, Project>) t.<Task, Project>fetch("project");
+        ta.fetch("user");
+
+        List<Predicate> predicates = filterPredicates(cb, ta, t, p, condition);
+        if (cursor != null) {
+            predicates.add(afterCursor(cb, ta, t, cursor));
+        }
+
+        query.select(ta)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(
+                        cb.sort((JpaExpression<?>) t.<LocalDateTime>get("dueDate"), SortDirection.ASCENDING, NullPrecedence.LAST),
+                        cb.asc(ta.get("id")));
+
+        return em.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countMyTasks(MyTaskSearchCondition condition) {
+        HibernateCriteriaBuilder cb = em.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<TaskAssignee> ta = query.from(TaskAssignee.class);
+        Join<TaskAssignee, Task> t = ta.join("task");
+        Join<Task, Project> p = t.join("project");
+
+        query.select(cb.count(ta))
+                .where(filterPredicates(cb, ta, t, p, condition).toArray(new Predicate[0]));
+        return em.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> filterPredicates(HibernateCriteriaBuilder cb, Root<TaskAssignee> ta,
+                                             Join<TaskAssignee, Task> t, Join<Task, Project> p,
+                                             MyTaskSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(ta.get("user").get("id"), condition.getUserId()));
+        predicates.add(cb.equal(p.get("space").get("id"), condition.getSpaceId()));
+        // 프로젝트 지정 시 task.project_id 로 직접 비교 (idx_task_project_status 선두 컬럼)
+        if (condition.getProjectId() != null) {
+            predicates.add(cb.equal(t.get("project").get("id"), condition.getProjectId()));
+        }
+        if (condition.getStatus() != null) {
+            predicates.add(cb.equal(t.get("status"), condition.getStatus()));
+        }
+        if (condition.getPriority() != null) {
+            predicates.add(cb.equal(t.get("priority"), condition.getPriority()));
+        }
+        if (condition.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(t.get("dueDate"), condition.getStartDate()));
+        }
+        if (condition.getEndDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(t.get("dueDate"), condition.getEndDate()));
+        }
+        return predicates;
+    }
+
+    // 마감일이 있는 구간 → 마감일 없는 구간 순서로 이어지므로 커서 위치에 따라 조건이 달라짐
+    private Predicate afterCursor(HibernateCriteriaBuilder cb, Root<TaskAssignee> ta,
+                                  Join<TaskAssignee, Task> t, KeysetCursor cursor) {
+        if (cursor.getSortKey() == null) {
+            return cb.and(cb.isNull(t.get("dueDate")), cb.greaterThan(ta.get("id"), cursor.getId()));
+        }
+        return cb.or(
+                cb.greaterThan(t.get("dueDate"), cursor.getSortKey()),
+                cb.and(cb.equal(t.get("dueDate"), cursor.getSortKey()), cb.greaterThan(ta.get("id"), cursor.getId())),
+                cb.isNull(t.get("dueDate")));
+    }
+}
@@ -1,12 +1,17 @@
 package jbnu.jbnupms.domain.task.repository;
 
+import jbnu.jbnupms.domain.calendar.dto.CalendarItemDto;
+import jbnu.jbnupms.domain.task.dto.DueTaskView;
 import jbnu.jbnupms.domain.task.entity.Task;
 import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -18,28 +23,100 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         // 프로젝트 내 모든 태스크 조회
         List<Task> findByProjectId(Long projectId);
 
+        // 계층형 조회용: 프로젝트 내 모든 태스크를 작성자와 함께 한 번에 조회 (계층은 parentId 기준으로 메모리에서 구성)
+        @Query("SELECT t FROM Task t JOIN FETCH t.creator WHERE t.project.id = :projectId ORDER BY t.id")
+        List<Task> findAllWithCreatorByProjectId(@Param("projectId") Long projectId);
+
+        // 트리 페이징용: 커서(id) 이후의 최상위 태스크를 작성자와 함께 조회
+        @Query("SELECT t FROM Task t JOIN FETCH t.creator " +
+                "WHERE t.project.id = :projectId AND t.parent IS NULL AND t.id > :cursor " +
+                "ORDER BY t.id")
+        List<Task> findRootTasksAfterCursor(
+                @Param("projectId") Long projectId,
+                @Param("cursor") Long cursor,
+                Pageable pageable);
+
+        // 트리 페이징용: 한 레벨의 하위 태스크를 작성자와 함께 일괄 조회
+        @Query("SELECT t FROM Task t JOIN FETCH t.creator WHERE t.parent.id IN :parentIds ORDER BY t.id")
+        List<Task> findChildrenWithCreatorByParentIds(@Param("parentIds") List<Long> parentIds);
+
+        // 트리 페이징용: 부모별 하위 태스크 개수 일괄 조회 [parentId, count]
+        @Query("SELECT t.parent.id, COUNT(t) FROM Task t WHERE t.parent.id IN :parentIds GROUP BY t.parent.id")
+        List<Object[]> countChildrenByParentIds(@Param("parentIds") List<Long> parentIds);
+
+        // 하위 트리 조건: "/1/5/" 로 시작하는 경로 = ["/1/5/", "/1/50") 구간 ('/' 다음 문자가 '0')
+        // - LIKE 접두사 대신 범위 조건을 써서 파라미터 바인딩/일반 플랜에서도 path 인덱스 범위 스캔
+        // - PostgreSQL 에서는 path 컬럼을 C collation 으로 두어 바이트 순서로 비교 (TaskPathCollationMigrator)
+
+        // 하위 트리 조회 (자신 포함, path 인덱스 사용)
+        @Query("SELECT t FROM Task t JOIN FETCH t.creator " +
+                "WHERE t.path >= :path AND t.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0') " +
+                "ORDER BY t.id")
+        List<Task> findSubtreeWithCreator(@Param("path") String path);
+
+        // 하위 트리 이동: oldPath로 시작하는 모든 경로의 접두사를 newPath로 교체
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query("UPDATE Task t SET t.path = CONCAT(:newPath, SUBSTRING(t.path, LENGTH(:oldPath) + 1)) " +
+                "WHERE t.path >= :oldPath AND t.path < CONCAT(SUBSTRING(:oldPath, 1, LENGTH(:oldPath) - 1), '0')")
+        int moveSubtree(@Param("oldPath") String oldPath, @Param("newPath") String newPath);
+
+        // 하위 트리 일괄 soft delete (자신 포함)
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query("UPDATE Task t SET t.deletedAt = :deletedAt WHERE " +
+                "t.path >= :path AND t.path < CONCAT(SUBSTRING(:path, 1, LENGTH(:path) - 1), '0')")
+        int softDeleteSubtree(@Param("path") String path, @Param("deletedAt") LocalDateTime deletedAt);
+
+        // 진행률 롤업용: 하위 태스크 평균 진행률 (완료 태스크는 100으로 계산)
+        @Query("SELECT AVG(CASE WHEN t.status = :doneStatus THEN 100.0 ELSE COALESCE(t.progress, 0.0) END) " +
+                "FROM Task t WHERE t.parent.id = :parentId")
+        Double averageChildProgress(
+                @Param("parentId") Long parentId,
+                @Param("doneStatus") TaskStatus doneStatus);
+
+        // 진행률 롤업용: 프로젝트 최상위 태스크 평균 진행률 (완료 태스크는 100으로 계산)
+        @Query("SELECT AVG(CASE WHEN t.status = :doneStatus THEN 100.0 ELSE COALESCE(t.progress, 0.0) END) " +
+                "FROM Task t WHERE t.project.id = :projectId AND t.parent IS NULL")
+        Double averageRootProgress(
+                @Param("projectId") Long projectId,
+                @Param("doneStatus") TaskStatus doneStatus);
+
+        // 재색인용: 경로가 비어 있는 태스크가 있는 프로젝트 ID 목록
+        @Query("SELECT DISTINCT t.project.id FROM Task t WHERE t.path IS NULL")
+        List<Long> findProjectIdsWithUnindexedTasks();
+
         // 상태별 조회
         List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
 
-        // 마감일 범위 내 미완료 태스크 조회 (스케줄러용, project/space fetch join)
-        @Query("SELECT t FROM Task t " +
-                "JOIN FETCH t.project p " +
-                "JOIN FETCH p.space s " +
+        // 마감 스케줄러용: 스페이스 ID 구간 안에서 마감일 범위 내 미완료 태스크를 ID 순 청크로 조회 (엔티티 대신 필요한 컬럼만)
+        @Query("SELECT t.id AS taskId, t.title AS taskTitle, p.id AS projectId, p.name AS projectName, " +
+                "p.space.id AS spaceId " +
+                "FROM Task t JOIN t.project p " +
                 "WHERE t.dueDate >= :startDate AND t.dueDate <= :endDate " +
-                "AND t.status != :doneStatus")
-        List<Task> findTasksDueInRange(
+                "AND t.status != :doneStatus AND t.id > :afterId " +
+                "AND p.space.id > :fromSpaceId AND p.space.id <= :toSpaceId " +
+                "ORDER BY t.id")
+        List<DueTaskView> findDueTaskChunk(
                 @Param("startDate") LocalDateTime startDate,
                 @Param("endDate") LocalDateTime endDate,
-                @Param("doneStatus") TaskStatus doneStatus);
+                @Param("doneStatus") TaskStatus doneStatus,
+                @Param("fromSpaceId") long fromSpaceId,
+                @Param("toSpaceId") long toSpaceId,
+                @Param("afterId") Long afterId,
+                Pageable pageable);
 
-        // 캘린더용: 여러 스페이스의 마감일 범위 내 태스크 조회 (N+1 방지: project/space fetch join)
-        @Query("SELECT t FROM Task t " +
-                "JOIN FETCH t.project p " +
-                "JOIN FETCH p.space s " +
-                "WHERE p.space.id IN :spaceIds " +
-                "AND t.dueDate >= :startDate AND t.dueDate <= :endDate")
-        List<Task> findTasksDueInMonth(
-                @Param("spaceIds") List<Long> spaceIds,
+        // 캘린더용: 여러 스페이스의 마감일 구간 [startDate, endDate) 태스크를 필요한 컬럼만 DTO 로 조회
+        // - 엔티티/description 을 읽지 않고, 내 담당 여부는 EXISTS 로 같은 쿼리에서 계산 (userId 가 null 이면 모두 false)
+        @Query("SELECT new jbnu.jbnupms.domain.calendar.dto.CalendarItemDto(" +
+                "jbnu.jbnupms.domain.calendar.dto.CalendarItemType.TASK, t.title, t.dueDate, " +
+                "s.id, s.name, p.id, p.name, t.id, " +
+                "CASE WHEN EXISTS (SELECT 1 FROM TaskAssignee ta WHERE ta.task = t AND ta.user.id = :userId) " +
+                "THEN true ELSE false END) " +
+                "FROM Task t JOIN t.project p JOIN p.space s " +
+                "WHERE s.id IN :spaceIds " +
+                "AND t.dueDate >= :startDate AND t.dueDate < :endDate")
+        List<CalendarItemDto> findCalendarItems(
+                @Param("spaceIds") Collection<Long> spaceIds,
                 @Param("startDate") LocalDateTime startDate,
-                @Param("endDate") LocalDateTime endDate);
+                @Param("endDate") LocalDateTime endDate,
+                @Param("userId") Long userId);
 }
@@ -1,89 +1,190 @@
 package jbnu.jbnupms.domain.task.scheduler;
 
+import jbnu.jbnupms.common.checkpoint.SweepCheckpoint;
+import jbnu.jbnupms.common.checkpoint.SweepCheckpointService;
+import jbnu.jbnupms.common.lock.KeyRange;
+import jbnu.jbnupms.common.lock.SchedulerLockService;
+import jbnu.jbnupms.common.outbox.OutboxService;
+import jbnu.jbnupms.domain.notification.event.TaskDueBatchEvent;
 import jbnu.jbnupms.domain.notification.event.TaskDueEvent;
 import jbnu.jbnupms.domain.space.entity.ActionType;
+import jbnu.jbnupms.domain.space.entity.ActivityLog;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
 import jbnu.jbnupms.domain.space.service.ActivityLogService;
-import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.dto.DueTaskView;
+import jbnu.jbnupms.domain.task.dto.TaskAssigneeIdView;
 import jbnu.jbnupms.domain.task.entity.TaskStatus;
 import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 태스크 마감 스케줄러
+ * - 태스크를 ID 순 청크로 읽고, 청크마다 한 트랜잭션에서
+ *   담당자 조회 1회 + 당일 중복 확인 1회 + 활동 로그 batch insert 후 알림 이벤트 1건을 아웃박스에 기록
+ *   → 태스크 수와 무관하게 청크당 문장 수가 일정
+ * - 알림 이벤트는 로그/체크포인트와 함께 커밋되므로 커밋 직후 Pod 가 죽어도 유실되지 않고,
+ *   OutboxRelay 가 청크 단위로 일괄 저장
+ * - 당일 이미 기록된 태스크는 로그와 알림 모두 건너뛰므로 같은 날 다시 실행해도 중복 알림이 나가지 않음
+ * - 청크마다 진행 위치(체크포인트)를 같은 트랜잭션에 커밋 → 중간에 Pod 가 죽으면
+ *   잠금 임대가 만료된 뒤 resumeInterrupted 가 남은 태스크부터 이어서 처리 (메모리는 청크 크기만큼만 사용)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TaskDeadlineScheduler {
 
+    private static final String LOCK_NAME = "task-deadline";
+
     private final TaskRepository taskRepository;
     private final ActivityLogService activityLogService;
     private final TaskAssigneeRepository taskAssigneeRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final SpaceRepository spaceRepository;
+    private final OutboxService outboxService;
+    private final SchedulerLockService schedulerLockService;
+    private final SweepCheckpointService sweepCheckpointService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${task.deadline.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${notification.reminder.enabled:true}")
+    private boolean remindersEnabled;
+
+    public TaskDeadlineScheduler(TaskRepository taskRepository,
+                                 ActivityLogService activityLogService,
+                                 TaskAssigneeRepository taskAssigneeRepository,
+                                 SpaceRepository spaceRepository,
+                                 OutboxService outboxService,
+                                 SchedulerLockService schedulerLockService,
+                                 SweepCheckpointService sweepCheckpointService,
+                                 PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.activityLogService = activityLogService;
+        this.taskAssigneeRepository = taskAssigneeRepository;
+        this.spaceRepository = spaceRepository;
+        this.outboxService = outboxService;
+        this.schedulerLockService = schedulerLockService;
+        this.sweepCheckpointService = sweepCheckpointService;
+        // 청크마다 트랜잭션 (공용 transactionTemplate 빈은 REQUIRES_NEW 라 기본 전파로 따로 생성)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 매일 자정에 실행
      * - 오늘 마감인 미완료 태스크 → TASK_DUE_REACHED (마감 도달)
      * - 어제 마감이 지난 미완료 태스크 → TASK_OVERDUE (마감 지연)
+     * - 모든 Pod 에서 뜨지만 잠금을 잡은 Pod 만 실행 (분할 모드면 스페이스 ID 구간별로 나눠 실행)
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void checkTaskDeadlines() {
+        run(LocalDate.now());
+    }
+
+    // 오늘 실행이 중간에 끊겼으면 체크포인트부터 이어서 처리 (끝난 구간은 바로 건너뜀)
+    @Scheduled(fixedDelayString = "${scheduler.checkpoint.resume-interval-ms:600000}",
+            initialDelayString = "${scheduler.checkpoint.resume-interval-ms:600000}")
+    public void resumeInterrupted() {
         LocalDate today = LocalDate.now();
+        if (sweepCheckpointService.hasIncomplete(runName(today))) {
+            log.info("[Scheduler] 중단된 태스크 마감 처리 재개 ({})", today);
+            run(today);
+        }
+    }
+
+    private void run(LocalDate today) {
         LocalDate yesterday = today.minusDays(1);
+        String runName = runName(today);
+        long maxSpaceId = sweepCheckpointService.pinUpperBound(runName, spaceRepository::findMaxId);
 
-        logDueReached(today);
-        logOverdue(yesterday);
+        schedulerLockService.runPartitioned(LOCK_NAME, maxSpaceId, range -> {
+            int dueCount = sweep(today, false, range, runName + ":due:" + range);
+            log.info("[Scheduler] 마감 도달 태스크 {}건 처리 ({}, spaceId {})", dueCount, today, range);
+            int overdueCount = sweep(yesterday, true, range, runName + ":overdue:" + range);
+            log.info("[Scheduler] 마감 지연 태스크 {}건 처리 ({}, spaceId {})", overdueCount, yesterday, range);
+        });
     }
 
-    // 오늘 마감 도달 태스크 로깅
-    private void logDueReached(LocalDate date) {
-        List<Task> tasks = taskRepository.findTasksDueInRange(
-                date.atStartOfDay(), date.atTime(LocalTime.MAX), TaskStatus.DONE);
-        log.info("[Scheduler] 마감 도달 태스크 {}건 감지 ({})", tasks.size(), date);
-
-        for (Task task : tasks) {
-            activityLogService.logSystemActivity(
-                    task.getProject().getSpace(), task.getProject().getId(),
-                    task.getProject().getName(), task.getId(), task.getTitle(),
-                    ActionType.TASK_DUE_REACHED,
-                    "'" + task.getTitle() + "' 작업의 마감일이 도래했습니다.");
-
-            List<Long> assigneeIds = taskAssigneeRepository.findByTaskId(task.getId())
-                    .stream().map(ta -> ta.getUser().getId()).collect(Collectors.toList());
-            if (!assigneeIds.isEmpty()) {
-                eventPublisher.publishEvent(
-                        new TaskDueEvent(task.getId(), task.getTitle(), assigneeIds, false));
+    private String runName(LocalDate today) {
+        return LOCK_NAME + ":" + today;
+    }
+
+    /**
+     * 스페이스 ID 구간 안에서 해당 날짜가 마감인 미완료 태스크를 체크포인트 다음부터 청크 단위로 처리
+     * @return 새로 기록된 태스크 수
+     */
+    public int sweep(LocalDate date, boolean overdue, KeyRange spaceRange, String checkpointName) {
+        SweepCheckpoint checkpoint = sweepCheckpointService.begin(checkpointName);
+        if (checkpoint.isCompleted()) return 0;
+
+        long afterId = checkpoint.getLastId();
+        int total = 0;
+        while (true) {
+            List<DueTaskView> chunk = taskRepository.findDueTaskChunk(
+                    date.atStartOfDay(), date.atTime(LocalTime.MAX), TaskStatus.DONE,
+                    spaceRange.getFromExclusive(), spaceRange.getToInclusive(),
+                    afterId, PageRequest.of(0, chunkSize));
+            if (!chunk.isEmpty()) {
+                long lastId = chunk.get(chunk.size() - 1).getTaskId();
+                Integer logged = transactionTemplate.execute(status -> {
+                    int count = processChunk(chunk, overdue);
+                    sweepCheckpointService.advance(checkpointName, lastId);
+                    return count;
+                });
+                total += logged != null ? logged : 0;
+                afterId = lastId;
+            }
+            if (chunk.size() < chunkSize) {
+                sweepCheckpointService.complete(checkpointName);
+                return total;
             }
         }
     }
 
-    // 어제 마감이 지나 지연된 태스크 로깅
-    private void logOverdue(LocalDate date) {
-        List<Task> tasks = taskRepository.findTasksDueInRange(
-                date.atStartOfDay(), date.atTime(LocalTime.MAX), TaskStatus.DONE);
-        log.info("[Scheduler] 마감 지연 태스크 {}건 감지 ({})", tasks.size(), date);
-
-        for (Task task : tasks) {
-            activityLogService.logSystemActivity(
-                    task.getProject().getSpace(), task.getProject().getId(),
-                    task.getProject().getName(), task.getId(), task.getTitle(),
-                    ActionType.TASK_OVERDUE,
-                    "'" + task.getTitle() + "' 작업이 마감일을 초과했습니다.");
-
-            List<Long> assigneeIds = taskAssigneeRepository.findByTaskId(task.getId())
-                    .stream().map(ta -> ta.getUser().getId()).collect(Collectors.toList());
-            if (!assigneeIds.isEmpty()) {
-                eventPublisher.publishEvent(
-                        new TaskDueEvent(task.getId(), task.getTitle(), assigneeIds, true));
-            }
+    private int processChunk(List<DueTaskView> chunk, boolean overdue) {
+        ActionType actionType = overdue ? ActionType.TASK_OVERDUE : ActionType.TASK_DUE_REACHED;
+        List<ActivityLog> logs = activityLogService.logSystemActivities(actionType, chunk.stream()
+                .map(task -> ActivityLog.builder()
+                        .space(spaceRepository.getReferenceById(task.getSpaceId()))
+                        .projectId(task.getProjectId())
+                        .projectTitle(task.getProjectName())
+                        .taskId(task.getTaskId())
+                        .taskTitle(task.getTaskTitle())
+                        .actionType(actionType)
+                        .actor(null)
+                        .summary(overdue
+                                ? "'" + task.getTaskTitle() + "' 작업이 마감일을 초과했습니다."
+                                : "'" + task.getTaskTitle() + "' 작업의 마감일이 도래했습니다.")
+                        .build())
+                .collect(Collectors.toList()));
+        if (logs.isEmpty()) return 0;
+
+        Map<Long, List<Long>> assigneeIdsByTaskId = taskAssigneeRepository.findAssigneeIdsByTaskIdIn(
+                        logs.stream().map(ActivityLog::getTaskId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(TaskAssigneeIdView::getTaskId,
+                        Collectors.mapping(TaskAssigneeIdView::getUserId, Collectors.toList())));
+
+        List<TaskDueEvent> events = logs.stream()
+                .filter(activityLog -> assigneeIdsByTaskId.containsKey(activityLog.getTaskId()))
+                .map(activityLog -> new TaskDueEvent(activityLog.getTaskId(), activityLog.getTaskTitle(),
+                        assigneeIdsByTaskId.get(activityLog.getTaskId()), overdue))
+                .collect(Collectors.toList());
+        // 마감 임박 알림은 리마인더가 수신자 시간대 기준으로 보내므로, 리마인더를 쓰면 자정에는 지연 알림만 발행
+        if (!events.isEmpty() && (overdue || !remindersEnabled)) {
+            outboxService.append(new TaskDueBatchEvent(events));
         }
+        return logs.size();
     }
 }
@@ -0,0 +1,74 @@
+package jbnu.jbnupms.domain.task.scheduler;
+
+import jbnu.jbnupms.common.lock.SchedulerLockService;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPathReindexJob {
+
+    private static final String LOCK_NAME = "task-path-reindex";
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLockService schedulerLockService;
+
+    /**
+     * 애플리케이션 기동 시 실행
+     * - 경로(path)가 비어 있는 태스크가 있는 프로젝트만 골라 재색인 (기존 데이터 마이그레이션용)
+     * - 여러 Pod 가 동시에 떠도 잠금을 잡은 한 Pod 만 실행 (다른 Pod 는 건너뜀)
+     * - 끝나면 재색인 대상이 남지 않으므로 잠금을 바로 풀어 둠 (hold 0) → 실패로 남은 대상은 다음 기동 때 다시 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexUnindexedProjects() {
+        schedulerLockService.runWithLock(LOCK_NAME, 0, () -> {
+            List<Long> projectIds = taskRepository.findProjectIdsWithUnindexedTasks();
+            if (projectIds.isEmpty()) {
+                return;
+            }
+            log.info("[TaskPathReindex] 경로 재색인 대상 프로젝트 {}건", projectIds.size());
+            projectIds.forEach(this::reindexProject);
+        });
+    }
+
+    /**
+     * 프로젝트 단위 경로 재색인
+     * - 프로젝트별로 트랜잭션을 분리해 한 번에 메모리에 올리는 태스크 수를 제한
+     * - 최상위 태스크부터 BFS로 내려가며 부모 경로 + 자신의 ID로 경로를 다시 계산
+     */
+    public void reindexProject(Long projectId) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<Task> tasks = taskRepository.findByProjectId(projectId);
+            Map<Long, List<Task>> childrenMap = tasks.stream()
+                    .filter(task -> task.getParent() != null)
+                    .collect(Collectors.groupingBy(task -> task.getParent().getId()));
+
+            Deque<Task> queue = tasks.stream()
+                    .filter(task -> task.getParent() == null)
+                    .collect(Collectors.toCollection(ArrayDeque::new));
+            int indexed = 0;
+            while (!queue.isEmpty()) {
+                Task task = queue.poll();
+                task.refreshPath();
+                indexed++;
+                queue.addAll(childrenMap.getOrDefault(task.getId(), List.of()));
+            }
+            return indexed;
+        });
+        log.info("[TaskPathReindex] 프로젝트 {} 태스크 {}건 재색인 완료", projectId, count);
+    }
+}
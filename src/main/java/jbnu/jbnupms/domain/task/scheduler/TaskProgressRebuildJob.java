@@ -0,0 +1,47 @@
+package jbnu.jbnupms.domain.task.scheduler;
+
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.service.TaskProgressRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskProgressRebuildJob {
+
+    private final ProjectRepository projectRepository;
+    private final TaskProgressRollupService taskProgressRollupService;
+
+    @Value("${task.progress.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    /**
+     * 애플리케이션 기동 시 실행 (task.progress.rebuild-on-startup=true 인 경우만)
+     * - 기존 데이터 백필용으로 전체 프로젝트 진행률을 프로젝트 단위 트랜잭션으로 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    public void rebuildAll() {
+        List<Long> projectIds = projectRepository.findAllIds();
+        log.info("[ProgressRollup] 진행률 일괄 재계산 시작 (프로젝트 {}건)", projectIds.size());
+        for (Long projectId : projectIds) {
+            try {
+                taskProgressRollupService.rebuildProject(projectId);
+            } catch (Exception e) {
+                log.warn("[ProgressRollup] 프로젝트 {} 진행률 재계산 실패", projectId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.dto.MyTaskSummaryDto;
+import jbnu.jbnupms.domain.task.event.MyTaskSummaryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * (유저, 스페이스)별 내 작업 요약 캐시 (Redis)
+ * - task.summary.cache.enabled=true 일 때만 동작
+ * - 지연 개수는 날짜에 따라 바뀌므로 키에 날짜를 포함
+ * - 상태/마감일/담당자 변경 이벤트를 커밋 이후 받아 해당 유저들의 세대를 올리고 키를 삭제
+ * - DB 집계 전에 읽어 둔 세대가 저장 시점에도 같을 때만 저장 → 집계 도중 커밋된 변경의 무효화 뒤에
+ *   이전 값을 다시 써서 TTL 동안 남는 경우를 막는다 (AccessResolver 의 generation 과 같은 방식, Pod 간 공유를 위해 Redis 에 둠)
+ * - Redis 장애 시에는 캐시를 건너뛰고 DB 집계 결과를 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MyTaskSummaryCache {
+
+    private static final String KEY_PREFIX = "task-summary:";
+    private static final String GENERATION_PREFIX = "task-summary-gen:";
+
+    // KEYS = [값 키, 세대 키], ARGV = [값, 읽어 둔 세대, TTL] : 세대가 그대로일 때만 저장
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) " +
+            "return 1", Long.class);
+
+    // KEYS = [세대 키, 값 키, ...], ARGV = [세대 TTL] : 세대 증가 후 값 삭제
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "  redis.call('INCR', KEYS[i]) " +
+            "  redis.call('EXPIRE', KEYS[i], ARGV[1]) " +
+            "  redis.call('DEL', KEYS[i + 1]) " +
+            "end " +
+            "return #KEYS", Long.class);
+    private static final String DELIMITER = ",";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${task.summary.cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${task.summary.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public Optional<MyTaskSummaryDto> get(Long userId, Long spaceId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(key(userId, spaceId));
+            if (value == null) {
+                return Optional.empty();
+            }
+            String[] counts = value.toString().split(DELIMITER);
+            return Optional.of(MyTaskSummaryDto.builder()
+                    .totalCount(Long.parseLong(counts[0]))
+                    .inProgressCount(Long.parseLong(counts[1]))
+                    .doneCount(Long.parseLong(counts[2]))
+                    .delayedCount(Long.parseLong(counts[3]))
+                    .build());
+        } catch (Exception e) {
+            log.warn("내 작업 요약 캐시 조회 실패. userId={}, spaceId={}", userId, spaceId);
+            return Optional.empty();
+        }
+    }
+
+    // DB 집계 전에 호출해 현재 세대를 읽어 둠 (비활성/장애 시 null → 저장하지 않음)
+    public String generation(Long userId, Long spaceId) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(generationKey(userId, spaceId));
+            return value == null ? "0" : value.toString();
+        } catch (Exception e) {
+            log.warn("내 작업 요약 캐시 세대 조회 실패. userId={}, spaceId={}", userId, spaceId);
+            return null;
+        }
+    }
+
+    public void put(Long userId, Long spaceId, String generation, MyTaskSummaryDto summary) {
+        if (!enabled || generation == null) {
+            return;
+        }
+        String value = summary.getTotalCount() + DELIMITER + summary.getInProgressCount() + DELIMITER
+                + summary.getDoneCount() + DELIMITER + summary.getDelayedCount();
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(key(userId, spaceId), generationKey(userId, spaceId)),
+                    value, generation, String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("내 작업 요약 캐시 저장 실패. userId={}, spaceId={}", userId, spaceId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSummaryChanged(MyTaskSummaryChangedEvent event) {
+        if (!enabled || event.getUserIds().isEmpty()) {
+            return;
+        }
+        List<String> keys = event.getUserIds().stream()
+                .flatMap(userId -> Stream.of(generationKey(userId, event.getSpaceId()), key(userId, event.getSpaceId())))
+                .collect(Collectors.toList());
+        try {
+            // 세대 키는 진행 중인 집계보다 오래 남아야 하므로 값 TTL 의 2배로 유지
+            redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(ttlSeconds * 2));
+        } catch (Exception e) {
+            log.warn("내 작업 요약 캐시 무효화 실패. spaceId={}, userIds={}", event.getSpaceId(), event.getUserIds());
+        }
+    }
+
+    private String key(Long userId, Long spaceId) {
+        return KEY_PREFIX + userId + ":" + spaceId + ":" + LocalDate.now();
+    }
+
+    private String generationKey(Long userId, Long spaceId) {
+        return GENERATION_PREFIX + userId + ":" + spaceId;
+    }
+}
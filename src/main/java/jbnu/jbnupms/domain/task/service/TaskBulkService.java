@@ -0,0 +1,384 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.access.AccessResolver;
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.common.outbox.OutboxService;
+import jbnu.jbnupms.domain.calendar.event.CalendarChangedEvent;
+import jbnu.jbnupms.domain.notification.event.TaskAssignedBatchEvent;
+import jbnu.jbnupms.domain.notification.event.TaskAssignedEvent;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.entity.ProjectRole;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.space.entity.ActionType;
+import jbnu.jbnupms.domain.space.entity.ActivityLog;
+import jbnu.jbnupms.domain.space.service.ActivityLogService;
+import jbnu.jbnupms.domain.task.dto.TaskBulkCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkDeleteRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkMoveRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkResponse;
+import jbnu.jbnupms.domain.task.dto.TaskBulkResponse.ItemResult;
+import jbnu.jbnupms.domain.task.dto.TaskBulkUpdateRequest;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.entity.TaskAssigneeRole;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.MyTaskSummaryChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태스크 일괄 생성/수정/이동/삭제
+ * - 요청 단위로 프로젝트 쓰기 권한, 프로젝트 멤버, 대상 태스크를 한 번씩만 조회
+ * - 항목별 검증 실패는 결과에 사유를 담고 건너뛰며, 나머지 항목은 하나의 트랜잭션으로 반영
+ * - 담당자/활동 로그는 saveAll 로 모아 저장 (시퀀스 ID + hibernate.jdbc.batch_size 로 JDBC batch insert),
+ *   알림/요약 캐시 이벤트는 요청당 한 번씩 발행
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TaskBulkService {
+
+    private final TaskRepository taskRepository;
+    private final TaskAssigneeRepository taskAssigneeRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final AccessResolver accessResolver;
+    private final UserRepository userRepository;
+    private final ActivityLogService activityLogService;
+    private final TaskProgressRollupService taskProgressRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+
+    // 일괄 생성 (상위 태스크는 이미 존재하는 태스크만 지정 가능)
+    public TaskBulkResponse createTasks(Long userId, TaskBulkCreateRequest request) {
+        Project project = this.getProject(request.getProjectId());
+        this.validateProjectWriteAccess(project.getId(), userId);
+        User user = this.getUser(userId);
+
+        Set<Long> memberIds = this.getMemberIds(project.getId());
+        Map<Long, Task> parents = this.findTasks(request.getTasks().stream()
+                .map(TaskBulkCreateRequest.Item::getParentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<ItemResult> results = new ArrayList<>();
+        Map<Integer, Task> created = new LinkedHashMap<>();
+        Map<Integer, TaskBulkCreateRequest.Item> createdItems = new LinkedHashMap<>();
+        for (int i = 0; i < request.getTasks().size(); i++) {
+            TaskBulkCreateRequest.Item item = request.getTasks().get(i);
+            try {
+                Task parent = null;
+                if (item.getParentId() != null) {
+                    parent = parents.get(item.getParentId());
+                    this.validateSameProject(parent, project.getId(), "상위 태스크를 찾을 수 없습니다.");
+                }
+                this.validateMembers(memberIds, item.getAssigneeIds());
+                this.validateMembers(memberIds, item.getManagerIds());
+
+                created.put(i, Task.builder()
+                        .project(project)
+                        .creator(user)
+                        .parent(parent)
+                        .title(item.getTitle())
+                        .description(item.getDescription())
+                        .priority(item.getPriority())
+                        .dueDate(item.getDueDate())
+                        .build());
+                createdItems.put(i, item);
+            } catch (CustomException e) {
+                results.add(ItemResult.failure(i, null, e.getMessage()));
+            }
+        }
+
+        taskRepository.saveAll(created.values());
+
+        List<TaskAssignee> assignees = new ArrayList<>();
+        List<TaskAssignedEvent> assignedEvents = new ArrayList<>();
+        Set<Long> ancestorIds = new HashSet<>();
+        Set<Long> summaryUserIds = new HashSet<>();
+        created.forEach((index, task) -> {
+            task.refreshPath();
+            ancestorIds.addAll(task.getAncestorIds());
+
+            // 같은 유저가 담당자/관리자에 중복 지정되면 담당자 역할만 저장 (task_id, user_id 유니크)
+            TaskBulkCreateRequest.Item item = createdItems.get(index);
+            Map<Long, TaskAssigneeRole> roles = new LinkedHashMap<>();
+            item.getAssigneeIds().forEach(id -> roles.putIfAbsent(id, TaskAssigneeRole.ASSIGNEE));
+            if (item.getManagerIds() != null) {
+                item.getManagerIds().forEach(id -> roles.putIfAbsent(id, TaskAssigneeRole.MANAGER));
+            }
+            roles.forEach((assigneeId, role) -> {
+                assignees.add(TaskAssignee.builder()
+                        .task(task)
+                        .user(userRepository.getReferenceById(assigneeId))
+                        .role(role)
+                        .build());
+                if (!assigneeId.equals(userId)) {
+                    assignedEvents.add(new TaskAssignedEvent(
+                            task.getId(), task.getTitle(), assigneeId, user.getName(), project.getId()));
+                }
+            });
+            summaryUserIds.addAll(roles.keySet());
+            results.add(ItemResult.success(index, task.getId()));
+        });
+
+        taskAssigneeRepository.saveAll(assignees);
+        taskProgressRollupService.rollUpAll(project.getId(), ancestorIds);
+
+        if (!assignedEvents.isEmpty()) {
+            outboxService.append(new TaskAssignedBatchEvent(assignedEvents));
+        }
+        eventPublisher.publishEvent(new MyTaskSummaryChangedEvent(project.getSpace().getId(), new ArrayList<>(summaryUserIds)));
+        eventPublisher.publishEvent(CalendarChangedEvent.ofDueDates(project.getSpace().getId(),
+                created.values().stream().map(Task::getDueDate).collect(Collectors.toList())));
+
+        return this.toResponse(results);
+    }
+
+    // 일괄 수정 (null 인 필드는 기존 값 유지)
+    public TaskBulkResponse updateTasks(Long userId, TaskBulkUpdateRequest request) {
+        Project project = this.getProject(request.getProjectId());
+        this.validateProjectWriteAccess(project.getId(), userId);
+
+        Map<Long, Task> tasks = this.findTasks(request.getTasks().stream()
+                .map(TaskBulkUpdateRequest.Item::getTaskId)
+                .collect(Collectors.toSet()));
+
+        List<ItemResult> results = new ArrayList<>();
+        Set<Long> ancestorIds = new HashSet<>();
+        Set<Long> summaryTaskIds = new HashSet<>();
+        List<LocalDateTime> calendarDueDates = new ArrayList<>();
+        List<Task> completed = new ArrayList<>();
+        for (int i = 0; i < request.getTasks().size(); i++) {
+            TaskBulkUpdateRequest.Item item = request.getTasks().get(i);
+            Task task = tasks.get(item.getTaskId());
+            try {
+                this.validateSameProject(task, project.getId(), "태스크를 찾을 수 없습니다.");
+            } catch (CustomException e) {
+                results.add(ItemResult.failure(i, item.getTaskId(), e.getMessage()));
+                continue;
+            }
+
+            TaskStatus oldStatus = task.getStatus();
+            Double oldProgress = task.getProgress();
+            LocalDateTime oldDueDate = task.getDueDate();
+            String oldTitle = task.getTitle();
+
+            task.update(
+                    item.getTitle() != null ? item.getTitle() : task.getTitle(),
+                    item.getDescription() != null ? item.getDescription() : task.getDescription(),
+                    item.getStatus() != null ? item.getStatus() : task.getStatus(),
+                    item.getPriority() != null ? item.getPriority() : task.getPriority(),
+                    item.getDueDate() != null ? item.getDueDate() : task.getDueDate(),
+                    item.getProgress() != null ? item.getProgress() : task.getProgress());
+
+            if (oldStatus != task.getStatus() || !Objects.equals(oldProgress, task.getProgress())) {
+                ancestorIds.addAll(task.getAncestorIds());
+            }
+            if (oldStatus != task.getStatus() || !Objects.equals(oldDueDate, task.getDueDate())) {
+                summaryTaskIds.add(task.getId());
+            }
+            if (oldStatus != task.getStatus() || !Objects.equals(oldDueDate, task.getDueDate())
+                    || !Objects.equals(oldTitle, task.getTitle())) {
+                calendarDueDates.add(oldDueDate);
+                calendarDueDates.add(task.getDueDate());
+            }
+            if (oldStatus != TaskStatus.DONE && task.getStatus() == TaskStatus.DONE) {
+                completed.add(task);
+            }
+            results.add(ItemResult.success(i, task.getId()));
+        }
+
+        taskProgressRollupService.rollUpAll(project.getId(), ancestorIds);
+
+        if (!completed.isEmpty()) {
+            User user = this.getUser(userId);
+            activityLogService.logActivities(completed.stream()
+                    .map(task -> ActivityLog.builder()
+                            .space(project.getSpace())
+                            .projectId(project.getId())
+                            .projectTitle(project.getName())
+                            .taskId(task.getId())
+                            .taskTitle(task.getTitle())
+                            .actionType(ActionType.TASK_COMPLETED)
+                            .actor(user)
+                            .summary("작업이 완료되었습니다.")
+                            .build())
+                    .collect(Collectors.toList()));
+        }
+
+        if (!summaryTaskIds.isEmpty()) {
+            List<Long> assigneeIds = taskAssigneeRepository.findAllWithUserByTaskIdIn(new ArrayList<>(summaryTaskIds)).stream()
+                    .map(ta -> ta.getUser().getId())
+                    .distinct()
+                    .collect(Collectors.toList());
+            eventPublisher.publishEvent(new MyTaskSummaryChangedEvent(project.getSpace().getId(), assigneeIds));
+        }
+        eventPublisher.publishEvent(CalendarChangedEvent.ofDueDates(project.getSpace().getId(), calendarDueDates));
+
+        return this.toResponse(results);
+    }
+
+    // 일괄 이동 (요청 순서대로 처리, 하위 트리 경로는 항목마다 단일 쿼리로 교체)
+    public TaskBulkResponse moveTasks(Long userId, TaskBulkMoveRequest request) {
+        Long projectId = request.getProjectId();
+        this.validateProjectWriteAccess(projectId, userId);
+
+        List<ItemResult> results = new ArrayList<>();
+        Set<Long> ancestorIds = new HashSet<>();
+        for (int i = 0; i < request.getTasks().size(); i++) {
+            TaskBulkMoveRequest.Item item = request.getTasks().get(i);
+            // 이전 항목의 경로 일괄 갱신으로 영속성 컨텍스트가 비워지므로 항목마다 최신 상태로 조회
+            // (Set.of 는 중복 원소에 예외를 던지므로 HashSet 사용 → taskId == parentId 도 항목 실패로 처리)
+            Set<Long> ids = new HashSet<>();
+            ids.add(item.getTaskId());
+            if (item.getParentId() != null) {
+                ids.add(item.getParentId());
+            }
+            Map<Long, Task> loaded = this.findTasks(ids);
+            Task task = loaded.get(item.getTaskId());
+            try {
+                this.validateSameProject(task, projectId, "태스크를 찾을 수 없습니다.");
+                Task parent = null;
+                if (item.getParentId() != null) {
+                    parent = loaded.get(item.getParentId());
+                    this.validateSameProject(parent, projectId, "상위 태스크를 찾을 수 없습니다.");
+                    if (parent.isSelfOrDescendantOf(task)) {
+                        throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "하위 태스크 아래로 이동할 수 없습니다.");
+                    }
+                }
+
+                String oldPath = task.getPath();
+                ancestorIds.addAll(task.getAncestorIds());
+                task.changeParent(parent);
+                task.refreshPath();
+                ancestorIds.addAll(task.getAncestorIds());
+
+                if (oldPath != null && task.getPath() != null) {
+                    taskRepository.moveSubtree(oldPath, task.getPath());
+                }
+                results.add(ItemResult.success(i, item.getTaskId()));
+            } catch (CustomException e) {
+                results.add(ItemResult.failure(i, item.getTaskId(), e.getMessage()));
+            }
+        }
+
+        taskRepository.flush();
+        taskProgressRollupService.rollUpAll(projectId, ancestorIds);
+
+        return this.toResponse(results);
+    }
+
+    // 일괄 삭제 (하위 태스크 포함)
+    public TaskBulkResponse deleteTasks(Long userId, TaskBulkDeleteRequest request) {
+        Project project = this.getProject(request.getProjectId());
+        this.validateProjectWriteAccess(project.getId(), userId);
+
+        Map<Long, Task> tasks = this.findTasks(new HashSet<>(request.getTaskIds()));
+
+        List<ItemResult> results = new ArrayList<>();
+        Set<Long> ancestorIds = new HashSet<>();
+        Set<Long> summaryUserIds = new HashSet<>();
+        LocalDateTime deletedAt = LocalDateTime.now();
+        for (int i = 0; i < request.getTaskIds().size(); i++) {
+            Long taskId = request.getTaskIds().get(i);
+            Task task = tasks.get(taskId);
+            try {
+                this.validateSameProject(task, project.getId(), "태스크를 찾을 수 없습니다.");
+            } catch (CustomException e) {
+                results.add(ItemResult.failure(i, taskId, e.getMessage()));
+                continue;
+            }
+
+            ancestorIds.addAll(task.getAncestorIds());
+            if (task.getPath() != null) {
+                summaryUserIds.addAll(taskAssigneeRepository.findUserIdsByTaskPath(task.getPath()));
+                taskRepository.softDeleteSubtree(task.getPath(), deletedAt);
+            } else {
+                // 경로 재색인 전 데이터: 하위 태스크 cascade 삭제
+                taskAssigneeRepository.findByTaskId(taskId).forEach(ta -> summaryUserIds.add(ta.getUser().getId()));
+                taskRepository.findById(taskId).ifPresent(taskRepository::delete);
+                taskRepository.flush();
+            }
+            results.add(ItemResult.success(i, taskId));
+        }
+
+        // 삭제된 조상은 조회되지 않으므로 남은 조상만 재계산됨
+        taskProgressRollupService.rollUpAll(project.getId(), ancestorIds);
+        eventPublisher.publishEvent(new MyTaskSummaryChangedEvent(project.getSpace().getId(), new ArrayList<>(summaryUserIds)));
+        eventPublisher.publishEvent(CalendarChangedEvent.ofSpace(project.getSpace().getId()));
+
+        return this.toResponse(results);
+    }
+
+    private TaskBulkResponse toResponse(List<ItemResult> results) {
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        return TaskBulkResponse.of(results);
+    }
+
+    private Map<Long, Task> findTasks(Set<Long> taskIds) {
+        return taskRepository.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Set<Long> getMemberIds(Long projectId) {
+        return projectMemberRepository.findByProjectId(projectId).stream()
+                .map(member -> member.getUser().getId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void validateSameProject(Task task, Long projectId, String notFoundMessage) {
+        if (task == null) {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, notFoundMessage);
+        }
+        if (!task.getProject().getId().equals(projectId)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "다른 프로젝트에 속한 태스크입니다.");
+        }
+    }
+
+    // 담당자/관리자도 프로젝트 멤버여야 함
+    private void validateMembers(Set<Long> memberIds, List<Long> userIds) {
+        if (userIds != null && !memberIds.containsAll(userIds)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "담당자가 프로젝트 멤버가 아닙니다.");
+        }
+    }
+
+    private User getUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    private Project getProject(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "프로젝트를 찾을 수 없습니다."));
+    }
+
+    // 쓰기 권한: 프로젝트 멤버이면서 VIEWER가 아닌 경우
+    private void validateProjectWriteAccess(Long projectId, Long userId) {
+        ProjectRole role = accessResolver.getProjectRole(userId, projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다."));
+        if (role == ProjectRole.VIEWER) {
+            throw new CustomException(ErrorCode.VIEWER_WRITE_ACCESS_DENIED);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태스크/프로젝트 진행률 롤업
+ * - 상위 태스크 진행률 = 하위 태스크 평균, 프로젝트 진행률 = 최상위 태스크 평균 (완료 태스크는 100)
+ * - 변경 시에는 조상 체인만 가까운 순서대로 재계산하고, 백필용으로 프로젝트 단위 일괄 재계산을 제공
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskProgressRollupService {
+
+    private static final double DONE_PROGRESS = 100.0;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+
+    // 변경된 태스크의 조상 체인 + 프로젝트 진행률 재계산
+    @Transactional
+    public void rollUp(Task task) {
+        this.rollUp(task.getProject().getId(), task.getAncestorIds());
+    }
+
+    // ancestorIds는 가까운 조상부터 순서대로 전달 (삭제/이동처럼 엔티티가 분리된 경우 사용)
+    @Transactional
+    public void rollUp(Long projectId, List<Long> ancestorIds) {
+        Map<Long, Task> ancestors = taskRepository.findAllById(ancestorIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // 아래에서 위로 올라가며 갱신 (직전 갱신값은 다음 평균 쿼리 전에 자동 flush됨)
+        for (Long ancestorId : ancestorIds) {
+            Task ancestor = ancestors.get(ancestorId);
+            if (ancestor != null) {
+                this.refresh(ancestor);
+            }
+        }
+
+        projectRepository.findById(projectId).ifPresent(project ->
+                project.updateProgress(round(taskRepository.averageRootProgress(projectId, TaskStatus.DONE))));
+    }
+
+    // 일괄 작업용: 여러 조상 체인을 합쳐 각 태스크를 한 번씩만, 깊은 것부터 재계산
+    @Transactional
+    public void rollUpAll(Long projectId, Collection<Long> ancestorIds) {
+        List<Task> ancestors = taskRepository.findAllById(ancestorIds).stream()
+                .sorted(Comparator.comparingInt((Task task) -> task.getAncestorIds().size()).reversed())
+                .collect(Collectors.toList());
+
+        for (Task ancestor : ancestors) {
+            this.refresh(ancestor);
+        }
+
+        projectRepository.findById(projectId).ifPresent(project ->
+                project.updateProgress(round(taskRepository.averageRootProgress(projectId, TaskStatus.DONE))));
+    }
+
+    // 하위 태스크 평균으로 갱신, 마지막 하위 태스크가 삭제/이동되어 평균이 없으면 자신의 진행률 유지 (rebuildProject 와 동일)
+    private void refresh(Task task) {
+        Double average = taskRepository.averageChildProgress(task.getId(), TaskStatus.DONE);
+        if (average != null) {
+            task.updateProgress(round(average));
+        }
+    }
+
+    // 백필용: 프로젝트 전체 태스크를 한 번에 읽어 하위부터 진행률을 다시 계산
+    @Transactional
+    public void rebuildProject(Long projectId) {
+        List<Task> tasks = taskRepository.findByProjectId(projectId);
+        Map<Long, List<Task>> childrenMap = tasks.stream()
+                .filter(task -> task.getParent() != null)
+                .collect(Collectors.groupingBy(task -> task.getParent().getId()));
+
+        double rootAverage = tasks.stream()
+                .filter(task -> task.getParent() == null)
+                .mapToDouble(task -> this.rebuild(task, childrenMap))
+                .average()
+                .orElse(0.0);
+
+        projectRepository.findById(projectId).ifPresent(project -> project.updateProgress(round(rootAverage)));
+        log.info("[ProgressRollup] 프로젝트 {} 진행률 재계산 완료 (태스크 {}건)", projectId, tasks.size());
+    }
+
+    // 하위 태스크가 있으면 평균으로 갱신하고, 상위 평균 계산에 쓰일 진행률을 반환
+    private double rebuild(Task task, Map<Long, List<Task>> childrenMap) {
+        List<Task> children = childrenMap.getOrDefault(task.getId(), List.of());
+        if (!children.isEmpty()) {
+            double average = children.stream()
+                    .mapToDouble(child -> this.rebuild(child, childrenMap))
+                    .average()
+                    .orElse(0.0);
+            task.updateProgress(round(average));
+        }
+        if (task.getStatus() == TaskStatus.DONE) {
+            return DONE_PROGRESS;
+        }
+        return task.getProgress() != null ? task.getProgress() : 0.0;
+    }
+
+    // 소수점 첫째 자리까지 반올림 (최상위 태스크가 없는 프로젝트는 0)
+    private static Double round(Double value) {
+        if (value == null) {
+            return 0.0;
+        }
+        return Math.round(value * 10) / 10.0;
+    }
+}
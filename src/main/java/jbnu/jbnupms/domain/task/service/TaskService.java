@@ -1,15 +1,19 @@
 package jbnu.jbnupms.domain.task.service;
 
+import jbnu.jbnupms.common.access.AccessResolver;
 import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.common.outbox.OutboxService;
+import jbnu.jbnupms.domain.calendar.event.CalendarChangedEvent;
+import jbnu.jbnupms.domain.notification.event.TaskAssignedBatchEvent;
 import jbnu.jbnupms.domain.notification.event.TaskAssignedEvent;
 import jbnu.jbnupms.domain.project.entity.Project;
-import jbnu.jbnupms.domain.project.entity.ProjectMember;
 import jbnu.jbnupms.domain.project.entity.ProjectRole;
 import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.project.repository.ProjectRepository;
 import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
 import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskTreePageResponse;
 import jbnu.jbnupms.domain.task.dto.TaskUpdateRequest;
 import jbnu.jbnupms.domain.task.entity.Task;
 import jbnu.jbnupms.domain.task.entity.TaskAssignee;
@@ -17,8 +21,8 @@ import jbnu.jbnupms.domain.task.entity.TaskAssigneeRole;
 import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
 import jbnu.jbnupms.domain.task.dto.TaskSummaryDto;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
 import jbnu.jbnupms.domain.task.entity.TaskStatus;
-import jbnu.jbnupms.domain.space.repository.SpaceMemberRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
 import jbnu.jbnupms.domain.space.entity.ActionType;
@@ -27,15 +31,24 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import lombok.RequiredArgsConstructor;
+import jbnu.jbnupms.common.pagination.KeysetCursor;
+import jbnu.jbnupms.common.response.CursorPageResponse;
+import jbnu.jbnupms.domain.task.dto.MyTaskSearchCondition;
+import jbnu.jbnupms.domain.task.dto.MyTaskSummaryCount;
 import jbnu.jbnupms.domain.task.dto.MyTaskSummaryDto;
+import jbnu.jbnupms.domain.task.event.MyTaskSummaryChangedEvent;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -48,9 +61,17 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectMemberRepository projectMemberRepository;
-    private final SpaceMemberRepository spaceMemberRepository;
+    private final AccessResolver accessResolver;
     private final ActivityLogService activityLogService;
+    private final TaskProgressRollupService taskProgressRollupService;
+    private final MyTaskSummaryCache myTaskSummaryCache;
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+
+    private static final int MAX_TREE_PAGE_SIZE = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_TREE_DEPTH = 10;
+    private static final int MAX_TREE_NODES = 1000;
 
     // 태스크 생성
     @Transactional
@@ -83,28 +104,45 @@ public class TaskService {
                 .build();
 
         taskRepository.save(task);
+        task.refreshPath();
 
-        // 담당자 할당 (ASSIGNEE 역할)
-        for (Long assigneeId : request.getAssigneeIds()) {
-            assignUserToTask(task, assigneeId, TaskAssigneeRole.ASSIGNEE);
-            if (!assigneeId.equals(userId)) {
-                eventPublisher.publishEvent(new TaskAssignedEvent(
-                        task.getId(), task.getTitle(),
-                        assigneeId, user.getName(), project.getId()));
-            }
-        }
-        // 관리자 할당 (MANAGER 역할)
+        // 새 하위 태스크가 생기면 상위 태스크/프로젝트 진행률이 달라짐
+        taskProgressRollupService.rollUp(task);
+
+        // 담당자(ASSIGNEE) → 관리자(MANAGER) 순으로 할당, 중복 지정된 유저는 먼저 지정된 역할 유지
+        Map<Long, TaskAssigneeRole> roles = new LinkedHashMap<>();
+        request.getAssigneeIds().forEach(id -> roles.putIfAbsent(id, TaskAssigneeRole.ASSIGNEE));
         if (request.getManagerIds() != null) {
-            for (Long managerId : request.getManagerIds()) {
-                assignUserToTask(task, managerId, TaskAssigneeRole.MANAGER);
-                if (!managerId.equals(userId)) {
-                    eventPublisher.publishEvent(new TaskAssignedEvent(
-                            task.getId(), task.getTitle(),
-                            managerId, user.getName(), project.getId()));
-                }
-            }
+            request.getManagerIds().forEach(id -> roles.putIfAbsent(id, TaskAssigneeRole.MANAGER));
+        }
+
+        // 담당자/관리자도 프로젝트 멤버여야 함 (한 번에 확인 후 saveAll 로 batch insert)
+        List<Long> memberIds = projectMemberRepository.findUserIdsByProjectIdAndUserIdIn(project.getId(), roles.keySet());
+        if (memberIds.size() < roles.size()) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "담당자가 프로젝트 멤버가 아닙니다.");
+        }
+        taskAssigneeRepository.saveAll(roles.entrySet().stream()
+                .map(entry -> TaskAssignee.builder()
+                        .task(task)
+                        .user(userRepository.getReferenceById(entry.getKey()))
+                        .role(entry.getValue())
+                        .build())
+                .collect(Collectors.toList()));
+
+        // 담당자별 배정 알림을 아웃박스 1행으로 묶어 기록
+        List<TaskAssignedEvent> assignedEvents = roles.keySet().stream()
+                .filter(assigneeId -> !assigneeId.equals(userId))
+                .map(assigneeId -> new TaskAssignedEvent(
+                        task.getId(), task.getTitle(),
+                        assigneeId, user.getName(), project.getId()))
+                .collect(Collectors.toList());
+        if (!assignedEvents.isEmpty()) {
+            outboxService.append(new TaskAssignedBatchEvent(assignedEvents));
         }
 
+        eventPublisher.publishEvent(new MyTaskSummaryChangedEvent(project.getSpace().getId(), new ArrayList<>(roles.keySet())));
+        eventPublisher.publishEvent(CalendarChangedEvent.ofDueDates(project.getSpace().getId(), task.getDueDate()));
+
         return task.getId();
     }
 
@@ -114,31 +152,61 @@ public class TaskService {
         // 프로젝트 읽기 권한 확인 (public 프로젝트는 스페이스 멤버도 조회 가능)
         this.validateProjectReadAccess(projectId, userId);
 
-        List<Task> rootTasks = taskRepository.findRootTasksByProjectId(projectId);
-
-        // 프로젝트 내 모든 담당자 조회 후 Map으로 그룹화
-        List<TaskAssignee> allAssignees = taskAssigneeRepository.findAllByTask_ProjectId(projectId);
-        Map<Long, List<TaskAssignee>> assigneeMap = allAssignees.stream()
-                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
+        // 프로젝트 내 모든 태스크(+작성자)와 담당자(+유저)를 각각 한 번에 조회 후 메모리에서 계층 구성
+        List<Task> tasks = taskRepository.findAllWithCreatorByProjectId(projectId);
+        Map<Long, List<TaskAssignee>> assigneeMap = this.getAssigneeMap(projectId);
+        Map<Long, List<Task>> childrenMap = this.groupByParentId(tasks);
 
-        // Root Task 목록 스트림으로 순회하며 Map 전달
-        return rootTasks.stream()
-                .map(task -> TaskResponse.from(task, assigneeMap))
+        return tasks.stream()
+                .filter(task -> task.getParent() == null)
+                .map(task -> TaskResponse.from(task, assigneeMap, childrenMap))
                 .collect(Collectors.toList());
     }
 
+    // 프로젝트별 태스크 트리 조회 (최상위 태스크 커서 페이징 + 깊이 제한)
+    public TaskTreePageResponse getTaskTree(Long userId, Long projectId, Long cursor, int size, int depth) {
+        this.validateProjectReadAccess(projectId, userId);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_TREE_PAGE_SIZE);
+        List<Task> roots = taskRepository.findRootTasksAfterCursor(
+                projectId, cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판별
+        boolean hasNext = roots.size() > pageSize;
+        if (hasNext) {
+            roots = roots.subList(0, pageSize);
+        }
+
+        return TaskTreePageResponse.builder()
+                .tasks(this.expandTree(roots, depth))
+                .nextCursor(hasNext ? roots.get(roots.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 하위 트리 지연 펼침 (트리 조회에서 childCount만 내려간 노드를 펼칠 때 사용)
+    public TaskResponse getSubtree(Long userId, Long taskId, int depth) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectReadAccess(task.getProject().getId(), userId);
+
+        return this.expandTree(List.of(task), depth).get(0);
+    }
+
     // 태스크 단건 조회
     public TaskResponse getTask(Long userId, Long taskId) {
         Task task = this.getTaskById(taskId);
         Long projectId = task.getProject().getId();
         this.validateProjectReadAccess(projectId, userId);
 
-        // 프로젝트 내 모든 담당자 조회 후 Map으로 그룹화 (하위 작업 담당자 포함을 위해)
-        List<TaskAssignee> allAssignees = taskAssigneeRepository.findAllByTask_ProjectId(projectId);
-        Map<Long, List<TaskAssignee>> assigneeMap = allAssignees.stream()
-                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
+        // 하위 작업까지 포함하기 위해 경로 기준으로 하위 트리만 조회 후 메모리에서 계층 구성
+        // (경로 재색인 전 데이터는 프로젝트 단위로 조회)
+        List<Task> tasks = task.getPath() != null
+                ? taskRepository.findSubtreeWithCreator(task.getPath())
+                : taskRepository.findAllWithCreatorByProjectId(projectId);
+        Map<Long, List<TaskAssignee>> assigneeMap = this.getAssigneeMap(tasks);
+        Map<Long, List<Task>> childrenMap = this.groupByParentId(tasks);
 
-        return TaskResponse.from(task, assigneeMap);
+        return TaskResponse.from(task, assigneeMap, childrenMap);
     }
 
     // 태스크 수정
@@ -148,6 +216,9 @@ public class TaskService {
         this.validateProjectWriteAccess(task.getProject().getId(), userId);
 
         TaskStatus oldStatus = task.getStatus();
+        Double oldProgress = task.getProgress();
+        LocalDateTime oldDueDate = task.getDueDate();
+        String oldTitle = task.getTitle();
 
         task.update(
                 request.getTitle() != null ? request.getTitle() : task.getTitle(),
@@ -157,6 +228,26 @@ public class TaskService {
                 request.getDueDate() != null ? request.getDueDate() : task.getDueDate(),
                 request.getProgress() != null ? request.getProgress() : task.getProgress());
 
+        // 상태나 진행률이 바뀐 경우에만 조상 체인 진행률 재계산
+        if (oldStatus != task.getStatus() || !Objects.equals(oldProgress, task.getProgress())) {
+            taskProgressRollupService.rollUp(task);
+        }
+
+        // 상태나 마감일이 바뀌면 담당자들의 내 작업 요약이 달라짐
+        if (oldStatus != task.getStatus() || !Objects.equals(oldDueDate, task.getDueDate())) {
+            List<Long> assigneeIds = taskAssigneeRepository.findByTaskId(taskId).stream()
+                    .map(ta -> ta.getUser().getId())
+                    .collect(Collectors.toList());
+            eventPublisher.publishEvent(new MyTaskSummaryChangedEvent(task.getProject().getSpace().getId(), assigneeIds));
+        }
+
+        // 캘린더에 보이는 제목/마감일이나 상태가 바뀌면 바뀌기 전/후 달의 캘린더 캐시를 비움
+        if (oldStatus != task.getStatus() || !Objects.equals(oldDueDate, task.getDueDate())
+                || !Objects.equals(oldTitle, task.getTitle())) {
+            eventPublisher.publishEvent(CalendarChangedEvent.ofDueDates(
+                    task.getProject().getSpace().getId(), oldDueDate, task.getDueDate()));
+        }
+
         if (request.getStatus() != null && oldStatus != TaskStatus.DONE && task.getStatus() == TaskStatus.DONE) {
             activityLogService.logActivity(task.getProject().getSpace(), task.getProject().getId(),
                     task.getProject().getName(), task.getId(), task.getTitle(), ActionType.TASK_COMPLETED,
@@ -164,13 +255,68 @@ public class TaskService {
         }
     }
 
-    // 태스크 삭제
+    // 태스크 이동 (상위 태스크 변경, parentId가 null이면 최상위로 이동)
+    @Transactional
+    public void moveTask(Long userId, Long taskId, Long parentId) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectWriteAccess(task.getProject().getId(), userId);
+
+        Task parent = null;
+        if (parentId != null) {
+            parent = this.getTaskById(parentId);
+            if (!parent.getProject().getId().equals(task.getProject().getId())) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "상위 태스크가 다른 프로젝트에 속해 있습니다.");
+            }
+            // 자기 자신이나 자신의 하위 태스크 아래로는 이동 불가
+            if (parent.isSelfOrDescendantOf(task)) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "하위 태스크 아래로 이동할 수 없습니다.");
+            }
+        }
+
+        Long projectId = task.getProject().getId();
+        String oldPath = task.getPath();
+        List<Long> oldAncestorIds = task.getAncestorIds();
+        task.changeParent(parent);
+        task.refreshPath();
+        List<Long> newAncestorIds = task.getAncestorIds();
+
+        // 하위 트리 경로 접두사를 단일 쿼리로 일괄 교체
+        if (oldPath != null && task.getPath() != null) {
+            taskRepository.moveSubtree(oldPath, task.getPath());
+        }
+
+        // 이전/새 조상 체인 진행률 재계산
+        taskProgressRollupService.rollUp(projectId, oldAncestorIds);
+        taskProgressRollupService.rollUp(projectId, newAncestorIds);
+    }
+
+    // 태스크 삭제 (하위 태스크 포함)
     @Transactional
     public void deleteTask(Long userId, Long taskId) {
         Task task = this.getTaskById(taskId);
         this.validateProjectWriteAccess(task.getProject().getId(), userId);
 
-        taskRepository.delete(task);
+        Long projectId = task.getProject().getId();
+        Long spaceId = task.getProject().getSpace().getId();
+        List<Long> ancestorIds = task.getAncestorIds();
+        List<Long> assigneeIds = task.getPath() != null
+                ? taskAssigneeRepository.findUserIdsByTaskPath(task.getPath())
+                : taskAssigneeRepository.findByTaskId(taskId).stream()
+                        .map(ta -> ta.getUser().getId())
+                        .collect(Collectors.toList());
+
+        // 경로 기준으로 하위 트리 전체를 단일 쿼리로 soft delete (재색인 전 데이터는 children cascade 사용)
+        if (task.getPath() != null) {
+            taskRepository.softDeleteSubtree(task.getPath(), LocalDateTime.now());
+        } else {
+            taskRepository.delete(task);
+            taskRepository.flush();
+        }
+
+        taskProgressRollupService.rollUp(projectId, ancestorIds);
+        eventPublisher.publishEvent(new MyTaskSummaryChangedEvent(spaceId, assigneeIds));
+        // 하위 태스크들의 마감일은 제각각이므로 스페이스 캘린더 캐시 전체를 비움
+        eventPublisher.publishEvent(CalendarChangedEvent.ofSpace(spaceId));
     }
 
     // 담당자 추가
@@ -188,11 +334,15 @@ public class TaskService {
                 ActionType.ASSIGNEE_CHANGED, getUser(userId),
                 assignee.getName() + "님이 담당자로 추가되었습니다.");
 
-        // 알림 이벤트 publish
-        eventPublisher.publishEvent(new TaskAssignedEvent(
+        // 알림 이벤트 아웃박스 기록 (같은 트랜잭션)
+        outboxService.append(new TaskAssignedEvent(
                 task.getId(), task.getTitle(),
                 assigneeId, getUser(userId).getName(),
                 task.getProject().getId()));
+        eventPublisher.publishEvent(new MyTaskSummaryChangedEvent(
+                task.getProject().getSpace().getId(), List.of(assigneeId)));
+        eventPublisher.publishEvent(CalendarChangedEvent.ofDueDates(
+                task.getProject().getSpace().getId(), task.getDueDate()));
     }
 
     // 담당자 삭제
@@ -207,6 +357,10 @@ public class TaskService {
         activityLogService.logActivity(task.getProject().getSpace(), task.getProject().getId(),
                 task.getProject().getName(), task.getId(), task.getTitle(), ActionType.ASSIGNEE_CHANGED,
                 getUser(userId), assignee.getName() + "님이 담당자에서 제외되었습니다.");
+        eventPublisher.publishEvent(new MyTaskSummaryChangedEvent(
+                task.getProject().getSpace().getId(), List.of(assigneeId)));
+        eventPublisher.publishEvent(CalendarChangedEvent.ofDueDates(
+                task.getProject().getSpace().getId(), task.getDueDate()));
     }
 
     private void assignUserToTask(Task task, Long assigneeId, TaskAssigneeRole role) {
@@ -243,10 +397,41 @@ public class TaskService {
     }
 
     // 내 작업 목록 (범위별 페이징)
-    public Page<TaskSummaryDto> getMyTasks(Long userId, Long spaceId,
-                                           TaskStatus status, String range,
+    public Page<TaskSummaryDto> getMyTasks(Long userId, Long spaceId, Long projectId,
+                                           TaskStatus status, TaskPriority priority, String range,
                                            Pageable pageable) {
         validateSpaceMember(userId, spaceId);
+        MyTaskSearchCondition condition = buildMyTaskCondition(userId, spaceId, projectId, status, priority, range);
+        return taskAssigneeRepository.searchMyTasks(condition, pageable)
+                .map(this::toMyTaskSummary);
+    }
+
+    // 내 작업 목록 키셋 페이징 조회 (마감일 ASC, 마감일 없는 작업은 마지막) - 깊은 페이지도 비용 일정
+    public CursorPageResponse<TaskSummaryDto> getMyTasksByCursor(Long userId, Long spaceId, Long projectId,
+                                                                TaskStatus status, TaskPriority priority, String range,
+                                                                String cursor, int size, boolean withTotal) {
+        validateSpaceMember(userId, spaceId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        MyTaskSearchCondition condition = buildMyTaskCondition(userId, spaceId, projectId, status, priority, range);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판별
+        List<TaskAssignee> rows = taskAssigneeRepository.findMyTasksAfterCursor(condition, keysetCursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<TaskAssignee> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        TaskAssignee last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageResponse.<TaskSummaryDto>builder()
+                .content(page.stream().map(this::toMyTaskSummary).collect(Collectors.toList()))
+                .nextCursor(hasNext ? new KeysetCursor(last.getTask().getDueDate(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .totalCount(withTotal ? taskAssigneeRepository.countMyTasks(condition) : null)
+                .build();
+    }
+
+    // range(TODAY, WEEK, ALL) → 마감일 범위로 변환 (ALL 이면 범위 조건 없음)
+    private MyTaskSearchCondition buildMyTaskCondition(Long userId, Long spaceId, Long projectId,
+                                                       TaskStatus status, TaskPriority priority, String range) {
         LocalDateTime startDate = null;
         LocalDateTime endDate   = null;
         LocalDateTime now       = LocalDateTime.now();
@@ -258,31 +443,97 @@ public class TaskService {
             startDate = now.minusDays(dayOfWeek - 1).toLocalDate().atStartOfDay();
             endDate   = now.plusDays(7 - dayOfWeek).with(LocalTime.MAX);
         }
-        return taskAssigneeRepository
-                .findMyTasksByUserIdAndSpaceId(userId, spaceId, status, startDate, endDate, pageable)
-                .map(ta -> TaskSummaryDto.from(ta.getTask(),
-                        TaskSummaryDto.AssigneeSummaryDto.builder()
-                                .userId(ta.getUser().getId())
-                                .userName(ta.getUser().getName())
-                                .profileImage(ta.getUser().getProfileImage())
-                                .build()));
+        return MyTaskSearchCondition.builder()
+                .userId(userId)
+                .spaceId(spaceId)
+                .projectId(projectId)
+                .status(status)
+                .priority(priority)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
     }
 
-    // 내 작업 요약 (상태별 개수)
+    private TaskSummaryDto toMyTaskSummary(TaskAssignee ta) {
+        return TaskSummaryDto.from(ta.getTask(),
+                TaskSummaryDto.AssigneeSummaryDto.builder()
+                        .userId(ta.getUser().getId())
+                        .userName(ta.getUser().getName())
+                        .profileImage(ta.getUser().getProfileImage())
+                        .build());
+    }
+
+    // 내 작업 요약 (상태별 개수, 조건부 집계 1회 + 선택적 캐시)
     public MyTaskSummaryDto getMyTaskSummary(Long userId, Long spaceId) {
         validateSpaceMember(userId, spaceId);
-        long totalCount      = taskAssigneeRepository.countByUserIdAndSpaceId(userId, spaceId);
-        long inProgressCount = taskAssigneeRepository.countByUserIdAndSpaceIdAndStatus(
-                userId, spaceId, TaskStatus.IN_PROGRESS);
-        long doneCount       = taskAssigneeRepository.countByUserIdAndSpaceIdAndStatus(
-                userId, spaceId, TaskStatus.DONE);
-        LocalDateTime startOfToday = LocalDateTime.now().toLocalDate().atStartOfDay();
-        long delayedCount = taskAssigneeRepository.countDelayedTasks(
-                userId, spaceId, TaskStatus.DONE, startOfToday);
-        return MyTaskSummaryDto.builder()
-                .totalCount(totalCount).inProgressCount(inProgressCount)
-                .doneCount(doneCount).delayedCount(delayedCount)
-                .build();
+        return myTaskSummaryCache.get(userId, spaceId).orElseGet(() -> {
+            String generation = myTaskSummaryCache.generation(userId, spaceId);
+            LocalDateTime startOfToday = LocalDateTime.now().toLocalDate().atStartOfDay();
+            MyTaskSummaryCount count = taskAssigneeRepository.summarizeByUserIdAndSpaceId(
+                    userId, spaceId, TaskStatus.IN_PROGRESS, TaskStatus.DONE, startOfToday);
+            MyTaskSummaryDto summary = MyTaskSummaryDto.builder()
+                    .totalCount(count.getTotalCount()).inProgressCount(count.getInProgressCount())
+                    .doneCount(count.getDoneCount()).delayedCount(count.getDelayedCount())
+                    .build();
+            myTaskSummaryCache.put(userId, spaceId, generation, summary);
+            return summary;
+        });
+    }
+
+    // 레벨 단위로 depth 단계까지만 하위 태스크를 조회 (레벨당 쿼리 2회)
+    // 더 펼치면 MAX_TREE_NODES를 넘는 경우 해당 레벨에서 멈추고 childCount만 반환해 요청당 메모리를 제한
+    private List<TaskResponse> expandTree(List<Task> topTasks, int depth) {
+        int maxDepth = Math.min(Math.max(depth, 0), MAX_TREE_DEPTH);
+
+        List<Task> loaded = new ArrayList<>(topTasks);
+        Map<Long, List<Task>> childrenMap = new HashMap<>();
+        Map<Long, Long> childCountMap = new HashMap<>();
+
+        List<Task> frontier = topTasks;
+        for (int level = 0; !frontier.isEmpty(); level++) {
+            List<Long> frontierIds = frontier.stream().map(Task::getId).collect(Collectors.toList());
+            long nextLevelSize = 0;
+            for (Object[] row : taskRepository.countChildrenByParentIds(frontierIds)) {
+                childCountMap.put((Long) row[0], (Long) row[1]);
+                nextLevelSize += (Long) row[1];
+            }
+
+            if (level >= maxDepth || nextLevelSize == 0 || loaded.size() + nextLevelSize > MAX_TREE_NODES) {
+                break;
+            }
+
+            List<Task> children = taskRepository.findChildrenWithCreatorByParentIds(frontierIds);
+            frontierIds.forEach(id -> childrenMap.put(id, new ArrayList<>()));
+            children.forEach(child -> childrenMap.get(child.getParent().getId()).add(child));
+            loaded.addAll(children);
+            frontier = children;
+        }
+
+        Map<Long, List<TaskAssignee>> assigneeMap = this.getAssigneeMap(loaded);
+
+        return topTasks.stream()
+                .map(task -> TaskResponse.from(task, assigneeMap, childrenMap, childCountMap))
+                .collect(Collectors.toList());
+    }
+
+    // 프로젝트 내 모든 담당자를 태스크 ID 기준으로 그룹화
+    private Map<Long, List<TaskAssignee>> getAssigneeMap(Long projectId) {
+        return taskAssigneeRepository.findAllWithUserByProjectId(projectId).stream()
+                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
+    }
+
+    // 조회된 태스크들의 담당자를 태스크 ID 기준으로 그룹화
+    private Map<Long, List<TaskAssignee>> getAssigneeMap(List<Task> tasks) {
+        List<Long> taskIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
+        return taskAssigneeRepository.findAllWithUserByTaskIdIn(taskIds).stream()
+                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
+    }
+
+    // 하위 태스크를 parentId 기준으로 그룹화 (Task.children 지연 로딩 대체)
+    private Map<Long, List<Task>> groupByParentId(List<Task> tasks) {
+        return tasks.stream()
+                .filter(task -> task.getParent() != null)
+                .collect(Collectors.groupingBy(task -> task.getParent().getId()));
     }
 
     private User getUser(Long userId) {
@@ -302,27 +553,22 @@ public class TaskService {
 
     // 읽기 권한: 프로젝트 멤버 OR (public 프로젝트 + 스페이스 멤버)
     private void validateProjectReadAccess(Long projectId, Long userId) {
-        if (projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
-            return;
-        }
-        Project project = this.getProject(projectId);
-        if (project.getIsPublic() && spaceMemberRepository.existsBySpaceIdAndUserId(project.getSpace().getId(), userId)) {
-            return;
+        if (!accessResolver.canReadProject(userId, projectId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트에 접근 권한이 없습니다.");
         }
-        throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트에 접근 권한이 없습니다.");
     }
 
     // 쓰기 권한: 프로젝트 멤버이면서 VIEWER가 아닌 경우
     private void validateProjectWriteAccess(Long projectId, Long userId) {
-        ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
+        ProjectRole role = accessResolver.getProjectRole(userId, projectId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다."));
-        if (member.getRole() == ProjectRole.VIEWER) {
+        if (role == ProjectRole.VIEWER) {
             throw new CustomException(ErrorCode.VIEWER_WRITE_ACCESS_DENIED);
         }
     }
 
     private void validateSpaceMember(Long userId, Long spaceId) {
-        if (!spaceMemberRepository.existsBySpaceIdAndUserId(spaceId, userId)) {
+        if (!accessResolver.isSpaceMember(userId, spaceId)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED, "해당 스페이스의 멤버가 아닙니다.");
         }
     }
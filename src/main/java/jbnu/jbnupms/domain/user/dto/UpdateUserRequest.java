@@ -21,4 +21,8 @@ public class UpdateUserRequest {
 
     @Size(max = 100, message = "역할은 100자 이하여야 합니다.")
     private String position;
+
+    // IANA 시간대 ID (예: Asia/Seoul, America/New_York) - 마감 리마인더 시각 계산에 사용
+    @Size(max = 50, message = "시간대는 50자 이하여야 합니다.")
+    private String timeZone;
 }
\ No newline at end of file
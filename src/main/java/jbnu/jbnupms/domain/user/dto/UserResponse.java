@@ -18,6 +18,7 @@ public class UserResponse {
     private String profileImage;
     private String provider;
     private String position;
+    private String timeZone;
 
     public static UserResponse from(User user) {
         return UserResponse.builder()
@@ -27,6 +28,7 @@ public class UserResponse {
                 .profileImage(user.getProfileImage())
                 .provider(user.getProvider())
                 .position(user.getPosition())  // 추가
+                .timeZone(user.getTimeZone())
                 .build();
     }
 }
\ No newline at end of file
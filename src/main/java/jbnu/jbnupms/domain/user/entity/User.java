@@ -2,6 +2,7 @@ package jbnu.jbnupms.domain.user.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
@@ -12,6 +13,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
+
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,6 +48,11 @@ public class User {
     @Column(nullable = false)
     private Boolean isDeleted = false;
 
+    // 마감 리마인더 시각 계산용 시간대 (IANA ID, 예: Asia/Seoul)
+    @ColumnDefault("'" + DEFAULT_TIME_ZONE + "'")
+    @Column(nullable = false, length = 50)
+    private String timeZone = DEFAULT_TIME_ZONE;
+
     @Builder
     public User(String email, String password, String name, String profileImage, String provider, String providerId) {
         this.email = email;
@@ -72,6 +81,8 @@ public class User {
 
     public void updatePosition(String position) { this.position = position; }
 
+    public void updateTimeZone(String timeZone) { this.timeZone = timeZone; }
+
     public void softDelete() {
         this.isDeleted = true;
     }
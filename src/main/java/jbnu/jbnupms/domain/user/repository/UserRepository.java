@@ -3,8 +3,11 @@ package jbnu.jbnupms.domain.user.repository;
 import jbnu.jbnupms.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,6 +29,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.isDeleted = false")
     Optional<User> findById(Long id);
 
+    // 주어진 ID 중 삭제되지 않은 사용자 ID만 조회 (알림 일괄 발송용, 엔티티 로딩 없이)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.isDeleted = false")
+    List<Long> findActiveIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 마감 리마인더용: 사용 중인 시간대 목록
+    @Query("SELECT DISTINCT u.timeZone FROM User u WHERE u.isDeleted = false")
+    List<String> findDistinctTimeZones();
+
     // 모든 사용자 조회 - 삭제된 사용자 포함
     @Query("SELECT u FROM User u WHERE u.id = :id")
     Optional<User> findByIdIncludingDeleted(Long id);
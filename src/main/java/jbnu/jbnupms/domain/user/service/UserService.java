@@ -18,6 +18,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -88,6 +91,15 @@ public class UserService {
             user.updatePosition(request.getPosition());
         }
 
+        // 시간대 업데이트 (IANA ID 만 허용)
+        if (request.getTimeZone() != null) {
+            try {
+                user.updateTimeZone(ZoneId.of(request.getTimeZone()).getId());
+            } catch (DateTimeException e) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "올바른 시간대가 아닙니다.");
+            }
+        }
+
         userRepository.save(user);
 
         // 프로필 업데이트 로그
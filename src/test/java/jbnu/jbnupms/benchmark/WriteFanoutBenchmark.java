@@ -0,0 +1,137 @@
+package jbnu.jbnupms.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.entity.ProjectMember;
+import jbnu.jbnupms.domain.project.entity.ProjectRole;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
+import jbnu.jbnupms.domain.task.dto.TaskBulkCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.service.TaskBulkService;
+import jbnu.jbnupms.domain.task.service.TaskService;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 쓰기 fan-out 벤치마크 (k6/write-fanout-test.js 와 같은 시나리오를 HTTP 없이 서비스 호출로 측정)
+ * - 담당자 10명 태스크 단건 생성 / 담당자 3명 태스크 100건 일괄 생성의 p50/p95 와 호출당 prepared statement 수
+ * - 일반 테스트에서는 제외 (@Tag("benchmark")), 실행: gradle benchmark
+ * - 기본은 테스트 프로필(H2 인메모리). PostgreSQL 로 재려면
+ *   gradle benchmark -Dspring.datasource.url=jdbc:postgresql://... -Dspring.datasource.username=... -Dspring.datasource.password=...
+ *   -Dspring.datasource.driver-class-name=org.postgresql.Driver -Dspring.jpa.hibernate.ddl-auto=update
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class WriteFanoutBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteFanoutBenchmark.class);
+
+    private static final int FAN_OUT = 10;
+    private static final int BULK_SIZE = 100;
+    private static final int BULK_ASSIGNEES = 3;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void writeFanOut() {
+        // Given: 멤버 10명인 프로젝트 (실행마다 새 이메일이라 같은 DB 에서 반복 실행 가능)
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        Space space = spaceRepository.save(Space.builder().name("Bench " + run).description("benchmark").build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space).name("Bench " + run).description("benchmark").build());
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < FAN_OUT; i++) {
+            User user = userRepository.save(User.builder()
+                    .email("bench-" + run + "-" + i + "@example.com")
+                    .password("password")
+                    .name("Bench " + i)
+                    .provider("EMAIL")
+                    .build());
+            projectMemberRepository.save(ProjectMember.builder()
+                    .project(project).user(user).role(ProjectRole.MEMBER).build());
+            memberIds.add(user.getId());
+        }
+        Long ownerId = memberIds.get(0);
+
+        // When & Then
+        measure("single", 50, 500, () -> {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setProjectId(project.getId());
+            request.setTitle("Bench Task");
+            request.setAssigneeIds(memberIds);
+            taskService.createTask(ownerId, request);
+        });
+        measure("bulk", 10, 60, () -> {
+            TaskBulkCreateRequest request = new TaskBulkCreateRequest();
+            request.setProjectId(project.getId());
+            List<TaskBulkCreateRequest.Item> items = new ArrayList<>();
+            for (int i = 0; i < BULK_SIZE; i++) {
+                TaskBulkCreateRequest.Item item = new TaskBulkCreateRequest.Item();
+                item.setTitle("Bench Bulk " + i);
+                item.setAssigneeIds(memberIds.subList(0, BULK_ASSIGNEES));
+                items.add(item);
+            }
+            request.setTasks(items);
+            taskBulkService.createTasks(ownerId, request);
+        });
+    }
+
+    private void measure(String name, int warmup, int iterations, Runnable operation) {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Double> millis = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            millis.add((System.nanoTime() - start) / 1_000_000.0);
+        }
+        Collections.sort(millis);
+        log.info("[Benchmark] {} p50={}ms p95={}ms statements/op={} (n={})", name,
+                String.format("%.1f", millis.get(millis.size() / 2)),
+                String.format("%.1f", millis.get((int) Math.ceil(millis.size() * 0.95) - 1)),
+                statistics.getPrepareStatementCount() / iterations, iterations);
+        statistics.setStatisticsEnabled(false);
+    }
+}
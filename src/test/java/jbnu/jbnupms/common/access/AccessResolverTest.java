@@ -0,0 +1,159 @@
+package jbnu.jbnupms.common.access;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.dto.ProjectRoleUpdateRequest;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.entity.ProjectMember;
+import jbnu.jbnupms.domain.project.entity.ProjectRole;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.project.service.ProjectService;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.space.entity.SpaceMember;
+import jbnu.jbnupms.domain.space.entity.SpaceRole;
+import jbnu.jbnupms.domain.space.repository.SpaceMemberRepository;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.service.TaskService;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class AccessResolverTest {
+
+    @Autowired
+    private AccessResolver accessResolver;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private SpaceMemberRepository spaceMemberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    @Test
+    @DisplayName("같은 요청 안에서는 권한 확인 횟수와 무관하게 멤버십을 한 번만 조회해야 한다")
+    void resolver_ShouldLoadMembershipOncePerRequest() {
+        // Given
+        User user = saveUser("access@example.com");
+        Space space = spaceRepository.save(Space.builder().name("Access Space").description("Description").build());
+        spaceMemberRepository.save(SpaceMember.builder().space(space).user(user).role(SpaceRole.MEMBER).build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space).name("Access Project").description("Description").build());
+        projectMemberRepository.save(ProjectMember.builder().project(project).user(user).role(ProjectRole.MEMBER).build());
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When: 읽기/쓰기/스페이스 확인을 여러 번 수행 (테스트 메서드 전체가 하나의 Mock 요청)
+        for (int i = 0; i < 5; i++) {
+            assertThat(accessResolver.canReadProject(user.getId(), project.getId())).isTrue();
+            assertThat(accessResolver.getProjectRole(user.getId(), project.getId())).contains(ProjectRole.MEMBER);
+            assertThat(accessResolver.isSpaceMember(user.getId(), space.getId())).isTrue();
+        }
+
+        // Then: 프로젝트 역할 + 스페이스 역할 쿼리 2회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("멤버 역할이 변경되면 요청에 보관된 권한이 무효화되어 다음 확인부터 새 역할이 적용되어야 한다")
+    void updateMemberRole_ShouldInvalidateCachedMembership() {
+        // Given
+        User admin = saveUser("admin@example.com");
+        User member = saveUser("member@example.com");
+        Space space = spaceRepository.save(Space.builder().name("Role Space").description("Description").build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space).name("Role Project").description("Description").build());
+        projectMemberRepository.save(ProjectMember.builder().project(project).user(admin).role(ProjectRole.ADMIN).build());
+        projectMemberRepository.save(ProjectMember.builder().project(project).user(member).role(ProjectRole.MEMBER).build());
+        em.flush();
+
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setProjectId(project.getId());
+        request.setTitle("Before Demotion");
+        request.setAssigneeIds(List.of(member.getId()));
+        taskService.createTask(member.getId(), request);
+
+        // When: 관리자가 멤버를 VIEWER 로 변경
+        ProjectRoleUpdateRequest roleRequest = new ProjectRoleUpdateRequest();
+        ReflectionTestUtils.setField(roleRequest, "role", ProjectRole.VIEWER);
+        projectService.updateMemberRole(admin.getId(), project.getId(), member.getId(), roleRequest);
+        em.flush();
+
+        // Then
+        request.setTitle("After Demotion");
+        assertThatThrownBy(() -> taskService.createTask(member.getId(), request))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.VIEWER_WRITE_ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("프로젝트 조회로 최근 접근일시만 바뀌면 권한 캐시를 무효화하지 않아야 한다")
+    void getProject_ShouldNotInvalidateCachedMembership() {
+        // Given
+        User user = saveUser("access-read@example.com");
+        Space space = spaceRepository.save(Space.builder().name("Read Space").description("Description").build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space).name("Read Project").description("Description").build());
+        projectMemberRepository.save(ProjectMember.builder().project(project).user(user).role(ProjectRole.MEMBER).build());
+        em.flush();
+        long before = ((AtomicLong) ReflectionTestUtils.getField(accessResolver, "generation")).get();
+
+        // When
+        projectService.getProject(user.getId(), project.getId());
+        em.flush();
+
+        // Then
+        long after = ((AtomicLong) ReflectionTestUtils.getField(accessResolver, "generation")).get();
+        assertThat(after).isEqualTo(before);
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("Access User")
+                .provider("EMAIL")
+                .build());
+    }
+}
@@ -0,0 +1,92 @@
+package jbnu.jbnupms.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AsyncConfigTest {
+
+    @Autowired
+    private AsyncConfig asyncConfig;
+
+    @Autowired
+    private AsyncExecutorProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("풀과 대기열이 모두 차면 작업을 버리지 않고 제출한 스레드가 직접 실행해야 한다")
+    void executor_ShouldApplyBackPressureWhenSaturated() throws Exception {
+        // Given: 스레드 1개, 대기열 1칸짜리 풀
+        AsyncExecutorProperties.Pool pool = new AsyncExecutorProperties.Pool();
+        pool.setCoreSize(1);
+        pool.setMaxSize(1);
+        pool.setQueueCapacity(1);
+        properties.getPools().put("test-saturated", pool);
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) asyncConfig.createExecutor("test-saturated");
+        executor.initialize();
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(3);
+        AtomicReference<String> overflowThread = new AtomicReference<>();
+        try {
+            // When: 실행 중 1 + 대기 1 + 넘치는 1
+            executor.execute(() -> {
+                await(release);
+                finished.countDown();
+            });
+            executor.execute(finished::countDown);
+            executor.execute(() -> {
+                overflowThread.set(Thread.currentThread().getName());
+                finished.countDown();
+            });
+
+            // Then
+            assertThat(overflowThread.get()).isEqualTo(Thread.currentThread().getName());
+            assertThat(meterRegistry.find("async.executor.queued").tag("pool", "test-saturated")
+                    .gauge().value()).isEqualTo(1.0);
+            assertThat(meterRegistry.find("async.executor.rejected").tag("pool", "test-saturated")
+                    .counter().count()).isEqualTo(1.0);
+
+            release.countDown();
+            assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(meterRegistry.find("async.executor.task.duration").tag("pool", "test-saturated")
+                    .timer().count()).isEqualTo(3);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            properties.getPools().remove("test-saturated");
+        }
+    }
+
+    @Test
+    @DisplayName("알림 리스너용 실행기는 이름 붙은 전용 풀로 등록되어야 한다")
+    void notificationExecutor_ShouldBeNamedPool() {
+        AsyncTaskExecutor executor = asyncConfig.notificationExecutor();
+
+        assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+        assertThat(((ThreadPoolTaskExecutor) executor).getThreadNamePrefix()).isEqualTo("async-notification-");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
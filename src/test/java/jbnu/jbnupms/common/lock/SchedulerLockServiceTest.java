@@ -0,0 +1,75 @@
+package jbnu.jbnupms.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 잠금은 별도 트랜잭션으로 즉시 커밋되므로 테스트 트랜잭션 없이 실행 (테스트마다 다른 잠금 이름 사용)
+@SpringBootTest
+@ActiveProfiles("test")
+class SchedulerLockServiceTest {
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Test
+    @DisplayName("다른 Pod 가 임대 중인 작업은 건너뛰고, 임대가 만료된 잠금은 가져와 실행해야 한다")
+    void runWithLock_ShouldSkipHeldLeaseAndTakeOverExpiredOne() {
+        // Given: 살아있는 Pod 가 잡은 잠금과 죽은 Pod 가 남긴 만료된 잠금
+        String held = "held-" + UUID.randomUUID();
+        String expired = "expired-" + UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.save(new SchedulerLock(held, "other-pod", now, now.plusMinutes(10)));
+        schedulerLockRepository.save(new SchedulerLock(expired, "dead-pod", now.minusHours(1), now.minusMinutes(1)));
+        AtomicInteger runs = new AtomicInteger();
+
+        // When & Then
+        assertThat(schedulerLockService.runWithLock(held, runs::incrementAndGet)).isFalse();
+        assertThat(schedulerLockService.runWithLock(expired, runs::incrementAndGet)).isTrue();
+        assertThat(runs).hasValue(1);
+        assertThat(schedulerLockRepository.findById(expired).orElseThrow().getLockedBy()).isNotEqualTo("dead-pod");
+
+        // 처음 실행되는 작업은 행을 만들며 잡고, 끝난 뒤에도 hold 기간 동안은 다시 실행되지 않음
+        String fresh = "fresh-" + UUID.randomUUID();
+        assertThat(schedulerLockService.runWithLock(fresh, runs::incrementAndGet)).isTrue();
+        assertThat(schedulerLockService.runWithLock(fresh, runs::incrementAndGet)).isFalse();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("분할 모드에서는 ID 구간마다 한 번씩만 실행되고, 마지막 구간은 이후 생긴 ID 까지 포함해야 한다")
+    void runPartitioned_ShouldRunEachRangeOnce() {
+        // Given
+        String name = "partitioned-" + UUID.randomUUID();
+        ReflectionTestUtils.setField(schedulerLockService, "partitionCount", 3);
+        List<String> ranges = new CopyOnWriteArrayList<>();
+
+        try {
+            // When
+            int first = schedulerLockService.runPartitioned(name, 10, range -> ranges.add(range.toString()));
+            int second = schedulerLockService.runPartitioned(name, 10, range -> ranges.add(range.toString()));
+
+            // Then
+            assertThat(first).isEqualTo(3);
+            assertThat(second).isZero();
+            assertThat(ranges).containsExactlyInAnyOrder(
+                    "(0, 4]", "(4, 8]", "(8, " + Long.MAX_VALUE + "]");
+        } finally {
+            ReflectionTestUtils.setField(schedulerLockService, "partitionCount", 1);
+        }
+    }
+}
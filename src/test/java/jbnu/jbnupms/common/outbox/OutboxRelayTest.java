@@ -0,0 +1,123 @@
+package jbnu.jbnupms.common.outbox;
+
+import jbnu.jbnupms.domain.notification.entity.Notification;
+import jbnu.jbnupms.domain.notification.entity.NotificationType;
+import jbnu.jbnupms.domain.notification.event.CommentCreatedEvent;
+import jbnu.jbnupms.domain.notification.event.ProjectDueBatchEvent;
+import jbnu.jbnupms.domain.notification.event.ProjectDueEvent;
+import jbnu.jbnupms.domain.notification.event.TaskDueBatchEvent;
+import jbnu.jbnupms.domain.notification.event.TaskDueEvent;
+import jbnu.jbnupms.domain.notification.repository.NotificationRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 릴레이는 커밋된 행만 보므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<User> users = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        users.forEach(user -> notificationRepository.deleteAll(
+                notificationRepository.findLatestByReceiverId(user.getId(), PageRequest.of(0, 100))));
+        userRepository.deleteAll(users);
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커밋된 아웃박스 이벤트만 릴레이되어 알림이 생성되고, 처리된 행은 삭제되어야 한다")
+    void relayBatch_ShouldPublishOnlyCommittedEvents() {
+        // Given
+        User author = saveUser("outbox-author@example.com");
+        User receiver = saveUser("outbox-receiver@example.com");
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> outboxService.append(new CommentCreatedEvent(
+                1L, "Outbox Task", author.getId(), author.getName(), "커밋된 댓글", List.of(receiver.getId()))));
+        tx.executeWithoutResult(status -> {
+            outboxService.append(new CommentCreatedEvent(
+                    1L, "Outbox Task", author.getId(), author.getName(), "롤백된 댓글", List.of(receiver.getId())));
+            status.setRollbackOnly();
+        });
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(outboxEventRepository.count()).isZero();
+        List<Notification> notifications =
+                notificationRepository.findLatestByReceiverId(receiver.getId(), PageRequest.of(0, 10));
+        assertThat(notifications).extracting(Notification::getContent)
+                .containsExactly(author.getName() + ": 커밋된 댓글");
+    }
+
+    @Test
+    @DisplayName("마감 스케줄러가 기록한 청크 이벤트도 JSON 에서 복원되어 알림으로 저장되어야 한다")
+    void relayBatch_ShouldRestoreDueBatchEvents() {
+        // Given
+        User receiver = saveUser("outbox-due@example.com");
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            outboxService.append(new TaskDueBatchEvent(List.of(
+                    new TaskDueEvent(1L, "Due Task", List.of(receiver.getId()), true))));
+            outboxService.append(new ProjectDueBatchEvent(List.of(
+                    new ProjectDueEvent(2L, "Due Project", List.of(receiver.getId()), true))));
+        });
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(notificationRepository.findLatestByReceiverId(receiver.getId(), PageRequest.of(0, 10)))
+                .extracting(Notification::getType)
+                .containsExactlyInAnyOrder(NotificationType.TASK_OVERDUE, NotificationType.PROJECT_OVERDUE);
+    }
+
+    private User saveUser(String email) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("Outbox User")
+                .provider("EMAIL")
+                .build());
+        users.add(user);
+        return user;
+    }
+}
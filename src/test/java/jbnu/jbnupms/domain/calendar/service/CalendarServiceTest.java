@@ -0,0 +1,176 @@
+package jbnu.jbnupms.domain.calendar.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.calendar.dto.CalendarItemDto;
+import jbnu.jbnupms.domain.calendar.dto.CalendarItemType;
+import jbnu.jbnupms.domain.calendar.dto.CalendarMonthEntry;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.entity.ProjectMember;
+import jbnu.jbnupms.domain.project.entity.ProjectRole;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.space.entity.SpaceMember;
+import jbnu.jbnupms.domain.space.entity.SpaceRole;
+import jbnu.jbnupms.domain.space.repository.SpaceMemberRepository;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class CalendarServiceTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private SpaceMemberRepository spaceMemberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Test
+    @DisplayName("같은 스페이스/월 항목을 공유하되 내 담당 여부는 조회한 유저 기준으로 덮어써야 하고, 캐시 값은 JSON 으로 그대로 복원되어야 한다")
+    void getCalendarItems_ShouldOverlayAssignedToMePerUser() throws Exception {
+        // Given: 담당자(프로젝트 멤버)와 스페이스 멤버일 뿐인 유저
+        User assignee = saveUser("calendar-assignee@example.com");
+        User viewer = saveUser("calendar-viewer@example.com");
+        Space space = spaceRepository.save(Space.builder().name("Calendar Space").description("Description").build());
+        spaceMemberRepository.save(SpaceMember.builder().space(space).user(assignee).role(SpaceRole.MEMBER).build());
+        spaceMemberRepository.save(SpaceMember.builder().space(space).user(viewer).role(SpaceRole.MEMBER).build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Calendar Project")
+                .description("Description")
+                .dueDate(LocalDateTime.of(2031, 5, 31, 18, 0))
+                .build());
+        projectMemberRepository.save(ProjectMember.builder().project(project).user(assignee).role(ProjectRole.MEMBER).build());
+        Task task = taskRepository.save(Task.builder()
+                .project(project)
+                .creator(assignee)
+                .title("Calendar Task")
+                .description("Description")
+                .priority(TaskPriority.MEDIUM)
+                .dueDate(LocalDateTime.of(2031, 5, 10, 9, 0))
+                .build());
+        taskAssigneeRepository.save(TaskAssignee.builder().task(task).user(assignee).build());
+
+        // When
+        List<CalendarItemDto> mine = calendarService.getCalendarItems(assignee.getId(), space.getId(), 2031, 5);
+        List<CalendarItemDto> others = calendarService.getCalendarItems(viewer.getId(), space.getId(), 2031, 5);
+
+        // Then: 마감일 순 (태스크 → 프로젝트)
+        assertThat(mine).extracting(CalendarItemDto::getType)
+                .containsExactly(CalendarItemType.TASK, CalendarItemType.PROJECT);
+        assertThat(mine).extracting(CalendarItemDto::isAssignedToMe).containsExactly(true, true);
+        assertThat(others).extracting(CalendarItemDto::isAssignedToMe).containsExactly(false, false);
+        assertThat(mine.get(0).getTaskId()).isEqualTo(task.getId());
+
+        CalendarMonthEntry restored = objectMapper.readValue(objectMapper.writeValueAsString(
+                new CalendarMonthEntry(others, Map.of(task.getId(), List.of(assignee.getId())))), CalendarMonthEntry.class);
+        assertThat(restored.getItems()).usingRecursiveFieldByFieldElementComparator().isEqualTo(others);
+        assertThat(restored.getAssigneeIdsByTaskId()).containsEntry(task.getId(), List.of(assignee.getId()));
+    }
+
+    @Test
+    @DisplayName("기간 조회는 양 끝 날짜를 포함하고, 내 담당 여부를 같은 쿼리에서 계산하며, 최대 기간을 넘으면 거부해야 한다")
+    void getCalendarItemsInRange_ShouldIncludeBothEndsAndComputeMineInQuery() {
+        // Given: 기간 첫날 00:00, 마지막 날 23:59, 다음 날 00:00 마감 태스크
+        User assignee = saveUser("range-assignee@example.com");
+        User viewer = saveUser("range-viewer@example.com");
+        Space space = spaceRepository.save(Space.builder().name("Range Space").description("Description").build());
+        spaceMemberRepository.save(SpaceMember.builder().space(space).user(assignee).role(SpaceRole.MEMBER).build());
+        spaceMemberRepository.save(SpaceMember.builder().space(space).user(viewer).role(SpaceRole.MEMBER).build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Range Project")
+                .description("Description")
+                .dueDate(LocalDateTime.of(2031, 9, 30, 18, 0))
+                .build());
+        projectMemberRepository.save(ProjectMember.builder().project(project).user(assignee).role(ProjectRole.MEMBER).build());
+        Task first = saveTask(project, assignee, "First", LocalDateTime.of(2031, 7, 1, 0, 0));
+        saveTask(project, assignee, "Last", LocalDateTime.of(2031, 9, 30, 23, 59));
+        saveTask(project, assignee, "After", LocalDateTime.of(2031, 10, 1, 0, 0));
+        taskAssigneeRepository.save(TaskAssignee.builder().task(first).user(assignee).build());
+
+        // When: 3분기 (7/1 ~ 9/30, 92일)
+        LocalDate from = LocalDate.of(2031, 7, 1);
+        LocalDate to = LocalDate.of(2031, 9, 30);
+        List<CalendarItemDto> mine = calendarService.getCalendarItemsInRange(assignee.getId(), space.getId(), from, to);
+        List<CalendarItemDto> others = calendarService.getCalendarItemsInRange(viewer.getId(), space.getId(), from, to);
+
+        // Then
+        assertThat(mine).extracting(CalendarItemDto::getTitle).containsExactly("First", "Range Project", "Last");
+        assertThat(mine).extracting(CalendarItemDto::isAssignedToMe).containsExactly(true, true, false);
+        assertThat(others).extracting(CalendarItemDto::isAssignedToMe).containsExactly(false, false, false);
+        assertThat(mine.get(0).getProjectName()).isEqualTo("Range Project");
+        assertThat(mine.get(1).getTaskId()).isNull();
+
+        assertThatThrownBy(() -> calendarService.getCalendarItemsInRange(
+                assignee.getId(), space.getId(), from, to.plusDays(1)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private Task saveTask(Project project, User creator, String title, LocalDateTime dueDate) {
+        return taskRepository.save(Task.builder()
+                .project(project)
+                .creator(creator)
+                .title(title)
+                .description("Description")
+                .priority(TaskPriority.MEDIUM)
+                .dueDate(dueDate)
+                .build());
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("Calendar User")
+                .provider("EMAIL")
+                .build());
+    }
+}
@@ -0,0 +1,166 @@
+package jbnu.jbnupms.domain.notification.scheduler;
+
+import jbnu.jbnupms.domain.notification.entity.Notification;
+import jbnu.jbnupms.domain.notification.repository.NotificationDigestItemRepository;
+import jbnu.jbnupms.domain.notification.repository.NotificationRepository;
+import jbnu.jbnupms.domain.notification.service.NotificationDigestService;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class DeadlineReminderSchedulerTest {
+
+    @Autowired
+    private DeadlineReminderScheduler deadlineReminderScheduler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationDigestItemRepository notificationDigestItemRepository;
+
+    @Autowired
+    private NotificationDigestService notificationDigestService;
+
+    @Test
+    @DisplayName("리마인더는 마감일을 수신자 시간대 기준으로 해석해 각자의 마감 1시간 전 구간에서만 발송되어야 한다")
+    void remind_ShouldFireAtOffsetInEachReceiversTimeZone() {
+        // Given: 같은 태스크(벽시계 10:00 마감)를 서울/UTC 유저가 함께 담당
+        User seoul = saveUser("reminder-seoul@example.com", "Asia/Seoul");
+        User utc = saveUser("reminder-utc@example.com", "UTC");
+        Space space = spaceRepository.save(Space.builder()
+                .name("Reminder Space")
+                .description("Description")
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Reminder Project")
+                .description("Description")
+                .build());
+        Task task = taskRepository.save(Task.builder()
+                .project(project)
+                .creator(seoul)
+                .title("Reminder Task")
+                .description("Description")
+                .priority(TaskPriority.MEDIUM)
+                .dueDate(LocalDateTime.of(2031, 3, 1, 10, 0))
+                .build());
+        taskAssigneeRepository.save(TaskAssignee.builder().task(task).user(seoul).build());
+        taskAssigneeRepository.save(TaskAssignee.builder().task(task).user(utc).build());
+
+        // When & Then: 서울 10:00 = 01:00Z → 1시간 전인 00:00Z 구간에서는 서울 유저만
+        int seoulWindow = deadlineReminderScheduler.remind(
+                Instant.parse("2031-02-28T23:59:00Z"), Instant.parse("2031-03-01T00:00:00Z"));
+        assertThat(seoulWindow).isEqualTo(1);
+        assertThat(latestTitles(seoul)).containsExactly("태스크 마감 1시간 전입니다");
+        assertThat(latestTitles(utc)).isEmpty();
+
+        // UTC 10:00 → 1시간 전인 09:00Z 구간에서는 UTC 유저만
+        int utcWindow = deadlineReminderScheduler.remind(
+                Instant.parse("2031-03-01T08:59:00Z"), Instant.parse("2031-03-01T09:00:00Z"));
+        assertThat(utcWindow).isEqualTo(1);
+        assertThat(latestTitles(utc)).containsExactly("태스크 마감 1시간 전입니다");
+        assertThat(latestTitles(seoul)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("요약 모드에서도 리마인더는 일일 요약에 넣지 않고 바로 발송해야 한다")
+    void remind_ShouldBypassDigest_WhenDigestEnabled() {
+        // Given
+        User user = saveUser("reminder-digest@example.com", "UTC");
+        Space space = spaceRepository.save(Space.builder()
+                .name("Digest Space")
+                .description("Description")
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Digest Project")
+                .description("Description")
+                .build());
+        Task task = taskRepository.save(Task.builder()
+                .project(project)
+                .creator(user)
+                .title("Digest Task")
+                .description("Description")
+                .priority(TaskPriority.MEDIUM)
+                .dueDate(LocalDateTime.of(2031, 3, 1, 10, 0))
+                .build());
+        taskAssigneeRepository.save(TaskAssignee.builder().task(task).user(user).build());
+        long itemsBefore = notificationDigestItemRepository.count();
+
+        // 빈은 트랜잭션 프록시이므로 실제 객체의 설정값을 바꾼다
+        NotificationDigestService target = AopTestUtils.getTargetObject(notificationDigestService);
+        ReflectionTestUtils.setField(target, "enabled", true);
+        try {
+            // When
+            int reminded = deadlineReminderScheduler.remind(
+                    Instant.parse("2031-03-01T08:59:00Z"), Instant.parse("2031-03-01T09:00:00Z"));
+
+            // Then
+            assertThat(reminded).isEqualTo(1);
+            assertThat(latestTitles(user)).containsExactly("태스크 마감 1시간 전입니다");
+            assertThat(notificationDigestItemRepository.count()).isEqualTo(itemsBefore);
+        } finally {
+            ReflectionTestUtils.setField(target, "enabled", false);
+        }
+    }
+
+    private List<String> latestTitles(User user) {
+        return notificationRepository.findLatestByReceiverId(user.getId(), PageRequest.of(0, 10)).stream()
+                .map(Notification::getTitle)
+                .collect(Collectors.toList());
+    }
+
+    private User saveUser(String email, String timeZone) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .name("Reminder User")
+                .provider("EMAIL")
+                .build();
+        user.updateTimeZone(timeZone);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,298 @@
+package jbnu.jbnupms.domain.notification.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jbnu.jbnupms.common.pagination.KeysetCursor;
+import jbnu.jbnupms.domain.notification.dto.UnreadCountView;
+import jbnu.jbnupms.domain.notification.entity.Notification;
+import jbnu.jbnupms.domain.notification.entity.NotificationType;
+import jbnu.jbnupms.domain.notification.repository.NotificationArchiveRepository;
+import jbnu.jbnupms.domain.notification.repository.NotificationRepository;
+import jbnu.jbnupms.domain.notification.sse.SseEmitterRegistry;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class NotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationDigestService notificationDigestService;
+
+    @Autowired
+    private NotificationArchiveService notificationArchiveService;
+
+    @Autowired
+    private NotificationArchiveRepository notificationArchiveRepository;
+
+    @Autowired
+    private SseEmitterRegistry sseEmitterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    @Test
+    @DisplayName("같은 유저가 여러 탭에서 구독하면 연결이 모두 유지되고, 상한을 넘으면 가장 오래된 연결부터 닫혀야 한다")
+    void subscribe_ShouldKeepMultipleConnectionsPerUser() {
+        // Given
+        User user = saveUser("sse@example.com");
+
+        // When & Then
+        notificationService.subscribe(user.getId(), null);
+        notificationService.subscribe(user.getId(), null);
+        assertThat(sseEmitterRegistry.getConnectionCount(user.getId())).isEqualTo(2);
+
+        for (int i = 0; i < 5; i++) {
+            notificationService.subscribe(user.getId(), null);
+        }
+        assertThat(sseEmitterRegistry.getConnectionCount(user.getId())).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("느린 연결의 대기열이 가득 차면 호출 스레드를 막지 않고 이벤트를 버린 뒤 연결을 끊어야 한다")
+    void sendJson_ShouldDropAndCloseSlowConnectionWithoutBlocking() throws Exception {
+        // Given: 첫 전송에서 멈춰 있는 느린 클라이언트
+        User user = saveUser("slow@example.com");
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter slowEmitter = new SseEmitter(60_000L) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        sseEmitterRegistry.add(user.getId(), slowEmitter);
+        double droppedBefore = meterRegistry.find("notification.sse.events.dropped").tag("reason", "queue_full")
+                .counter().count();
+
+        // When: 대기열 용량(256)보다 많이 전송
+        long start = System.nanoTime();
+        for (int i = 0; i < 300; i++) {
+            sseEmitterRegistry.sendJson(user.getId(), "notification", null, "{}");
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(sseEmitterRegistry.getConnectionCount(user.getId())).isZero();
+        assertThat(meterRegistry.find("notification.sse.events.dropped").tag("reason", "queue_full")
+                .counter().count()).isGreaterThan(droppedBefore);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 커서 이후에 생성된 알림만 오래된 순으로 재전송 대상이 되어야 한다")
+    void findByReceiverIdAfterCursor_ShouldReturnOnlyMissedNotifications() {
+        // Given
+        User user = saveUser("replay@example.com");
+        for (int i = 1; i <= 4; i++) {
+            notificationService.send(user.getId(), NotificationType.COMMENT, "알림 " + i, "내용", "/tasks/" + i);
+        }
+        List<Notification> all = notificationRepository.findLatestByReceiverId(user.getId(), PageRequest.of(0, 10));
+        Notification lastReceived = all.get(2); // 최신순 3번째 = "알림 2"
+        String lastEventId = new KeysetCursor(lastReceived.getCreatedAt(), lastReceived.getId()).encode();
+
+        // When
+        KeysetCursor cursor = KeysetCursor.decode(lastEventId);
+        List<Notification> missed = notificationRepository.findByReceiverIdAfterCursor(
+                user.getId(), cursor.getSortKey(), cursor.getId(), PageRequest.of(0, 100));
+
+        // Then
+        assertThat(missed).extracting(Notification::getTitle).containsExactly("알림 3", "알림 4");
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 재계산 집계는 수신자별 개수를 한 번에 반환하고, 읽음 처리한 알림은 제외해야 한다")
+    void countUnreadByReceiverIdIn_ShouldGroupUnreadCountsPerReceiver() {
+        // Given
+        User first = saveUser("unread1@example.com");
+        User second = saveUser("unread2@example.com");
+        User none = saveUser("unread3@example.com");
+        for (int i = 0; i < 3; i++) {
+            notificationService.send(first.getId(), NotificationType.COMMENT, "알림 " + i, "내용", "/tasks/1");
+        }
+        notificationService.send(second.getId(), NotificationType.COMMENT, "알림", "내용", "/tasks/1");
+        Notification read = notificationRepository.findLatestByReceiverId(first.getId(), PageRequest.of(0, 1)).get(0);
+        notificationService.markAsRead(read.getId(), first.getId());
+        em.flush();
+
+        // When
+        Map<Long, Long> counts = notificationRepository
+                .countUnreadByReceiverIdIn(List.of(first.getId(), second.getId(), none.getId())).stream()
+                .collect(Collectors.toMap(UnreadCountView::getReceiverId, UnreadCountView::getUnreadCount));
+
+        // Then
+        assertThat(counts).containsOnly(entry(first.getId(), 2L), entry(second.getId(), 1L));
+        assertThat(notificationService.getUnreadCount(first.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 태스크에 댓글이 연달아 달리면 읽지 않은 알림 하나로 합쳐지고, 읽은 뒤의 댓글은 새 알림이 되어야 한다")
+    void sendAll_ShouldCoalesceBurstOfCommentsIntoOneNotification() {
+        // Given
+        User receiver = saveUser("coalesce@example.com");
+
+        notificationService.sendAll(List.of(receiver.getId()), NotificationType.COMMENT,
+                "[X] 새 댓글", "작성자: 댓글 1", "/tasks/1");
+        em.flush();
+        Notification first = notificationRepository.findLatestByReceiverId(receiver.getId(), PageRequest.of(0, 1)).get(0);
+        LocalDateTime firstCreatedAt = first.getCreatedAt();
+
+        // When: 같은 대상 댓글 알림 4건 더
+        for (int i = 2; i <= 5; i++) {
+            notificationService.sendAll(List.of(receiver.getId()), NotificationType.COMMENT,
+                    "[X] 새 댓글", "작성자: 댓글 " + i, "/tasks/1");
+        }
+        em.flush();
+        em.clear();
+
+        // Then: 합쳐진 알림은 시각이 갱신되어 처음 알림을 받은 커서 이후 재전송에 포함됨
+        List<Notification> notifications =
+                notificationRepository.findLatestByReceiverId(receiver.getId(), PageRequest.of(0, 10));
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).getGroupCount()).isEqualTo(5);
+        assertThat(notifications.get(0).getContent()).isEqualTo("작성자: 댓글 5 외 4건");
+        assertThat(notificationRepository.findByReceiverIdAfterCursor(
+                receiver.getId(), firstCreatedAt, first.getId(), PageRequest.of(0, 10)))
+                .extracting(Notification::getId).containsExactly(first.getId());
+
+        // When: 읽은 뒤 새 댓글
+        notificationService.markAsRead(notifications.get(0).getId(), receiver.getId());
+        notificationService.sendAll(List.of(receiver.getId()), NotificationType.COMMENT,
+                "[X] 새 댓글", "작성자: 댓글 6", "/tasks/1");
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(notificationRepository.findLatestByReceiverId(receiver.getId(), PageRequest.of(0, 10))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("요약 모드의 마감 알림은 수신자별로 모였다가 요약 알림 1건으로 발송되어야 한다")
+    void flushBatch_ShouldSendOneDigestPerReceiver() {
+        // Given
+        User first = saveUser("digest1@example.com");
+        User second = saveUser("digest2@example.com");
+        notificationDigestService.collect(List.of(first.getId(), second.getId()), NotificationType.TASK_DUE, "[A]");
+        notificationDigestService.collect(List.of(first.getId()), NotificationType.TASK_OVERDUE, "[B]");
+        notificationDigestService.collect(List.of(first.getId()), NotificationType.PROJECT_DUE, "[P]");
+        em.flush();
+
+        // When
+        int processed = notificationDigestService.flushBatch();
+        em.flush();
+
+        // Then
+        assertThat(processed).isEqualTo(4);
+        assertThat(notificationDigestService.flushBatch()).isZero();
+        List<Notification> firstDigests =
+                notificationRepository.findLatestByReceiverId(first.getId(), PageRequest.of(0, 10));
+        assertThat(firstDigests).hasSize(1);
+        assertThat(firstDigests.get(0).getType()).isEqualTo(NotificationType.DIGEST);
+        assertThat(firstDigests.get(0).getTitle()).isEqualTo("오늘의 마감 알림 3건");
+        assertThat(firstDigests.get(0).getContent()).isEqualTo("마감 도래 [A]\n마감 초과 [B]\n프로젝트 마감 도래 [P]");
+        assertThat(notificationRepository.findLatestByReceiverId(second.getId(), PageRequest.of(0, 10)))
+                .extracting(Notification::getTitle).containsExactly("오늘의 마감 알림 1건");
+    }
+
+    @Test
+    @DisplayName("보관 작업은 기준보다 오래된 읽은 알림만 보관 테이블로 옮기고, 읽지 않았거나 최근 알림은 남겨야 한다")
+    void archiveBatch_ShouldMoveOnlyOldReadNotifications() {
+        // Given
+        User user = saveUser("archive@example.com");
+        for (int i = 1; i <= 3; i++) {
+            notificationService.send(user.getId(), NotificationType.TASK_ASSIGN, "알림 " + i, "내용", "/tasks/" + i);
+        }
+        List<Notification> notifications = notificationRepository.findLatestByReceiverId(user.getId(), PageRequest.of(0, 10));
+        Notification oldRead = notifications.get(2);     // 알림 1: 오래됨 + 읽음 → 이동
+        Notification oldUnread = notifications.get(1);   // 알림 2: 오래됨 + 안 읽음 → 유지
+        notificationService.markAsRead(oldRead.getId(), user.getId());
+        notificationService.markAsRead(notifications.get(0).getId(), user.getId()); // 알림 3: 최근 + 읽음 → 유지
+        em.flush();
+        em.createQuery("UPDATE Notification n SET n.createdAt = :old WHERE n.id IN :ids")
+                .setParameter("old", LocalDateTime.now().minusDays(60))
+                .setParameter("ids", List.of(oldRead.getId(), oldUnread.getId()))
+                .executeUpdate();
+        em.clear();
+
+        // When
+        int archived = notificationArchiveService.archiveBatch(LocalDateTime.now().minusDays(30), 100);
+
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(notificationRepository.findLatestByReceiverId(user.getId(), PageRequest.of(0, 10)))
+                .extracting(Notification::getTitle).containsExactly("알림 3", "알림 2");
+        assertThat(notificationArchiveRepository.findById(oldRead.getId()))
+                .hasValueSatisfying(archive -> assertThat(archive.getTitle()).isEqualTo("알림 1"));
+    }
+
+    @Test
+    @DisplayName("1,000명 대상 알림 일괄 발송은 수신자 수와 무관하게 적은 쿼리로 처리되어야 한다")
+    void sendAll_ShouldBatchThousandRecipientFanOut() {
+        // Given
+        List<Long> receiverIds = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            receiverIds.add(saveUser("fanout" + i + "@example.com").getId());
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        notificationService.sendAll(receiverIds, NotificationType.TASK_DUE, "일괄", "내용", "/tasks/1");
+        em.flush();
+
+        // Then: 수신자 ID 조회 1 + 시퀀스 20 + INSERT batch 20 내외 (단건 반복은 수신자당 1회 이상)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1_000);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(50);
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("SSE User")
+                .provider("EMAIL")
+                .build());
+    }
+}
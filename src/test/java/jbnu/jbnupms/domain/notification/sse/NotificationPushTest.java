@@ -0,0 +1,95 @@
+package jbnu.jbnupms.domain.notification.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Redis 없이 Pod 간 전파 경로만 검증 (테스트 프로필은 local 모드라 구독 빈이 뜨지 않으므로 직접 생성)
+class NotificationPushTest {
+
+    private static final String CHANNEL = "notification:push";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CapturingDispatcher dispatcher;
+    private SseEmitterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new CapturingDispatcher();
+        registry = new SseEmitterRegistry(dispatcher, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(registry, "maxConnectionsPerUser", 5);
+    }
+
+    @Test
+    @DisplayName("구독자는 채널 메시지를 이 Pod 에 연결된 수신자에게만 전달해야 한다")
+    void onMessage_ShouldDeliverOnlyToLocalConnections() throws Exception {
+        // Given: 이 Pod 에는 유저 1 의 탭 2개만 연결됨 (유저 2 는 다른 Pod 에 연결)
+        registry.add(1L, new SseEmitter());
+        registry.add(1L, new SseEmitter());
+        NotificationPushSubscriber subscriber = new NotificationPushSubscriber(null, registry, objectMapper);
+
+        // When
+        subscriber.onMessage(message(new NotificationPushMessage(1L, "notification", "10", "{\"id\":10}")), null);
+        subscriber.onMessage(message(new NotificationPushMessage(2L, "notification", "11", "{\"id\":11}")), null);
+        subscriber.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not-json".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then: 유저 1 의 두 연결에만 들어가고, 연결 없는 유저/깨진 메시지는 무시
+        assertThat(dispatcher.receivers).containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("Redis 발행이 실패하면 이 Pod 의 연결로만 전송해야 한다")
+    void onPush_ShouldFallBackToLocalSend_WhenPublishFails() {
+        // Given
+        registry.add(1L, new SseEmitter());
+        NotificationPushPublisher publisher = new NotificationPushPublisher(new FailingRedisTemplate(), registry, objectMapper);
+        ReflectionTestUtils.setField(publisher, "mode", "redis");
+        ReflectionTestUtils.setField(publisher, "channel", CHANNEL);
+
+        // When
+        publisher.onPush(new NotificationPushEvent(1L, "notification", "10", Map.of("id", 10)));
+
+        // Then
+        assertThat(dispatcher.receivers).containsExactly(1L);
+    }
+
+    private DefaultMessage message(NotificationPushMessage push) throws Exception {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(push));
+    }
+
+    // 실제 emitter 로 보내지 않고 대기열에 들어온 수신자만 기록
+    private static class CapturingDispatcher extends SseDispatcher {
+        private final List<Long> receivers = new CopyOnWriteArrayList<>();
+
+        CapturingDispatcher() {
+            super(new SimpleMeterRegistry(), 1, 1, 1);
+        }
+
+        @Override
+        public void enqueue(SseConnection connection, SseEmitter.SseEventBuilder event) {
+            receivers.add(connection.getUserId());
+        }
+    }
+
+    private static class FailingRedisTemplate extends RedisTemplate<String, Object> {
+        @Override
+        public Long convertAndSend(String channel, Object message) {
+            throw new IllegalStateException("redis down");
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package jbnu.jbnupms.domain.task.scheduler;
+
+import jbnu.jbnupms.common.checkpoint.SweepCheckpoint;
+import jbnu.jbnupms.common.checkpoint.SweepCheckpointRepository;
+import jbnu.jbnupms.common.checkpoint.SweepCheckpointService;
+import jbnu.jbnupms.common.lock.KeyRange;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.space.repository.ActivityLogRepository;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class TaskDeadlineSchedulerTest {
+
+    @Autowired
+    private TaskDeadlineScheduler taskDeadlineScheduler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private SweepCheckpointService sweepCheckpointService;
+
+    @Autowired
+    private SweepCheckpointRepository sweepCheckpointRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    @Test
+    @DisplayName("마감 스케줄러는 태스크 수와 무관한 쿼리 수로 기록하고, 같은 날 다시 실행하면 중복 기록하지 않아야 한다")
+    void sweep_ShouldUseBoundedStatementsAndSkipAlreadyLogged() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Space space = spaceRepository.save(Space.builder()
+                .name("Deadline Space")
+                .description("Description")
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Deadline Project")
+                .description("Description")
+                .build());
+        List<User> users = userRepository.saveAll(List.of(saveUser(1), saveUser(2)));
+
+        for (int i = 0; i < 40; i++) {
+            Task task = taskRepository.save(Task.builder()
+                    .project(project)
+                    .creator(users.get(0))
+                    .title("Due Task " + i)
+                    .description("Description")
+                    .priority(TaskPriority.MEDIUM)
+                    .dueDate(today.atTime(18, 0))
+                    .build());
+            users.forEach(user -> taskAssigneeRepository.save(TaskAssignee.builder()
+                    .task(task)
+                    .user(user)
+                    .build()));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        int logged = taskDeadlineScheduler.sweep(today, false, KeyRange.ALL, "test:due:first");
+        em.flush();
+
+        // Then: 체크포인트 조회/생성/갱신 + 태스크 조회 + 중복 확인 + 담당자 조회 + 시퀀스 + 로그 INSERT batch
+        //       + 아웃박스 이벤트 1건 (태스크 수와 무관)
+        assertThat(logged).isEqualTo(40);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(42);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+        assertThat(activityLogRepository.countBySpaceId(space.getId())).isEqualTo(40);
+
+        // 끝난 스윕은 바로 종료, 새 스윕이어도 이미 기록된 태스크는 건너뜀
+        assertThat(taskDeadlineScheduler.sweep(today, false, KeyRange.ALL, "test:due:first")).isZero();
+        assertThat(taskDeadlineScheduler.sweep(today, false, KeyRange.ALL, "test:due:second")).isZero();
+        assertThat(activityLogRepository.countBySpaceId(space.getId())).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("중간에 끊긴 스윕은 체크포인트 다음 태스크부터 청크 단위로 이어서 처리해야 한다")
+    void sweep_ShouldResumeFromCheckpoint() {
+        // Given: 25건 중 앞 10건까지 처리하고 끊긴 상태
+        LocalDate today = LocalDate.now();
+        Space space = spaceRepository.save(Space.builder()
+                .name("Resume Space")
+                .description("Description")
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Resume Project")
+                .description("Description")
+                .build());
+        User user = userRepository.save(saveUser(3));
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            taskIds.add(taskRepository.save(Task.builder()
+                    .project(project)
+                    .creator(user)
+                    .title("Resume Task " + i)
+                    .description("Description")
+                    .priority(TaskPriority.MEDIUM)
+                    .dueDate(today.atTime(9, 0))
+                    .build()).getId());
+        }
+        String checkpointName = "test:resume:" + space.getId();
+        sweepCheckpointService.begin(checkpointName);
+        sweepCheckpointService.advance(checkpointName, taskIds.get(9));
+        ReflectionTestUtils.setField(taskDeadlineScheduler, "chunkSize", 4);
+        em.flush();
+
+        try {
+            // When
+            int logged = taskDeadlineScheduler.sweep(
+                    today, false, new KeyRange(space.getId() - 1, space.getId()), checkpointName);
+
+            // Then
+            assertThat(logged).isEqualTo(15);
+            assertThat(activityLogRepository.countBySpaceId(space.getId())).isEqualTo(15);
+            SweepCheckpoint checkpoint = sweepCheckpointRepository.findById(checkpointName).orElseThrow();
+            assertThat(checkpoint.getLastId()).isEqualTo(taskIds.get(24));
+            assertThat(checkpoint.isCompleted()).isTrue();
+        } finally {
+            ReflectionTestUtils.setField(taskDeadlineScheduler, "chunkSize", 1000);
+        }
+    }
+
+    private User saveUser(int index) {
+        return User.builder()
+                .email("deadline" + index + "@example.com")
+                .password("password")
+                .name("Deadline User " + index)
+                .provider("EMAIL")
+                .build();
+    }
+}
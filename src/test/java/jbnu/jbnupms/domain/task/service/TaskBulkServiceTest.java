@@ -0,0 +1,231 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.entity.ProjectMember;
+import jbnu.jbnupms.domain.project.entity.ProjectRole;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.space.entity.ActionType;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.space.repository.ActivityLogRepository;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
+import jbnu.jbnupms.domain.task.dto.TaskBulkCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkDeleteRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkMoveRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkResponse;
+import jbnu.jbnupms.domain.task.dto.TaskBulkUpdateRequest;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class TaskBulkServiceTest {
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    @Test
+    @DisplayName("일괄 생성/수정/이동/삭제 시 실패 항목은 사유와 함께 건너뛰고 나머지는 한 번에 반영되어야 한다")
+    void bulkOperations_ShouldReportPerItemErrorsAndApplyTheRest() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("bulk@example.com")
+                .password("password")
+                .name("Bulk User")
+                .provider("EMAIL")
+                .build());
+        User outsider = userRepository.save(User.builder()
+                .email("outsider@example.com")
+                .password("password")
+                .name("Outsider")
+                .provider("EMAIL")
+                .build());
+
+        Space space = spaceRepository.save(Space.builder()
+                .name("Bulk Space")
+                .description("Description")
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Bulk Project")
+                .description("Description")
+                .build());
+
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .build());
+
+        // When: 생성 (2번째 항목은 프로젝트 멤버가 아닌 담당자 → 실패)
+        TaskBulkCreateRequest createRequest = new TaskBulkCreateRequest();
+        createRequest.setProjectId(project.getId());
+        List<TaskBulkCreateRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            TaskBulkCreateRequest.Item item = new TaskBulkCreateRequest.Item();
+            item.setTitle("Bulk " + i);
+            item.setAssigneeIds(List.of(i == 1 ? outsider.getId() : user.getId()));
+            item.setManagerIds(List.of(user.getId()));
+            items.add(item);
+        }
+        createRequest.setTasks(items);
+        TaskBulkResponse created = taskBulkService.createTasks(user.getId(), createRequest);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(created.getSuccessCount()).isEqualTo(3);
+        assertThat(created.getFailureCount()).isEqualTo(1);
+        assertThat(created.getResults().get(1).isSuccess()).isFalse();
+        assertThat(created.getResults().get(1).getMessage()).isEqualTo("담당자가 프로젝트 멤버가 아닙니다.");
+        List<Long> taskIds = created.getResults().stream()
+                .filter(TaskBulkResponse.ItemResult::isSuccess)
+                .map(TaskBulkResponse.ItemResult::getTaskId)
+                .toList();
+        assertThat(taskAssigneeRepository.findAllWithUserByTaskIdIn(taskIds)).hasSize(3);
+
+        // When: 첫 태스크 아래로 나머지 두 개 이동 (존재하지 않는 태스크, 자기 자신 아래로의 이동 포함)
+        TaskBulkMoveRequest moveRequest = new TaskBulkMoveRequest();
+        moveRequest.setProjectId(project.getId());
+        List<TaskBulkMoveRequest.Item> moves = new ArrayList<>();
+        for (Long taskId : List.of(taskIds.get(1), taskIds.get(2), -1L)) {
+            TaskBulkMoveRequest.Item move = new TaskBulkMoveRequest.Item();
+            move.setTaskId(taskId);
+            move.setParentId(taskIds.get(0));
+            moves.add(move);
+        }
+        TaskBulkMoveRequest.Item selfMove = new TaskBulkMoveRequest.Item();
+        selfMove.setTaskId(taskIds.get(0));
+        selfMove.setParentId(taskIds.get(0));
+        moves.add(selfMove);
+        moveRequest.setTasks(moves);
+        TaskBulkResponse moved = taskBulkService.moveTasks(user.getId(), moveRequest);
+        em.flush();
+        em.clear();
+
+        assertThat(moved.getSuccessCount()).isEqualTo(2);
+        assertThat(moved.getFailureCount()).isEqualTo(2);
+        assertThat(moved.getResults().get(3).getMessage()).isEqualTo("하위 태스크 아래로 이동할 수 없습니다.");
+        assertThat(taskRepository.findById(taskIds.get(2)).orElseThrow().getPath())
+                .isEqualTo("/" + taskIds.get(0) + "/" + taskIds.get(2) + "/");
+
+        // When: 하위 태스크 두 개 완료 처리
+        TaskBulkUpdateRequest updateRequest = new TaskBulkUpdateRequest();
+        updateRequest.setProjectId(project.getId());
+        List<TaskBulkUpdateRequest.Item> updates = new ArrayList<>();
+        for (Long taskId : List.of(taskIds.get(1), taskIds.get(2))) {
+            TaskBulkUpdateRequest.Item update = new TaskBulkUpdateRequest.Item();
+            update.setTaskId(taskId);
+            update.setStatus(TaskStatus.DONE);
+            updates.add(update);
+        }
+        updateRequest.setTasks(updates);
+        taskBulkService.updateTasks(user.getId(), updateRequest);
+        em.flush();
+        em.clear();
+
+        // Then: 상위 태스크 진행률 롤업 + 완료 활동 로그 일괄 기록
+        assertThat(taskRepository.findById(taskIds.get(0)).orElseThrow().getProgress()).isEqualTo(100.0);
+        assertThat(activityLogRepository.findAll())
+                .filteredOn(log -> log.getActionType() == ActionType.TASK_COMPLETED)
+                .hasSize(2);
+
+        // When: 상위 태스크 삭제 (하위 트리 포함)
+        TaskBulkDeleteRequest deleteRequest = new TaskBulkDeleteRequest();
+        deleteRequest.setProjectId(project.getId());
+        deleteRequest.setTaskIds(List.of(taskIds.get(0)));
+        taskBulkService.deleteTasks(user.getId(), deleteRequest);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(taskRepository.findAllById(taskIds)).isEmpty();
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getProgress()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("일괄 생성은 태스크/담당자 INSERT 와 경로 UPDATE 를 JDBC batch 로 묶어 항목 수와 무관한 문장 수로 처리되어야 한다")
+    void createTasks_ShouldBatchInsertsOnSaveAllPath() {
+        // Given: 담당자 3명씩 100건
+        Space space = spaceRepository.save(Space.builder().name("Batch Space").description("Description").build());
+        Project project = projectRepository.save(Project.builder()
+                .space(space).name("Batch Project").description("Description").build());
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User member = userRepository.save(User.builder()
+                    .email("batch" + i + "@example.com")
+                    .password("password")
+                    .name("Batch User")
+                    .provider("EMAIL")
+                    .build());
+            projectMemberRepository.save(ProjectMember.builder().project(project).user(member).role(ProjectRole.MEMBER).build());
+            memberIds.add(member.getId());
+        }
+        TaskBulkCreateRequest request = new TaskBulkCreateRequest();
+        request.setProjectId(project.getId());
+        List<TaskBulkCreateRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TaskBulkCreateRequest.Item item = new TaskBulkCreateRequest.Item();
+            item.setTitle("Batch " + i);
+            item.setAssigneeIds(memberIds);
+            items.add(item);
+        }
+        request.setTasks(items);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        taskBulkService.createTasks(memberIds.get(0), request);
+        em.flush();
+
+        // Then: 조회 4 + 시퀀스 ~10 + 태스크 INSERT/경로 UPDATE/담당자 INSERT batch + 집계/아웃박스 (행 400개와 무관)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(401);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(25);
+    }
+}
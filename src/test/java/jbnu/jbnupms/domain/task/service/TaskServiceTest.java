@@ -1,31 +1,48 @@
 package jbnu.jbnupms.domain.task.service;
 
+import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.domain.project.entity.Project;
 import jbnu.jbnupms.domain.project.entity.ProjectMember;
 import jbnu.jbnupms.domain.project.entity.ProjectRole;
 import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.common.response.CursorPageResponse;
 import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.space.entity.SpaceMember;
+import jbnu.jbnupms.domain.space.entity.SpaceRole;
+import jbnu.jbnupms.domain.space.repository.SpaceMemberRepository;
 import jbnu.jbnupms.domain.space.repository.SpaceRepository;
+import jbnu.jbnupms.domain.task.dto.MyTaskSummaryDto;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
 import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSummaryDto;
+import jbnu.jbnupms.domain.task.dto.TaskTreePageResponse;
+import jbnu.jbnupms.domain.task.dto.TaskUpdateRequest;
 import jbnu.jbnupms.domain.task.entity.Task;
 import jbnu.jbnupms.domain.task.entity.TaskAssignee;
 import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
 import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -41,6 +58,9 @@ class TaskServiceTest {
     @Autowired
     private SpaceRepository spaceRepository;
 
+    @Autowired
+    private SpaceMemberRepository spaceMemberRepository;
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -130,4 +150,575 @@ class TaskServiceTest {
         assertThat(childResponse.getAssignees()).isNotEmpty();
         assertThat(childResponse.getAssignees().get(0).getId()).isEqualTo(user.getId());
     }
+
+    @Test
+    @DisplayName("깊은 계층의 태스크 조회 시 태스크 수와 무관하게 고정된 쿼리 수로 조회되어야 한다")
+    void getTasks_ShouldLoadDeepTreeInBoundedQueries() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("tree@example.com")
+                .password("password")
+                .name("Tree User")
+                .provider("EMAIL")
+                .build());
+
+        Space space = spaceRepository.save(Space.builder()
+                .name("Tree Space")
+                .description("Description")
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Tree Project")
+                .description("Description")
+                .build());
+
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .build());
+
+        // 깊이 20의 체인 + 각 노드마다 형제 태스크 1개 (총 40개)
+        int depth = 20;
+        Task root = null;
+        Task parent = null;
+        for (int i = 0; i < depth; i++) {
+            Task task = taskRepository.save(Task.builder()
+                    .project(project)
+                    .creator(user)
+                    .parent(parent)
+                    .title("Task " + i)
+                    .priority(TaskPriority.MEDIUM)
+                    .build());
+            if (parent != null) {
+                taskRepository.save(Task.builder()
+                        .project(project)
+                        .creator(user)
+                        .parent(parent)
+                        .title("Sibling " + i)
+                        .priority(TaskPriority.LOW)
+                        .build());
+            }
+            taskAssigneeRepository.save(TaskAssignee.builder()
+                    .task(task)
+                    .user(user)
+                    .build());
+            if (root == null) {
+                root = task;
+            }
+            parent = task;
+        }
+
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        List<TaskResponse> tasks = taskService.getTasks(user.getId(), project.getId());
+
+        // Then: 권한 확인 1회 + 태스크(작성자) 1회 + 담당자(유저) 1회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+
+        assertThat(tasks).hasSize(1);
+        TaskResponse current = tasks.get(0);
+        assertThat(current.getId()).isEqualTo(root.getId());
+        for (int i = 1; i < depth; i++) {
+            assertThat(current.getAssignees()).hasSize(1);
+            assertThat(current.getCreator().getId()).isEqualTo(user.getId());
+            assertThat(current.getChildren()).hasSize(2);
+            current = current.getChildren().get(0);
+            assertThat(current.getTitle()).isEqualTo("Task " + i);
+        }
+        assertThat(current.getChildren()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트리 페이징 조회 시 depth 아래 하위 태스크는 개수만 반환하고 커서로 다음 페이지를 조회할 수 있어야 한다")
+    void getTaskTree_ShouldLimitDepthAndPaginateRoots() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("paging@example.com")
+                .password("password")
+                .name("Paging User")
+                .provider("EMAIL")
+                .build());
+
+        Space space = spaceRepository.save(Space.builder()
+                .name("Paging Space")
+                .description("Description")
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Paging Project")
+                .description("Description")
+                .build());
+
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .build());
+
+        // 최상위 3개, 첫 번째 최상위 아래로 child -> grandChild 2개
+        Task firstRoot = null;
+        for (int i = 0; i < 3; i++) {
+            Task root = taskRepository.save(Task.builder()
+                    .project(project)
+                    .creator(user)
+                    .title("Root " + i)
+                    .build());
+            if (firstRoot == null) {
+                firstRoot = root;
+            }
+        }
+        Task child = taskRepository.save(Task.builder()
+                .project(project)
+                .creator(user)
+                .parent(firstRoot)
+                .title("Child")
+                .build());
+        for (int i = 0; i < 2; i++) {
+            taskRepository.save(Task.builder()
+                    .project(project)
+                    .creator(user)
+                    .parent(child)
+                    .title("GrandChild " + i)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+
+        // When
+        TaskTreePageResponse firstPage = taskService.getTaskTree(user.getId(), project.getId(), null, 2, 1);
+        TaskTreePageResponse secondPage = taskService.getTaskTree(
+                user.getId(), project.getId(), firstPage.getNextCursor(), 2, 1);
+        TaskResponse subtree = taskService.getSubtree(user.getId(), child.getId(), 1);
+
+        // Then
+        assertThat(firstPage.getTasks()).hasSize(2);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getTasks()).hasSize(1);
+        assertThat(secondPage.isHasNext()).isFalse();
+
+        TaskResponse rootResponse = firstPage.getTasks().get(0);
+        assertThat(rootResponse.getChildCount()).isEqualTo(1L);
+        TaskResponse childResponse = rootResponse.getChildren().get(0);
+        assertThat(childResponse.getChildren()).isNull();
+        assertThat(childResponse.getChildCount()).isEqualTo(2L);
+
+        assertThat(subtree.getChildren()).hasSize(2);
+        assertThat(subtree.getChildren().get(0).getChildren()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태스크 이동/삭제 시 경로 기준으로 하위 트리 전체가 함께 처리되어야 한다")
+    void moveAndDeleteTask_ShouldApplyToWholeSubtreeByPath() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("path@example.com")
+                .password("password")
+                .name("Path User")
+                .provider("EMAIL")
+                .build());
+
+        Space space = spaceRepository.save(Space.builder()
+                .name("Path Space")
+                .description("Description")
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Path Project")
+                .description("Description")
+                .build());
+
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .build());
+
+        Long rootA = taskService.createTask(user.getId(), createRequest(project.getId(), null, "Root A", user.getId()));
+        Long rootB = taskService.createTask(user.getId(), createRequest(project.getId(), null, "Root B", user.getId()));
+        Long child = taskService.createTask(user.getId(), createRequest(project.getId(), rootA, "Child", user.getId()));
+        Long grandChild = taskService.createTask(user.getId(), createRequest(project.getId(), child, "GrandChild", user.getId()));
+
+        em.flush();
+        em.clear();
+
+        // When: Child 하위 트리를 Root B 아래로 이동
+        taskService.moveTask(user.getId(), child, rootB);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(taskRepository.findById(grandChild).orElseThrow().getPath())
+                .isEqualTo("/" + rootB + "/" + child + "/" + grandChild + "/");
+        assertThat(taskRepository.findSubtreeWithCreator("/" + rootB + "/")).hasSize(3);
+        assertThat(taskRepository.findSubtreeWithCreator("/" + rootA + "/")).hasSize(1);
+
+        // When: Root B 삭제 시 하위 트리 전체 삭제
+        taskService.deleteTask(user.getId(), rootB);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(taskRepository.findById(child)).isEmpty();
+        assertThat(taskRepository.findById(grandChild)).isEmpty();
+        assertThat(taskRepository.findById(rootA)).isPresent();
+
+        // 경로가 아직 없는(재색인 전) 태스크도 부모 체인으로 자기 하위로의 이동을 막아야 함
+        Long childA = taskService.createTask(user.getId(), createRequest(project.getId(), rootA, "Child A", user.getId()));
+        em.flush();
+        em.createNativeQuery("UPDATE tasks SET path = NULL WHERE id IN (:ids)")
+                .setParameter("ids", List.of(rootA, childA))
+                .executeUpdate();
+        em.clear();
+        assertThatThrownBy(() -> taskService.moveTask(user.getId(), rootA, childA))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> taskService.moveTask(user.getId(), rootA, rootA))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("하위 태스크의 상태/진행률이 바뀌면 상위 태스크와 프로젝트 진행률이 갱신되어야 한다")
+    void updateTask_ShouldRollUpProgressToAncestorsAndProject() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("rollup@example.com")
+                .password("password")
+                .name("Rollup User")
+                .provider("EMAIL")
+                .build());
+
+        Space space = spaceRepository.save(Space.builder()
+                .name("Rollup Space")
+                .description("Description")
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Rollup Project")
+                .description("Description")
+                .build());
+
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .build());
+
+        Long root = taskService.createTask(user.getId(), createRequest(project.getId(), null, "Root", user.getId()));
+        Long child1 = taskService.createTask(user.getId(), createRequest(project.getId(), root, "Child 1", user.getId()));
+        Long child2 = taskService.createTask(user.getId(), createRequest(project.getId(), root, "Child 2", user.getId()));
+
+        // When
+        TaskUpdateRequest progressRequest = new TaskUpdateRequest();
+        progressRequest.setProgress(50.0);
+        taskService.updateTask(user.getId(), child1, progressRequest);
+
+        TaskUpdateRequest doneRequest = new TaskUpdateRequest();
+        doneRequest.setStatus(TaskStatus.DONE);
+        taskService.updateTask(user.getId(), child2, doneRequest);
+
+        em.flush();
+        em.clear();
+
+        // Then: (50 + 100) / 2
+        assertThat(taskRepository.findById(root).orElseThrow().getProgress()).isEqualTo(75.0);
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getProgress()).isEqualTo(75.0);
+
+        // When: 하위 태스크 삭제 시에도 재계산
+        taskService.deleteTask(user.getId(), child2);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(taskRepository.findById(root).orElseThrow().getProgress()).isEqualTo(50.0);
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getProgress()).isEqualTo(50.0);
+
+        // When: 마지막 하위 태스크까지 삭제
+        taskService.deleteTask(user.getId(), child1);
+        em.flush();
+        em.clear();
+
+        // Then: 평균을 낼 하위 태스크가 없으면 0 으로 덮어쓰지 않고 상위 태스크 진행률 유지
+        assertThat(taskRepository.findById(root).orElseThrow().getProgress()).isEqualTo(50.0);
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getProgress()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("내 작업 커서 조회 시 마감일 순(마감일 없는 작업은 마지막)으로 중복 없이 모든 페이지를 순회해야 한다")
+    void getMyTasksByCursor_ShouldTraverseAllPagesInDueDateOrder() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("cursor@example.com")
+                .password("password")
+                .name("Cursor User")
+                .provider("EMAIL")
+                .build());
+
+        Space space = spaceRepository.save(Space.builder()
+                .name("Cursor Space")
+                .description("Description")
+                .build());
+
+        spaceMemberRepository.save(SpaceMember.builder()
+                .space(space)
+                .user(user)
+                .role(SpaceRole.MEMBER)
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Cursor Project")
+                .description("Description")
+                .build());
+
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .build());
+
+        // 같은 마감일 2건 + 마감일 없는 2건 포함
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        LocalDateTime[] dueDates = {base.plusDays(2), base, null, base.plusDays(1), base, null};
+        for (int i = 0; i < dueDates.length; i++) {
+            TaskCreateRequest request = createRequest(project.getId(), null, "Task " + i, user.getId());
+            request.setDueDate(dueDates[i]);
+            taskService.createTask(user.getId(), request);
+        }
+        em.flush();
+        em.clear();
+
+        // When
+        List<TaskSummaryDto> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        CursorPageResponse<TaskSummaryDto> page;
+        do {
+            page = taskService.getMyTasksByCursor(user.getId(), space.getId(), null, null, null, "ALL", cursor, 4, pages == 0);
+            if (pages == 0) {
+                assertThat(page.getTotalCount()).isEqualTo(6L);
+            } else {
+                assertThat(page.getTotalCount()).isNull();
+            }
+            all.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (page.isHasNext());
+
+        // Then
+        assertThat(pages).isEqualTo(2);
+        assertThat(all).extracting(TaskSummaryDto::getTitle).doesNotHaveDuplicates().hasSize(6);
+        assertThat(all).extracting(TaskSummaryDto::getDueDate)
+                .containsExactly(base, base, base.plusDays(1), base.plusDays(2), null, null);
+    }
+
+    @Test
+    @DisplayName("내 작업 조회 시 지정한 프로젝트/상태/우선순위 필터만 조합되어 적용되어야 한다")
+    void getMyTasks_ShouldApplyOnlyGivenFilters() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("filter@example.com")
+                .password("password")
+                .name("Filter User")
+                .provider("EMAIL")
+                .build());
+
+        Space space = spaceRepository.save(Space.builder()
+                .name("Filter Space")
+                .description("Description")
+                .build());
+
+        spaceMemberRepository.save(SpaceMember.builder()
+                .space(space)
+                .user(user)
+                .role(SpaceRole.MEMBER)
+                .build());
+
+        Project projectA = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Project A")
+                .description("Description")
+                .build());
+        Project projectB = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Project B")
+                .description("Description")
+                .build());
+
+        for (Project project : List.of(projectA, projectB)) {
+            projectMemberRepository.save(ProjectMember.builder()
+                    .project(project)
+                    .user(user)
+                    .role(ProjectRole.MEMBER)
+                    .build());
+            for (TaskPriority priority : List.of(TaskPriority.HIGH, TaskPriority.LOW)) {
+                TaskCreateRequest request = createRequest(project.getId(), null,
+                        project.getName() + " " + priority, user.getId());
+                request.setPriority(priority);
+                taskService.createTask(user.getId(), request);
+            }
+        }
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 20);
+
+        // When & Then
+        assertThat(taskService.getMyTasks(user.getId(), space.getId(), null, null, null, "ALL", pageable)
+                .getTotalElements()).isEqualTo(4);
+        assertThat(taskService.getMyTasks(user.getId(), space.getId(), projectA.getId(), null, null, "ALL", pageable)
+                .getContent()).extracting(TaskSummaryDto::getProjectId).containsOnly(projectA.getId());
+        assertThat(taskService.getMyTasks(user.getId(), space.getId(), projectB.getId(), null, TaskPriority.HIGH, "ALL", pageable)
+                .getContent()).extracting(TaskSummaryDto::getTitle).containsExactly("Project B HIGH");
+        assertThat(taskService.getMyTasks(user.getId(), space.getId(), null, TaskStatus.DONE, null, "ALL", pageable)
+                .getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("담당자가 많은 태스크 생성 시 담당자 INSERT 가 JDBC batch 로 묶여 담당자 수와 무관한 쿼리 수로 처리되어야 한다")
+    void createTask_ShouldBatchAssigneeInserts() {
+        // Given
+        Space space = spaceRepository.save(Space.builder()
+                .name("Batch Space")
+                .description("Description")
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Batch Project")
+                .description("Description")
+                .build());
+
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            User member = userRepository.save(User.builder()
+                    .email("batch" + i + "@example.com")
+                    .password("password")
+                    .name("Batch User " + i)
+                    .provider("EMAIL")
+                    .build());
+            projectMemberRepository.save(ProjectMember.builder()
+                    .project(project)
+                    .user(member)
+                    .role(ProjectRole.MEMBER)
+                    .build());
+            memberIds.add(member.getId());
+        }
+        em.flush();
+        em.clear();
+
+        TaskCreateRequest request = createRequest(project.getId(), null, "Batch Task", memberIds.get(0));
+        request.setAssigneeIds(memberIds);
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        Long taskId = taskService.createTask(memberIds.get(0), request);
+        em.flush();
+
+        // Then: 32건 INSERT (태스크 1 + 담당자 30 + 배정 알림 아웃박스 1) 지만 PreparedStatement 는 담당자 수와 무관
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(32);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+        assertThat(taskAssigneeRepository.findByTaskId(taskId)).hasSize(30);
+    }
+
+    @Test
+    @DisplayName("내 작업 요약은 해당 스페이스에서 내가 담당한 작업만 상태/지연 여부별로 집계해야 한다")
+    void getMyTaskSummary_ShouldAggregateOnlyMyTasksInSpace() {
+        // Given
+        User user = userRepository.save(User.builder()
+                .email("summary@example.com")
+                .password("password")
+                .name("Summary User")
+                .provider("EMAIL")
+                .build());
+        User other = userRepository.save(User.builder()
+                .email("summary-other@example.com")
+                .password("password")
+                .name("Summary Other")
+                .provider("EMAIL")
+                .build());
+
+        Space space = spaceRepository.save(Space.builder()
+                .name("Summary Space")
+                .description("Description")
+                .build());
+        Space otherSpace = spaceRepository.save(Space.builder()
+                .name("Other Space")
+                .description("Description")
+                .build());
+        spaceMemberRepository.save(SpaceMember.builder()
+                .space(space)
+                .user(user)
+                .role(SpaceRole.MEMBER)
+                .build());
+
+        Project project = projectRepository.save(Project.builder()
+                .space(space)
+                .name("Summary Project")
+                .description("Description")
+                .build());
+        Project otherProject = projectRepository.save(Project.builder()
+                .space(otherSpace)
+                .name("Other Project")
+                .description("Description")
+                .build());
+
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+        LocalDateTime nextWeek = LocalDateTime.now().plusDays(7);
+        saveAssignedTask(project, user, TaskStatus.IN_PROGRESS, nextWeek);
+        saveAssignedTask(project, user, TaskStatus.IN_PROGRESS, yesterday);  // 진행 중 + 지연
+        saveAssignedTask(project, user, TaskStatus.DONE, yesterday);         // 완료는 지연 아님
+        saveAssignedTask(project, user, TaskStatus.NOT_STARTED, yesterday);  // 지연
+        saveAssignedTask(project, user, TaskStatus.NOT_STARTED, null);
+        saveAssignedTask(project, other, TaskStatus.IN_PROGRESS, yesterday); // 다른 유저 담당
+        saveAssignedTask(otherProject, user, TaskStatus.DONE, nextWeek);     // 다른 스페이스
+
+        // When
+        MyTaskSummaryDto summary = taskService.getMyTaskSummary(user.getId(), space.getId());
+
+        // Then
+        assertThat(summary.getTotalCount()).isEqualTo(5);
+        assertThat(summary.getInProgressCount()).isEqualTo(2);
+        assertThat(summary.getDoneCount()).isEqualTo(1);
+        assertThat(summary.getDelayedCount()).isEqualTo(2);
+    }
+
+    private void saveAssignedTask(Project project, User assignee, TaskStatus status, LocalDateTime dueDate) {
+        Task task = Task.builder()
+                .project(project)
+                .creator(assignee)
+                .title("Summary Task")
+                .description("Description")
+                .priority(TaskPriority.MEDIUM)
+                .dueDate(dueDate)
+                .build();
+        task.update(task.getTitle(), task.getDescription(), status, task.getPriority(), dueDate, null);
+        taskRepository.save(task);
+        taskAssigneeRepository.save(TaskAssignee.builder()
+                .task(task)
+                .user(assignee)
+                .build());
+    }
+
+    private TaskCreateRequest createRequest(Long projectId, Long parentId, String title, Long assigneeId) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setProjectId(projectId);
+        request.setParentId(parentId);
+        request.setTitle(title);
+        request.setAssigneeIds(List.of(assigneeId));
+        return request;
+    }
 }